@@ -0,0 +1,9 @@
+a = 'abc'
+b = 'abd'
+i = 0
+while i < 1000000
+  a < b
+  a >= b
+  a.between?(a, b)
+  i += 1
+end
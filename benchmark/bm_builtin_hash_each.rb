@@ -0,0 +1,4 @@
+h = {}
+1000.times {|i| h[i] = i}
+sum = 0
+2000.times { h.each {|k, v| sum += v} }
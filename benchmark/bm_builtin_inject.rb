@@ -0,0 +1,2 @@
+a = (1..1000).to_a
+2000.times { a.inject {|s, x| s + x} }
@@ -0,0 +1,6 @@
+a = (1..1000).to_a
+i = 0
+while i < 2000
+  a.join(',')
+  i += 1
+end
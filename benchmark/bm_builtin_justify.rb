@@ -0,0 +1,7 @@
+i = 0
+while i < 500000
+  'abc'.rjust(10)
+  'abc'.ljust(10, '.')
+  'abc'.center(11, '*')
+  i += 1
+end
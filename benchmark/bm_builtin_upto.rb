@@ -0,0 +1,3 @@
+sum = 0
+1.upto(3000000) {|i| sum += i}
+3000000.downto(1) {|i| sum -= i}
@@ -0,0 +1,11 @@
+keys = ['server.hostname', 'server.port', 'database.username', 'database.password', 'client.timeout', 'missing.key']
+i = 0
+sum = 0
+while i < 100000
+  h = {'server.hostname' => 'localhost', 'server.port' => i, 'database.username' => 'me', :verbose => true}
+  h['database.password'] = 'x'
+  h['client.timeout'] = 30
+  keys.each {|k| sum += 1 if h[k]}
+  keys.each {|k| sum += 1 if h.has_key?(k)}
+  i += 1
+end
@@ -0,0 +1,24 @@
+# reads wc.input (see run.rb) line by line, then in paragraphs
+wcinput = File.join(File.dirname($0), 'wc.input')
+unless FileTest.exist?(wcinput)
+  data = File.read(File.join(File.dirname($0), 'wc.input.base'))
+  13.times{
+    data << data
+  }
+  open(wcinput, 'w'){|f| f.write data}
+end
+
+nl = nc = 0
+input = open(wcinput, 'rb')
+while line = input.gets
+  nl += 1
+  nc += line.length
+end
+input.close
+
+np = 0
+input = open(wcinput, 'rb')
+while input.gets('')
+  np += 1
+end
+input.close
@@ -0,0 +1,18 @@
+# File.read and IO.foreach over wc.input (see run.rb)
+wcinput = File.join(File.dirname($0), 'wc.input')
+unless FileTest.exist?(wcinput)
+  data = File.read(File.join(File.dirname($0), 'wc.input.base'))
+  13.times{
+    data << data
+  }
+  open(wcinput, 'w'){|f| f.write data}
+end
+
+i = 0
+while i < 10
+  File.read(wcinput).length
+  i += 1
+end
+
+$nc = 0
+IO.foreach(wcinput) {|line| $nc += line.length}
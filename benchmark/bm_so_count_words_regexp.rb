@@ -0,0 +1,14 @@
+# Word count of wc.input (see run.rb) with regexps, to compare the regexp
+# engines (-Dxruby.regexp_engine=java or oro), see regexp_engines.rb
+
+input = open(File.join(File.dirname($0), 'wc.input'), 'rb')
+
+nl = nw = nc = 0
+while line = input.gets
+  nc += line.length
+  nl += 1
+  nw += line.scan(/\S+/).size
+  line.gsub(/[aeiou]/, '*') if line =~ /^\s*\w/
+end
+input.close
+puts "#{nl} #{nw} #{nc}"
@@ -0,0 +1,4 @@
+# Startup time: does (almost) nothing, so the time measured by run.rb is the
+# time it takes to start the runtime (builtin classes, builtin.rb) and to
+# compile this file.
+print 1, "\n"
@@ -0,0 +1,9 @@
+text = 'lorem ipsum dolor sit amet ' * 400
+words = {}
+i = 0
+while i < 200000
+  copy = text.dup
+  copy.length
+  words[text] = i
+  i += 1
+end
@@ -0,0 +1,10 @@
+STUFF = "hello\n"
+i = 0
+while i < 10
+  i += 1
+  hello = ''
+  20000.times do |e|
+    hello = hello + STUFF
+  end
+  hello.length
+end
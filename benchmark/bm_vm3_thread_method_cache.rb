@@ -0,0 +1,50 @@
+# Stress test for the method caches under native threads.
+#
+# Several threads call the same methods on receivers of different classes,
+# while another thread keeps defining methods, which invalidates the caches
+# of these classes over and over. Every call has to reach the method of its
+# receiver's class, so the number of errors printed at the end must be 0.
+#
+# usage: bm_vm3_thread_method_cache.rb [threads] [iterations per thread]
+# Run it with a growing number of threads to see how dispatch scales.
+
+class CacheStress0; def value; 0; end; end
+class CacheStress1; def value; 1; end; end
+class CacheStress2; def value; 2; end; end
+class CacheStress3 < CacheStress2; def value; 3; end; end
+
+thread_count = (ARGV[0] || 4).to_i
+iterations = (ARGV[1] || 1000000).to_i
+
+objects = [CacheStress0.new, CacheStress1.new, CacheStress2.new, CacheStress3.new]
+errors = Array.new(thread_count, 0)
+
+start_time = Time.now.to_f
+
+threads = []
+thread_count.times do |t|
+  threads << Thread.new(t) do |n|
+    i = 0
+    while i < iterations
+      k = i % 4
+      errors[n] += 1 if objects[k].value != k
+      i += 1
+    end
+  end
+end
+
+definer = Thread.new do
+  (iterations / 100).times do
+    class CacheStress2; def unrelated; end; end
+    class CacheStress0; def unrelated; end; end
+  end
+end
+
+threads.each {|t| t.join}
+definer.join
+
+elapsed = Time.now.to_f - start_time
+total = 0
+errors.each {|e| total += e}
+print "threads: ", thread_count, " calls: ", thread_count * iterations,
+  " errors: ", total, " time: ", elapsed, "\n"
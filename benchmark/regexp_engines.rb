@@ -0,0 +1,53 @@
+# Compares the regexp engines of XRuby (-Dxruby.regexp_engine=java or oro)
+# usage: ruby regexp_engines.rb [benchmark files]
+# Runs the classes of 'ant builtin' (build/ and builtin.jar) instead of the
+# jar of 'ant dist', the classes renamed by jarjar fail to verify.
+
+def prepare_wc_input
+  wcinput = File.join(File.dirname($0), 'wc.input')
+  wcbase  = File.join(File.dirname($0), 'wc.input.base')
+  unless FileTest.exist?(wcinput)
+    data = File.read(wcbase)
+    13.times{
+      data << data
+    }
+    open(wcinput, 'w'){|f| f.write data}
+  end
+end
+
+prepare_wc_input
+
+root = File.join(File.dirname(__FILE__), '..')
+XRUBY_CLASSPATH = ['build', 'builtin.jar',
+  'lib/antlr/antlr-2.7.6.jar',
+  'lib/asm/asm-all-3.0.jar',
+  'lib/commons-cli/commons-cli-1.0.jar',
+  'lib/jakarta-oro/jakarta-oro-2.0.8.jar'].map {|f| File.join(root, f)}.join(File::PATH_SEPARATOR)
+
+def run_command command
+  begin
+    start_time = Time.new.to_f
+    `#{command}`
+    end_time = Time.now.to_f
+    if $?.success?
+      print end_time - start_time
+    else
+      print 'fail'
+    end
+  rescue Exception
+    print 'fail'
+  end
+end
+
+files = ARGV.empty? ? ['bm_vm2_regexp.rb', 'bm_so_count_words_regexp.rb'] : ARGV
+
+puts "Test\t\tjava\t\toro"
+files.each {|file|
+  file = File.join(File.dirname(__FILE__), file)
+  print file
+  ['java', 'oro'].each {|engine|
+    print "\t"
+    run_command "java -Dxruby.regexp_engine=#{engine} -cp #{XRUBY_CLASSPATH} com.xruby.Main #{file}"
+  }
+  print "\n"
+}
@@ -29,22 +29,17 @@ def run_command command
 end
 
 def bm file
-  if file =~ /app_answer/ ||
-    file =~ /app_factorial/ ||
-    file =~ /so_ackermann/
-    print file, "\tfail\tfail\n"
-  else
-    print file, "\t"
-    run_command "ruby #{file}"
-    print "\t"
-    run_command "java -jar xruby-0.3.3.jar #{file}"
-    print "\n"
-  end
+  print file, "\t"
+  run_command "ruby #{file}"
+  print "\t"
+  run_command "java -jar xruby-0.3.3.jar #{file}"
+  print "\n"
 end
 
 puts "Test\t\tRuby\t\tXRuby"
 
-#bm_app_answer.rb, bm_app_factorial.rb, , bm_so_ackermann.rb will cause stack overflow
+#deeply recursive ones (bm_app_answer.rb, bm_app_factorial.rb, bm_so_ackermann.rb) need
+#a large stack, xruby runs the program on a thread with -Dxruby.stack_size (64m by default)
   if ARGV.empty?
     Dir.glob(File.dirname(__FILE__) + '/bm_*.rb').sort.each{|file|
       bm file
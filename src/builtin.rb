@@ -126,17 +126,6 @@ class Array
         self
     end
 
-    def join(sepString="")
-        return to_s if sepString.nil? || sepString == ""
-
-        result = ""
-        (length - 1).times do |index|
-            result += (self[index].to_s) + sepString
-        end
-        result += self[length - 1].to_s if length != 0
-        result
-    end
-
     #alias join to_s
     alias to_ary to_a
     alias size length
@@ -271,27 +260,10 @@ class Array
 end
 
 class Hash
-    def each
-        ks = keys
-        ks.each {|k| yield([k, self[k]])}
-    end
-    
-    def each_key
-        ks = keys
-        ks.each {|k| yield(k)}
-    end
-      
-    def each_value
-        vs = values
-        vs.each {|k| yield(k)}
-    end
-    
     def empty?
         length == 0
     end
     
-    alias each_pair each
-    
     def inspect
       r = '{'
       is_first = true
@@ -404,6 +376,7 @@ class String
             end
             return nil
         end
+        nil
     end
 
     def succ!
@@ -521,72 +494,10 @@ class String
         self
     end
 
-	#from rubinius
-    # justify left = -1, center = 0, right = 1
-    def justify_string(width, str, justify)
-        return self if width <= length
-        pad = width - length
-        out = str.to_str * (pad / str.length)
-        out << str[0, pad - out.length] if out.length < pad
-        # Left justification
-        return self << out if justify == -1
-        # Right justification
-        return out << self if justify == 1
-        # and finially center
-        split = (width / 2) - (length / 2)
-        return out.insert(split-((width-length)%2), self)
-    end
-
-	#from rubinius
-    def rjust(width, str=" ")
-        justify_string(width, str, 1)
-    end
-	
-	#from rubinius
-    def ljust(width, str=" ")
-        justify_string(width, str, -1)
-    end
-
-	#from rubinius
-    def center(width, str=" ")
-        justify_string(width, str, 0)
-    end
-
     alias to_str to_s
     alias size length
 end
 
-module Comparable
-    def >=(value)
-        compare = (self <=> value)
-        return compare != -1 and compare != nil
-    end
-
-    def ==(value)
-        compare = (self <=> value)
-        return compare == 0
-    end
-
-    def <=(value)
-        compare = (self <=> value)
-        return compare != 1 and compare != nil
-    end
-
-    def >(value)
-        compare = (self <=> value)
-        return compare == 1
-    end
-
-    def <(value)
-        compare = (self <=> value)
-        return compare == -1
-    end
-
-    def between?(a, b)
-        self >= a && self <= b
-    end
-end
-
 class Numeric
     include Comparable
 
@@ -659,22 +570,6 @@ class Integer < Numeric
         true
     end
 
-    def upto(to)
-        a = self
-        while a <= to
-            yield a
-            a += 1
-        end
-    end
-
-    def downto(to)
-        a = self
-        while a >= to
-            yield a
-            a -= 1
-        end
-    end
-
     def size
         4
     end
@@ -969,9 +864,16 @@ module Enumerable
     
     def inject(*args)
         if args.size == 0 then
-            vals = to_a
-            memo = vals[0]
-            vals[1..vals.size-1].each {|obj| memo = yield(memo, obj)}
+            first = true
+            memo = nil
+            each do |obj|
+                if first
+                    first = false
+                    memo = obj
+                else
+                    memo = yield(memo, obj)
+                end
+            end
             return memo
         elsif args.size == 1 then
             memo = args[0]
@@ -1052,7 +954,9 @@ module Enumerable
 end
 
 class Regexp
+    IGNORECASE = 1
     EXTENDED = 2
+    MULTILINE = 4
     
     def ==(other)
         return false unless Regexp === other
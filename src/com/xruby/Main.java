@@ -150,9 +150,68 @@ public class Main {
     	}
     }
     
+    private static final String DEFAULT_STACK_SIZE = "64m";
+
+    /**
+     * Stack size of the thread which runs the program, e.g. -Dxruby.stack_size=256m.
+     * Every ruby method call takes a few java frames, so deeply recursive ruby
+     * code (e.g. ackermann) needs a much larger stack than java's default. 0
+     * runs the program directly on the main thread. An invalid value is
+     * reported and the default is used.
+     */
+    private static long getStackSize() {
+    	String value = System.getProperty("xruby.stack_size", DEFAULT_STACK_SIZE);
+    	try {
+    		return parseStackSize(value);
+    	} catch (NumberFormatException e) {
+    		System.err.println("warning: invalid xruby.stack_size '" + value + "', using " + DEFAULT_STACK_SIZE);
+    		return parseStackSize(DEFAULT_STACK_SIZE);
+    	}
+    }
+
+    private static long parseStackSize(String value) {
+    	String s = value.trim().toLowerCase();
+    	long unit = 1;
+    	if (s.endsWith("k")) {
+    		unit = 1024;
+    	} else if (s.endsWith("m")) {
+    		unit = 1024 * 1024;
+    	} else if (s.endsWith("g")) {
+    		unit = 1024 * 1024 * 1024;
+    	}
+    	if (unit != 1) {
+    		s = s.substring(0, s.length() - 1);
+    	}
+    	return Long.parseLong(s) * unit;
+    }
+
     public static void main(String[] args) throws Exception {
     	CommandLineOptions options = new CommandLineOptions(args);
-    	Main xruby = new Main(options);
-    	xruby.run();
+    	final Main xruby = new Main(options);
+
+    	long stack_size = getStackSize();
+    	if (stack_size <= 0) {
+    		xruby.run();
+    		return;
+    	}
+
+    	final Throwable[] error = new Throwable[1];
+    	Thread t = new Thread(null, new Runnable() {
+    		public void run() {
+    			try {
+    				xruby.run();
+    			} catch (Throwable e) {
+    				error[0] = e;
+    			}
+    		}
+    	}, "main", stack_size);
+    	t.start();
+    	t.join();
+
+    	if (error[0] instanceof Exception) {
+    		throw (Exception)error[0];
+    	} else if (error[0] instanceof Error) {
+    		throw (Error)error[0];
+    	}
     }
 }
@@ -0,0 +1,218 @@
+/**
+ * Copyright 2005-2007 Xue Yong Zhi
+ * Distributed under the Apache License
+ */
+
+package com.xruby.compiler;
+
+import com.xruby.compiler.codegen.CompilationResults;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/**
+ * Persistent cache of compiled .rb files (like python's .pyc files), used
+ * when a file is loaded with Kernel#load or require (load_rb_file in
+ * builtin.rb). Set -Dxruby.compile_cache_dir to a directory to turn it on.
+ *
+ * Every entry holds the classes of one file, and is valid as long as the
+ * path, modification time and size of the file, the text which was compiled
+ * and the build of xruby (see getBuildFingerprint) are the same. Anything that
+ * goes wrong while reading or writing the cache, or loading the classes, just
+ * means the file gets compiled again.
+ */
+public class CompiledFileCache {
+    private static final int FORMAT_VERSION = 3;
+    private static final String SUFFIX = ".xrc";
+
+    private static File dir_ = getDefaultDirectory();
+    private static String fingerprint_ = null;
+
+    private static File getDefaultDirectory() {
+        String dir = System.getProperty("xruby.compile_cache_dir");
+        return (null == dir) ? null : new File(dir);
+    }
+
+    /**
+     * @param dir null turns the cache off
+     */
+    public static void setDirectory(File dir) {
+        dir_ = dir;
+    }
+
+    public static boolean isEnabled() {
+        return null != dir_;
+    }
+
+    /**
+     * Cached classes only work with the build of xruby which compiled them:
+     * they call into the runtime and depend on the code generator, whether or
+     * not RubyCompiler.VERSION changed. The fingerprint is a CRC of the jar (or
+     * the class files) this class was loaded from.
+     *
+     * @return null if it can not be computed, nothing is cached then
+     */
+    static synchronized String getBuildFingerprint() {
+        if (null == fingerprint_) {
+            try {
+                File location = new File(CompiledFileCache.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+                CRC32 crc = new CRC32();
+                updateFingerprint(crc, location);
+                fingerprint_ = Long.toHexString(crc.getValue());
+            } catch (Exception e) {
+                fingerprint_ = "";
+            }
+        }
+        return (fingerprint_.length() > 0) ? fingerprint_ : null;
+    }
+
+    private static void updateFingerprint(CRC32 crc, File file) throws IOException {
+        if (file.isDirectory()) {
+            String[] names = file.list();
+            Arrays.sort(names);
+            for (String name : names) {
+                File f = new File(file, name);
+                if (f.isDirectory() || name.endsWith(".class")) {
+                    crc.update(name.getBytes("UTF-8"));
+                    updateFingerprint(crc, f);
+                }
+            }
+            return;
+        }
+
+        InputStream in = new FileInputStream(file);
+        try {
+            byte[] buffer = new byte[8192];
+            int n;
+            while ((n = in.read(buffer)) > 0) {
+                crc.update(buffer, 0, n);
+            }
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Loads and links the classes of the entry for the file.
+     *
+     * @return class of the RubyProgram, null if there is no valid entry or its
+     * classes do not link against this runtime
+     */
+    public static Class<?> load(String filename, String text) {
+        return link(get(filename, text));
+    }
+
+    /**
+     * @param results null or classes returned by get
+     * @return class of the RubyProgram, null if results is null or its
+     * classes do not link against this runtime
+     */
+    public static Class<?> link(CompilationResults results) {
+        if (null == results) {
+            return null;
+        }
+
+        try {
+            return results.linkRubyProgramClass();
+        } catch (LinkageError e) {
+            return null;
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return null if there is no valid entry for the file
+     */
+    public static CompilationResults get(String filename, String text) {
+        File source = new File(filename);
+        File entry = getEntry(source);
+        String fingerprint = getBuildFingerprint();
+        if (null == entry || !entry.isFile() || null == fingerprint) {
+            return null;
+        }
+
+        DataInputStream in = null;
+        try {
+            in = new DataInputStream(new BufferedInputStream(new FileInputStream(entry)));
+            if (in.readInt() != FORMAT_VERSION ||
+                !in.readUTF().equals(fingerprint) ||
+                !in.readUTF().equals(source.getAbsolutePath()) ||
+                in.readLong() != source.lastModified() ||
+                in.readLong() != source.length() ||
+                in.readInt() != text.hashCode() ||
+                in.readInt() != text.length()) {
+                return null;
+            }
+            return CompilationResults.read(in);
+        } catch (IOException e) {
+            return null;
+        } finally {
+            close(in);
+        }
+    }
+
+    public static void put(String filename, String text, CompilationResults results) {
+        File source = new File(filename);
+        File entry = getEntry(source);
+        String fingerprint = getBuildFingerprint();
+        if (null == entry || !source.isFile() || null == fingerprint) {
+            return;
+        }
+
+        dir_.mkdirs();
+        //write to a temporary file first, so that other processes never see a partial entry
+        File tmp = new File(entry.getPath() + "." + System.nanoTime() + ".tmp");
+        DataOutputStream out = null;
+        try {
+            out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)));
+            out.writeInt(FORMAT_VERSION);
+            out.writeUTF(fingerprint);
+            out.writeUTF(source.getAbsolutePath());
+            out.writeLong(source.lastModified());
+            out.writeLong(source.length());
+            out.writeInt(text.hashCode());
+            out.writeInt(text.length());
+            results.write(out);
+            out.close();
+            out = null;
+
+            entry.delete();
+            if (!tmp.renameTo(entry)) {
+                tmp.delete();
+            }
+        } catch (IOException e) {
+            close(out);
+            tmp.delete();
+        }
+    }
+
+    private static File getEntry(File source) {
+        if (null == dir_) {
+            return null;
+        }
+
+        //the hash makes the name unique, the file name makes it readable
+        String path = source.getAbsolutePath();
+        return new File(dir_, source.getName() + "." + Integer.toHexString(path.hashCode()) + SUFFIX);
+    }
+
+    private static void close(java.io.Closeable c) {
+        if (null != c) {
+            try {
+                c.close();
+            } catch (IOException e) {
+                //do nothing
+            }
+        }
+    }
+}
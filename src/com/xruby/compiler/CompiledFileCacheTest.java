@@ -0,0 +1,117 @@
+/**
+ * Copyright 2005-2007 Xue Yong Zhi
+ * Distributed under the Apache License
+ */
+
+package com.xruby.compiler;
+
+import com.xruby.compiler.codegen.CompilationResults;
+import com.xruby.runtime.lang.RubyProgram;
+import com.xruby.runtime.lang.RubyRuntime;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.RandomAccessFile;
+
+import junit.framework.TestCase;
+
+public class CompiledFileCacheTest extends TestCase {
+    private File dir_;
+    private File source_;
+
+    public void setUp() throws Exception {
+        RubyRuntime.init(null);
+        dir_ = File.createTempFile("xruby_cache", "");
+        dir_.delete();
+        dir_.mkdirs();
+        source_ = new File(dir_, "cached.rb");
+        write(source_, "1 + 2");
+        CompiledFileCache.setDirectory(new File(dir_, "cache"));
+    }
+
+    public void tearDown() {
+        CompiledFileCache.setDirectory(null);
+        delete(dir_);
+    }
+
+    public void test_put_and_get() throws Exception {
+        String filename = source_.getPath();
+        assertNull(CompiledFileCache.get(filename, "1 + 2"));
+
+        CompilationResults results = new RubyCompiler().compileString(filename, "1 + 2");
+        CompiledFileCache.put(filename, "1 + 2", results);
+
+        CompilationResults cached = CompiledFileCache.get(filename, "1 + 2");
+        assertNotNull(cached);
+        Class<?> c = cached.getRubyProgramClass();
+        RubyProgram p = (RubyProgram)c.getDeclaredConstructor().newInstance();
+        assertEquals(3, p.invoke().toInt());
+
+        //text does not match
+        assertNull(CompiledFileCache.get(filename, "1 + 3"));
+    }
+
+    public void test_reusable() throws Exception {
+        String filename = source_.getPath();
+        CompilationResults results = new RubyCompiler().compileString(filename, "/#{1}/o");
+        assertFalse(results.isReusable());
+        CompiledFileCache.put(filename, "/#{1}/o", results);
+        assertFalse(CompiledFileCache.get(filename, "/#{1}/o").isReusable());
+
+        results = new RubyCompiler().compileString(filename, "/1/o");
+        assertTrue(results.isReusable());
+        CompiledFileCache.put(filename, "/1/o", results);
+        assertTrue(CompiledFileCache.get(filename, "/1/o").isReusable());
+    }
+
+    public void test_file_changed() throws Exception {
+        String filename = source_.getPath();
+        CompilationResults results = new RubyCompiler().compileString(filename, "1 + 2");
+        CompiledFileCache.put(filename, "1 + 2", results);
+
+        write(source_, "1 + 2 ");
+        assertNull(CompiledFileCache.get(filename, "1 + 2"));
+    }
+
+    public void test_classes_do_not_link() throws Exception {
+        assertNotNull(CompiledFileCache.getBuildFingerprint());
+
+        String filename = source_.getPath();
+        CompilationResults results = new RubyCompiler().compileString(filename, "1 + 2");
+        CompiledFileCache.put(filename, "1 + 2", results);
+        assertNotNull(CompiledFileCache.load(filename, "1 + 2"));
+
+        //break the magic number of the first class
+        File entry = new File(dir_, "cache").listFiles()[0];
+        RandomAccessFile f = new RandomAccessFile(entry, "rw");
+        byte[] bytes = new byte[(int)f.length()];
+        f.readFully(bytes);
+        for (int i = 0; i < bytes.length - 3; ++i) {
+            if (bytes[i] == (byte)0xCA && bytes[i + 1] == (byte)0xFE && bytes[i + 2] == (byte)0xBA && bytes[i + 3] == (byte)0xBE) {
+                f.seek(i);
+                f.write(0);
+                break;
+            }
+        }
+        f.close();
+
+        assertNotNull(CompiledFileCache.get(filename, "1 + 2"));
+        assertNull(CompiledFileCache.load(filename, "1 + 2"));
+    }
+
+    private static void write(File file, String text) throws Exception {
+        FileWriter w = new FileWriter(file);
+        w.write(text);
+        w.close();
+    }
+
+    private static void delete(File file) {
+        File[] files = file.listFiles();
+        if (null != files) {
+            for (File f : files) {
+                delete(f);
+            }
+        }
+        file.delete();
+    }
+}
@@ -0,0 +1,199 @@
+/**
+ * Copyright 2005-2007 Xue Yong Zhi
+ * Distributed under the Apache License
+ */
+
+package com.xruby.compiler;
+
+import antlr.RecognitionException;
+import antlr.TokenStreamException;
+import com.xruby.compiler.codegen.CompilationResults;
+import com.xruby.runtime.lang.RubyBinding;
+import com.xruby.runtime.lang.RubyProgram;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cache of compiled programs for eval and load (which is eval of the file
+ * content, see builtin.rb). Loaded files are also cached on disk by
+ * CompiledFileCache. Compiling the same text again produces the same
+ * classes, so they are compiled and loaded once, and every eval creates a
+ * new instance of the cached RubyProgram class.
+ *
+ * The generated code depends on the text, the file name (used for class
+ * names and debug info) and the names of the variables in the binding.
+ * Compiling also adds the names of new variables to the binding, a cache
+ * hit does the same. Programs with /#{...}/o are not cached: the regexp is
+ * kept in their classes, and has to be substituted again by every eval like
+ * in ruby (see CompilationResults.isReusable). The least recently used program is dropped once there
+ * are more than -Dxruby.eval_cache_size (256 by default, 0 turns the cache
+ * off) entries.
+ */
+public class EvalCache {
+    private static final int max_size_ = Integer.getInteger("xruby.eval_cache_size", 256);
+
+    private static final Map<Key, Entry> cache_ = new LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        //qualified, against the JDK 7 and 8 class library a plain Entry in here is LinkedHashMap.Entry
+        protected boolean removeEldestEntry(Map.Entry<Key, EvalCache.Entry> eldest) {
+            return size() > max_size_;
+        }
+    };
+
+    private static int hits_ = 0;
+    private static int misses_ = 0;
+
+    /**
+     * @param binding the binding to compile with, null if the program does not use one
+     */
+    public static RubyProgram getRubyProgram(String filename, String text, RubyBinding binding)
+        throws RecognitionException, TokenStreamException, InstantiationException, IllegalAccessException {
+        List<String> variables = (null == binding) ? null : new ArrayList<String>(binding.getVariableNames());
+        Key key = new Key(filename, text, variables);
+        Entry e = get(key);
+        if (null != e) {
+            for (String name : e.new_variables_) {
+                binding.addVariableName(name);
+            }
+        } else {
+            e = compile(filename, text, binding, variables);
+            if (e.reusable_) {
+                put(key, e);
+            }
+        }
+        return newInstance(e.class_);
+    }
+
+    private static RubyProgram newInstance(Class<? extends RubyProgram> c)
+        throws InstantiationException, IllegalAccessException {
+        try {
+            return c.getDeclaredConstructor().newInstance();
+        } catch (NoSuchMethodException e) {
+            throw new InstantiationException(e.toString());
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            } else if (cause instanceof Error) {
+                throw (Error)cause;
+            }
+            throw new InstantiationException(cause.toString());
+        }
+    }
+
+    private static Entry compile(String filename, String text, RubyBinding binding, List<String> variables)
+        throws RecognitionException, TokenStreamException {
+        //code compiled with a binding depends on it, only files are cached on disk
+        boolean use_file_cache = (null == binding && null != filename && CompiledFileCache.isEnabled());
+        CompilationResults results = null;
+        Class<?> c = null;
+        if (use_file_cache) {
+            results = CompiledFileCache.get(filename, text);
+            c = CompiledFileCache.link(results);
+        }
+
+        if (null == c) {
+            RubyCompiler compiler = new RubyCompiler(binding, false);
+            results = compiler.compileString(filename, text);
+            if (use_file_cache) {
+                CompiledFileCache.put(filename, text, results);
+            }
+            c = results.getRubyProgramClass();
+        }
+
+        List<String> new_variables = new ArrayList<String>();
+        if (null != binding) {
+            new_variables.addAll(binding.getVariableNames());
+            new_variables.removeAll(variables);
+        }
+        return new Entry(c.asSubclass(RubyProgram.class), new_variables, results.isReusable());
+    }
+
+    private static synchronized Entry get(Key key) {
+        Entry e = cache_.get(key);
+        if (null != e) {
+            ++hits_;
+        } else {
+            ++misses_;
+        }
+        return e;
+    }
+
+    private static synchronized void put(Key key, Entry e) {
+        if (max_size_ > 0) {
+            cache_.put(key, e);
+        }
+    }
+
+    public static synchronized int getHits() {
+        return hits_;
+    }
+
+    public static synchronized int getMisses() {
+        return misses_;
+    }
+
+    public static synchronized int size() {
+        return cache_.size();
+    }
+
+    public static synchronized void clear() {
+        cache_.clear();
+        hits_ = 0;
+        misses_ = 0;
+    }
+
+    private static class Entry {
+        private final Class<? extends RubyProgram> class_;
+        private final List<String> new_variables_;
+        private final boolean reusable_;
+
+        Entry(Class<? extends RubyProgram> c, List<String> new_variables, boolean reusable) {
+            class_ = c;
+            new_variables_ = new_variables;
+            reusable_ = reusable;
+        }
+    }
+
+    private static class Key {
+        private final String filename_;
+        private final String text_;
+        private final List<String> variables_;
+        private final int hash_;
+
+        Key(String filename, String text, List<String> variables) {
+            filename_ = filename;
+            text_ = text;
+            variables_ = variables;
+            hash_ = (31 * text.hashCode() + hashCode(filename)) * 31 + hashCode(variables);
+        }
+
+        private static int hashCode(Object o) {
+            return (null == o) ? 0 : o.hashCode();
+        }
+
+        private static boolean equals(Object a, Object b) {
+            return (null == a) ? (null == b) : a.equals(b);
+        }
+
+        public int hashCode() {
+            return hash_;
+        }
+
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key k = (Key)o;
+            return hash_ == k.hash_ &&
+                text_.equals(k.text_) &&
+                equals(filename_, k.filename_) &&
+                equals(variables_, k.variables_);
+        }
+    }
+}
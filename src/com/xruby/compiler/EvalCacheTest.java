@@ -0,0 +1,61 @@
+/**
+ * Copyright 2005-2007 Xue Yong Zhi
+ * Distributed under the Apache License
+ */
+
+package com.xruby.compiler;
+
+import com.xruby.runtime.lang.RubyBinding;
+import com.xruby.runtime.lang.RubyProgram;
+import com.xruby.runtime.lang.RubyRuntime;
+
+import junit.framework.TestCase;
+
+public class EvalCacheTest extends TestCase {
+
+    public void setUp() {
+        RubyRuntime.init(null);
+        EvalCache.clear();
+    }
+
+    public void test_hit_and_miss() throws Exception {
+        RubyProgram p1 = EvalCache.getRubyProgram(null, "1 + 2", null);
+        RubyProgram p2 = EvalCache.getRubyProgram(null, "1 + 2", null);
+        RubyProgram p3 = EvalCache.getRubyProgram("test.rb", "1 + 2", null);
+
+        assertNotSame(p1, p2);
+        assertSame(p1.getClass(), p2.getClass());
+        assertNotSame(p1.getClass(), p3.getClass());
+        assertEquals(1, EvalCache.getHits());
+        assertEquals(2, EvalCache.getMisses());
+        assertEquals(2, EvalCache.size());
+        assertEquals(3, p2.invoke().toInt());
+    }
+
+    public void test_regexp_once_not_cached() throws Exception {
+        RubyProgram p1 = EvalCache.getRubyProgram(null, "/#{1}/o", null);
+        RubyProgram p2 = EvalCache.getRubyProgram(null, "/#{1}/o", null);
+
+        assertNotSame(p1.getClass(), p2.getClass());
+        assertEquals(0, EvalCache.getHits());
+        assertEquals(0, EvalCache.size());
+    }
+
+    public void test_binding_variables() throws Exception {
+        RubyBinding b1 = new RubyBinding();
+        RubyProgram p1 = EvalCache.getRubyProgram(null, "x = 1", b1);
+        assertTrue(b1.hasName("x"));
+
+        //same text, same variables: hit, and 'x' is added as well
+        RubyBinding b2 = new RubyBinding();
+        RubyProgram p2 = EvalCache.getRubyProgram(null, "x = 1", b2);
+        assertSame(p1.getClass(), p2.getClass());
+        assertTrue(b2.hasName("x"));
+
+        //'x' is already a variable of b1, this is compiled differently
+        RubyProgram p3 = EvalCache.getRubyProgram(null, "x = 1", b1);
+        assertNotSame(p1.getClass(), p3.getClass());
+        assertEquals(1, EvalCache.getHits());
+        assertEquals(2, EvalCache.getMisses());
+    }
+}
@@ -7,6 +7,7 @@ package com.xruby.compiler;
 
 import antlr.RecognitionException;
 import antlr.TokenStreamException;
+import com.xruby.compiler.codegen.CgConfig;
 import com.xruby.compiler.codegen.CompilationResults;
 import com.xruby.runtime.builtin.ObjectFactory;
 import com.xruby.runtime.builtin.RubyFixnum;
@@ -151,9 +152,6 @@ class CompilerTestCase extends TestCase {
                 program_texts.length, outputs.length);
 
         for (int i = 0; i < program_texts.length; ++i) {
-            // FIXME: temp code here
-            RubyClass.resetCache();
-
             RubyCompiler compiler = new RubyCompiler();
 
             try {
@@ -788,7 +786,8 @@ public class RubyCompilerTest extends CompilerTestCase {
 
         try {
             CompilationResults codes = compiler.compileString(program_texts);
-            assertEquals(3, codes.size());
+            //main, f, RubyIDContainer and CallSiteContainer
+            assertEquals(4, codes.size());
         } catch (Exception e) {
             assertTrue("Error : " + e.toString(), false);
         }
@@ -3752,6 +3751,72 @@ public class RubyCompilerTest extends CompilerTestCase {
         compile_run_and_compare_output(program_texts, outputs);
     }
 
+    public void test_return_in_proc_call() {
+        String[] program_texts = {
+                "def f block; block.call; print 'yyy'; end\n" +
+                "def test_return2; a = Proc.new {return}; f a; print 'zzz'; end\n" +
+                "test_return2",
+
+                "def f; a = Proc.new {return 5}; a.call; 6; end; print f",
+
+                "def f; a = Proc.new {return 5}; begin; a.call; rescue Exception; print 'rescued'; end; 6; end; print f",
+
+                "def f; [1].each {|x| Proc.new {return x + 1}.call}; 3; end; print f",
+
+                "def f; a = lambda {return 7}; print a.call; 8; end; print f",
+
+                "def proc_return_f(&b) [1, 2].each(&b); print 'yyy'; end\n" +
+                "def proc_return_g; proc_return_f {|x| print x; return}; print 'zzz'; end\n" +
+                "proc_return_g",
+
+                "def proc_return_h(p); p.call; print 'h'; end\n" +
+                "def proc_return_i; proc_return_h(Proc.new {return 3}); 4; end; print proc_return_i",
+
+                "def proc_return_orphan; Proc.new {return 1}; end\n" +
+                "pr = proc_return_orphan; begin; pr.call; print 'returned'; rescue LocalJumpError; print 'LocalJumpError'; end",
+
+                //returns from the activation the Proc was created in, not the innermost one
+                "def proc_return_r(n, pr = nil)\n" +
+                "  pr = Proc.new {return :outer} if pr.nil?\n" +
+                "  if n > 0 then r = proc_return_r(n - 1, pr); return [:inner, r] end\n" +
+                "  pr.call\n" +
+                "end\n" +
+                "print proc_return_r(2).inspect",
+        };
+
+        String[] outputs = {
+                "",
+                "5",
+                "5",
+                "2",
+                "78",
+                "1",
+                "3",
+                "LocalJumpError",
+                ":outer",
+        };
+
+        compile_run_and_compare_output(program_texts, outputs);
+    }
+
+    public void test_fixed_arity_method_invoke() {
+        String[] program_texts = {
+                "def recursion_depth(n) n == 0 ? 0 : 1 + recursion_depth(n - 1) end; print recursion_depth(200)",
+                "def fixed_arity_zero() 0 end; print send(:fixed_arity_zero)",
+                "def fixed_arity_one(a) a end; print send(:fixed_arity_one, 1)",
+                "def fixed_arity_two(a, b) a + b end; print fixed_arity_two(*[1, 2])",
+        };
+
+        String[] outputs = {
+                "200",
+                "0",
+                "1",
+                "3",
+        };
+
+        compile_run_and_compare_output(program_texts, outputs);
+    }
+
     public void test_next_in_block() {
         String[] program_texts = {
                 "def f; a= yield; print a; end; f {next 1}",
@@ -3873,6 +3938,42 @@ public class RubyCompilerTest extends CompilerTestCase {
         compile_run_and_compare_output(program_texts, outputs);
     }
 
+    public void test_regex_literal_once() {
+        String[] program_texts = {
+                "a = []; 2.times {a << /ab+c/}; print a[0].equal?(a[1]), ' ', a[0] =~ 'xabbc'",
+                "a = []; ['b', 'c'].each {|x| a << /a#{x}/}; print a[0].equal?(a[1]), 'ab' =~ a[1]",
+                "a = []; ['b', 'c'].each {|x| a << /a#{x}/o}; print a[0].equal?(a[1]), 'ab' =~ a[1]",
+                "n = 0; 3.times {/#{n += 1}/o}; print n",
+                "3.times {|i| print eval('/#{i}/o').source}",
+                "def f(x) eval('/#{x}/o') end; print f(1).source, f(2).source",
+        };
+
+        String[] outputs = {
+                "true 1",
+                "falsenil",
+                "true0",
+                "1",
+                "012",
+                "12",
+        };
+
+        compile_run_and_compare_output(program_texts, outputs);
+    }
+
+    public void test_MatchData_offset() {
+        String[] program_texts = {
+                "m = /(b)(x)?/.match('abc'); print m.begin(1), m.end(0), m.offset(2).inspect",
+                "print Regexp.new('A.B', Regexp::IGNORECASE | Regexp::MULTILINE) =~ \"xa\\nb\"",
+        };
+
+        String[] outputs = {
+                "12[nil, nil]",
+                "1",
+        };
+
+        compile_run_and_compare_output(program_texts, outputs);
+    }
+
     public void test_MatchData() {
         String[] program_texts = {
                 "m = /(.)(.)(\\d+)(\\d)/.match('THX1138.'); print m[0]",
@@ -5192,7 +5293,7 @@ public class RubyCompilerTest extends CompilerTestCase {
         String[] outputs = {
                 "line 1\nline 2",
                 "line 1\n",
-                "line 1\nline 2\nnil",//TODO should be "line 1\nline 2nil", IO#gets should be fixed
+                "line 1\nline 2nil",
 
                 "line 1\nline 1\n",
         };
@@ -5381,6 +5482,24 @@ public class RubyCompilerTest extends CompilerTestCase {
         compile_run_and_compare_output(program_texts, outputs);
     }
 
+    public void test_string_pattern() {
+        String [] program_texts = {
+                "print 'a.b.c'.gsub('.', '-'), 'a.b.c'.sub('.', '-')",
+                "print 'a+b+c'.scan('+').size, 'abc'.scan('x').size",
+                "print 'abc'.gsub!('x', '-').inspect",
+                "a = 'x1y22'.scan(/\\d+/) {|s| 'xy'.gsub(/./) {|c| c}}; print a",
+        };
+
+        String[] outputs = {
+                "a-b-ca-b.c",
+                "20",
+                "nil",
+                "x1y22",
+        };
+
+        compile_run_and_compare_output(program_texts, outputs);
+    }
+
     public void test_gsub() {
         String [] program_texts = {
                 "print 'abca'.gsub('a', 'c')",
@@ -5415,6 +5534,20 @@ public class RubyCompilerTest extends CompilerTestCase {
         compile_run_and_compare_output(program_texts, outputs);
     }
 
+    public void test_line_start_at_end_of_string() {
+        String [] program_texts = {
+                "print \"a\\nb\\n\".gsub(/^/, '  ')",
+                "p \"foo\\n\".scan(/^/).size",
+        };
+
+        String[] outputs = {
+                "  a\n  b\n",
+                "1\n",
+        };
+
+        compile_run_and_compare_output(program_texts, outputs);
+    }
+
     public void test_String_scan() {
         String [] program_texts = {
                 "p 'cruel world'.scan(/\\w+/) ",
@@ -5850,6 +5983,238 @@ public class RubyCompilerTest extends CompilerTestCase {
         compile_run_and_compare_output(program_texts, outputs);
     }
 
+    public void test_constant_cache() {
+        String [] program_texts = {
+                "def const_cache_f; ConstCacheA; end; ConstCacheA = 1; x = const_cache_f; ConstCacheA = 2; print x, const_cache_f",
+                "module ConstCacheM; end; class ConstCacheC; def f; CONST_CACHE; end; end; CONST_CACHE = 1; c = ConstCacheC.new; x = c.f; module ConstCacheM; CONST_CACHE = 2; end; class ConstCacheC; include ConstCacheM; end; print x, c.f",
+                "class ConstCacheD; end; def const_cache_g(m); m::X; end; class ConstCacheE; X = 1; end; x = const_cache_g(ConstCacheE); ConstCacheE.const_set(:X, 3); print x, const_cache_g(ConstCacheE)",
+        };
+
+        String[] outputs = {
+                "12",
+                "12",
+                "13",
+        };
+
+        compile_run_and_compare_output(program_texts, outputs);
+    }
+
+    public void test_global_variable_slot() {
+        String [] program_texts = {
+                "def gv_slot_f; $gv_slot_a; end; $gv_slot_a = 1; x = gv_slot_f; $gv_slot_a = 2; print x, gv_slot_f",
+                "$gv_slot_b = 1; alias $gv_slot_c $gv_slot_b; $gv_slot_c = 3; print $gv_slot_b",
+                "trace_var(:$gv_slot_d) {print 't'}; $gv_slot_d = 1; untrace_var :$gv_slot_d; $gv_slot_d = 2; print $gv_slot_d",
+                "'abc' =~ /b/; x = nil; Thread.new { 'xyz' =~ /y/; x = $& }.join; print x, $&",
+        };
+
+        String[] outputs = {
+                "12",
+                "3",
+                "t2",
+                "yb",
+        };
+
+        compile_run_and_compare_output(program_texts, outputs);
+    }
+
+    public void test_lazy_builtin() {
+        String [] program_texts = {
+                "print Math.sqrt(4), defined?(Marshal)",
+                "module Math; def self.lazy_builtin_f; 3; end; end; print Math.lazy_builtin_f, Math.sqrt(9)",
+                "LazyBuiltinS = Struct.new(:a); print LazyBuiltinS.new(5).a",
+                "begin; [].size(1); rescue ArgumentError => e; print e.message; end",
+        };
+
+        String[] outputs = {
+                "2.0constant",
+                "33.0",
+                "5",
+                "in `length': wrong number of arguments (1 for 0)",
+        };
+
+        compile_run_and_compare_output(program_texts, outputs);
+    }
+
+    public void test_native_builtin_methods() {
+        String [] program_texts = {
+                "print [1, 'a', [2, 3], nil].join('-'), [1, 2].join, [].join(','), [3].join(nil)",
+                "h = {1 => 2}; h.each {|k, v| print k, v}; h.each_pair {|x| p x}; h.each_key {|k| print k}; h.each_value {|v| print v}",
+                "print({1 => 2, 3 => 4}.each {|k, v| break k + v})",
+                "print [1, 2, 3].inject {|s, x| s + x}, [1, 2, 3].inject(10) {|s, x| s * x}, [].inject {|s, x| s}.inspect, [1, 2].inject {|s, x| break 7}",
+                "1.upto(3) {|i| print i}; 3.downto(1) {|i| print i}; print 5.upto(4) {}, 1.upto(9) {|i| break i if i == 2}",
+                "(2**64).upto(2**64 + 1) {|i| print i, ' '}",
+                "print 'ab'.rjust(5, '12') + '|' + 'ab'.ljust(5, '12') + '|' + 'ab'.center(7, '12') + '|' + 'ab'.center(1) + '|' + 'ab'.center(5)",
+                "print 'a' < 'b', 'a' >= 'b', 'b'.between?('a', 'c'), 1.5 <= 1.5",
+                "class NativeCmp; include Comparable; attr :v; def initialize(v); @v = v; end; def <=>(o); o.kind_of?(NativeCmp) ? @v <=> o.v : nil; end; end\n" +
+                "print NativeCmp.new(1) < NativeCmp.new(2), NativeCmp.new(1) == NativeCmp.new(1), NativeCmp.new(1) == 3\n" +
+                "begin; NativeCmp.new(1) < 3; rescue ArgumentError => e; print e.message; end",
+        };
+
+        String[] outputs = {
+                "1-a-23-123",
+                "12[1, 2]\n12",
+                "3",
+                "660nil7",
+                "12332152",
+                "18446744073709551616 18446744073709551617 ",
+                "121ab|ab121|12ab121|ab| ab  ",
+                "truefalsetruetrue",
+                "truetruefalsecomparison of NativeCmp with Fixnum failed",
+        };
+
+        compile_run_and_compare_output(program_texts, outputs);
+    }
+
+    public void test_hash_table() {
+        String [] program_texts = {
+                "h = {}; %w(zeta alpha mid beta).each {|k| h[k] = k.length}; h.delete('alpha'); h['alpha'] = 0; p h.keys",
+                "class HashTableKey; attr :v; def initialize(v); @v = v; end; def hash; @v.hash; end; def eql?(o); o.kind_of?(HashTableKey) && @v == o.v; end; end\n" +
+                "h = {HashTableKey.new(1) => 'one'}; print h[HashTableKey.new(1)], h[HashTableKey.new(2)].inspect",
+                "s = 'ab'; h = {s => 1}; s2 = 'a'; print h[s2].inspect; s2 << 'b'; print h[s2]",
+                "h = {}; 1000.times {|i| h[i] = i}; 990.times {|i| h.delete(i)}; print h.size, h.keys.inspect, h.shift.inspect, h[999]",
+        };
+
+        String[] outputs = {
+                "[\"zeta\", \"mid\", \"beta\", \"alpha\"]\n",
+                "onenil",
+                "nil1",
+                "10[990, 991, 992, 993, 994, 995, 996, 997, 998, 999][990, 990]999",
+        };
+
+        compile_run_and_compare_output(program_texts, outputs);
+    }
+
+    public void test_string_copy_on_write() {
+        String [] program_texts = {
+                "a = 'hello'; b = a.dup; b << ' world'; c = b.clone; c.upcase!; print a, '|', b, '|', c",
+                "h = {}; k = 'x'; h[k] = 1; k2 = 'x'; k2 << 'y'; k2.chop!; print h[k2]",
+                "s = ' ab '; s.strip!; s2 = s.dup; s.lstrip!; print s, s.length, s2.capitalize, s.equal?(s2), s == s2",
+                "l = \"line\\n\"; m = l.dup; m.chomp!; print l.length, m.length",
+        };
+
+        String[] outputs = {
+                "hello|hello world|HELLO WORLD",
+                "1",
+                "ab2Abfalsetrue",
+                "54",
+        };
+
+        compile_run_and_compare_output(program_texts, outputs);
+    }
+
+    public void test_string_rope() {
+        String [] program_texts = {
+                "s = ''; 300.times {|i| s = s + i.to_s + ','}; t = s.dup; s = s + 'end'\n" +
+                "print s.length, ' ', t.length, ' ', s[0, 6], ' ', s[-3, 3], ' ', (s =~ /299,end/), ' ', t.hash == (t + '').hash",
+                "s = 'a' * 200; t = s + s; u = t + t; u << '!'; t[0] = 'b'; print u.length, t.length, u[0, 1], t[0, 1], u[-1, 1]",
+        };
+
+        String[] outputs = {
+                "1093 1090 0,1,2, end 1086 true",
+                "801400ab!",
+        };
+
+        compile_run_and_compare_output(program_texts, outputs);
+    }
+
+    public void test_IO_gets_separator() {
+        RubyIO out = ObjectFactory.createFile("test_IO_gets_separator.txt", "w");
+        out.print("a\nb\n\n\npara two\nx\n\n");
+        out.print("tail::sep::end");
+        out.close();
+
+        String [] program_texts = {
+                "f = open('test_IO_gets_separator.txt'); f.gets; p f.gets(''); p f.gets(''); p f.gets('::'); p f.gets('::'); p f.gets('::'); p f.gets; f.close",
+                "f = open('test_IO_gets_separator.txt'); f.gets(nil); p f.gets(nil); p f.eof?; f.close",
+                "f = open('test_IO_gets_separator.txt', 'r+'); f.seek(2); p f.read(3); f.seek(0); f.print 'Z'; f.seek(0); p f.gets; f.close",
+                "p IO.read('test_IO_gets_separator.txt', 3, 24)",
+                "f = open('test_IO_gets_separator.txt'); p f.read(0); p f.read(100).length; p f.read(10); p f.read; f.close",
+                "f = open('test_IO_gets_separator.txt', 'a'); f.print '!'; f.flush; p IO.read('test_IO_gets_separator.txt')[-4..-1]; f.close",
+        };
+
+        String[] outputs = {
+                "\"b\n\n\"\n\"para two\nx\n\n\"\n\"tail::\"\n\"sep::\"\n\"end\"\nnil\n",
+                "nil\ntrue\n",
+                "\"b\n\n\"\n\"Z\n\"\n",
+                "\"sep\"\n",
+                "\"\"\n32\nnil\n\"\"\n",
+                "\"end!\"\n",
+        };
+
+        compile_run_and_compare_output(program_texts, outputs);
+
+        File f = new File("test_IO_gets_separator.txt");
+        assertTrue(f.delete());
+    }
+
+    public void test_IO_each_line() {
+        RubyIO out = ObjectFactory.createFile("test_IO_each_line.txt", "w");
+        out.print("a\nb\n\nc");
+        out.close();
+
+        //large enough to be memory mapped
+        out = ObjectFactory.createFile("test_IO_each_line_large.txt", "w");
+        for (int i = 0; i < 100000; ++i) {
+            out.print("line " + i + "\n");
+        }
+        out.close();
+
+        String [] program_texts = {
+                "f = open('test_IO_each_line.txt'); f.each_line {|l| p l}; f.close",
+                "f = open('test_IO_each_line.txt'); f.each('') {|l| p l}; f.close",
+                "p IO.readlines('test_IO_each_line.txt')",
+                "p IO.readlines('test_IO_each_line.txt', 'b')",
+                "f = open('test_IO_each_line.txt'); f.gets; p f.readlines; f.close",
+                "IO.foreach('test_IO_each_line.txt') {|l| print l.length}",
+                "p IO.foreach('test_IO_each_line.txt') {|l| break l}",
+                "s = File.read('test_IO_each_line.txt'); t = s.dup; t << 'x'; p s, s[0, 2], s == \"a\\nb\\n\\nc\", {s => 1}[\"a\\nb\\n\\nc\"]",
+
+                "n = 0; IO.foreach('test_IO_each_line_large.txt') {|l| n += l.length}; p n",
+                "a = IO.readlines('test_IO_each_line_large.txt'); p a.size; print a[-1]",
+                "p File.read('test_IO_each_line_large.txt').length",
+                "f = open('test_IO_each_line_large.txt'); f.seek(1088868); print f.gets; print f.read(6); p f.read(1000).length; p f.eof?; f.close",
+        };
+
+        String[] outputs = {
+                "\"a\n\"\n\"b\n\"\n\"\n\"\n\"c\"\n",
+                "\"a\nb\n\n\"\n\"c\"\n",
+                "[\"a\n\", \"b\n\", \"\n\", \"c\"]\n",
+                "[\"a\nb\", \"\n\nc\"]\n",
+                "[\"b\n\", \"\n\", \"c\"]\n",
+                "2211",
+                "\"a\n\"\n",
+                "\"a\nb\n\nc\"\n\"a\n\"\ntrue\n1\n",
+
+                "1088890\n",
+                "100000\nline 99999\n",
+                "1088890\n",
+                "line 99998\nline 95\ntrue\n",
+        };
+
+        compile_run_and_compare_output(program_texts, outputs);
+
+        assertTrue(new File("test_IO_each_line.txt").delete());
+        assertTrue(new File("test_IO_each_line_large.txt").delete());
+    }
+
+    public void test_exception_backtrace() {
+        String [] program_texts = {
+                "begin; raise 'x'; rescue => e; print e.backtrace.class; end",
+                "print catch(:test_backtrace) {[1, 2].each {|x| throw :test_backtrace, x}}",
+                "begin; raise 'x'; rescue => e; print e.backtrace.equal?(e.backtrace); end",
+                "p Exception.new.backtrace",
+        };
+
+        String[] outputs = {
+                "Array",
+                "1",
+                "true",
+                "nil\n",
+        };
+
+        compile_run_and_compare_output(program_texts, outputs);
+    }
+
     public void test_trace_var_exception() {
         String [] program_texts = {
                 "untrace_var\n",
@@ -6240,6 +6605,253 @@ public class RubyCompilerTest extends CompilerTestCase {
         compile_run_and_compare_output(program_texts, outputs);
     }
 
+    public void test_call_site_cache() {
+        String[] program_texts = {
+                "class CallSiteA; def f; 'a'; end; end\n" +
+                "class CallSiteB; def f; 'b'; end; end\n" +
+                "[CallSiteA.new, CallSiteB.new, CallSiteA.new].each {|x| print x.f}",
+
+                "class CallSiteC; def g; 1; end; end\n" +
+                "def call_g(c); c.g; end\n" +
+                "c = CallSiteC.new; print call_g(c)\n" +
+                "class CallSiteC; def g; 2; end; end\n" +
+                "print call_g(c)",
+
+                "module CallSiteM; def k; 'm'; end; end\n" +
+                "class CallSiteD; def k; 'd'; end; end\n" +
+                "class CallSiteE < CallSiteD; end\n" +
+                "def call_k(e); e.k; end\n" +
+                "e = CallSiteE.new; print call_k(e)\n" +
+                "class CallSiteE; include CallSiteM; end\n" +
+                "print call_k(e)",
+
+                "o = Object.new\n" +
+                "def call_to_s(o); o.to_s == 'x'; end\n" +
+                "print call_to_s(o)\n" +
+                "def o.to_s; 'x'; end\n" +
+                "print call_to_s(o)",
+
+                "[1, 1.5, 'a', :b, [2], nil, true, 3, 'c'].each {|x| print x.to_s}",
+        };
+
+        String[] outputs = {
+                "aba",
+                "12",
+                "dm",
+                "falsetrue",
+                "11.5ab2true3c",
+        };
+
+        compile_run_and_compare_output(program_texts, outputs);
+    }
+
+    public void test_method_cache_invalidation() {
+        String[] program_texts = {
+                "module InvalidateM; end\n" +
+                "class InvalidateA; include InvalidateM; end\n" +
+                "a = InvalidateA.new; print a.respond_to?(:f)\n" +
+                "module InvalidateM; def f; 'm'; end; end\n" +
+                "print a.f",
+
+                "class InvalidateB; def g; 'b'; end; end\n" +
+                "class InvalidateC < InvalidateB; end\n" +
+                "class InvalidateD < InvalidateC; end\n" +
+                "d = InvalidateD.new; print d.g\n" +
+                "class InvalidateC; def g; 'c'; end; end\n" +
+                "print d.g, InvalidateB.new.g",
+
+                "class InvalidateE; def h; 'e'; end; end\n" +
+                "class InvalidateF < InvalidateE; end\n" +
+                "f = InvalidateF.new; print f.h\n" +
+                "class InvalidateE; alias_method :h2, :h; def h; 'x'; end; end\n" +
+                "print f.h, f.h2",
+        };
+
+        String[] outputs = {
+                "falsem",
+                "bcb",
+                "exe",
+        };
+
+        compile_run_and_compare_output(program_texts, outputs);
+    }
+
+    public void test_operator_fast_path() {
+        String[] program_texts = {
+                "print 2147483647 + 1, ' ', -2147483648 - 1, ' ', 65536 * 65536, ' ', 3 - 5, ' ', 7 * -6",
+                "print 1.5 + 2.25, ' ', 2.5 - 0.5, ' ', 3.0 * 2.0, ' ', 1.0 / 4.0, ' ', 1 + 0.5",
+                "print 1 < 2, 2 <= 1, 3 > 2, 3 >= 4, 5 == 5, 5 != 5, 1 == 1.0, 7 / 2",
+                "def fast_plus(a, b); a + b; end\n" +
+                "print fast_plus(1, 2)\n" +
+                "class Fixnum; alias_method :fast_path_old_plus, :+; def +(x); 'p'; end; end\n" +
+                "print fast_plus(1, 2)\n" +
+                "class Fixnum; alias_method :+, :fast_path_old_plus; end\n" +
+                "print fast_plus(1, 2)",
+        };
+
+        String[] outputs = {
+                "2147483648 -2147483649 4294967296 -2 -42",
+                "3.75 2.0 6.0 0.25 1.5",
+                "truefalsetruefalsetruefalsetrue3",
+                "3p3",
+        };
+
+        compile_run_and_compare_output(program_texts, outputs);
+    }
+
+    public void test_numeric_while_loop() {
+        String[] program_texts = {
+                "i = 0; s = 0; while i < 10; s += i * 2; i += 1; end; print i, ' ', s",
+                "x = 2147483640; n = 0; while n < 20; x += 1; n += 1; end; print x, ' ', n, ' ', x.class",
+                "a = 1; until a >= 1000000; a = a * 3; end; print a",
+                "def numeric_loop(n); i = 0; t = 0; while i != n; t = t - i + 1; i += 1; end; t; end; print numeric_loop(100), numeric_loop(0)",
+                "y = 3000000000; j = 0; while j < 3; y += 1; j += 1; end; print y, ' ', j",
+                "z = 1.5; while z < 10; z = z * 2; end; print z",
+                "c = 0; r = (while c < 3; c += 1; end); p r, c",
+                "class Fixnum; alias_method :numeric_loop_old_mul, :*; def *(x); 100; end; end\n" +
+                "a = 1; while a < 10; a = a * 2 + 5; end; print a\n" +
+                "class Fixnum; alias_method :*, :numeric_loop_old_mul; end",
+        };
+
+        String[] outputs = {
+                "10 90",
+                "2147483660 20 Bignum",
+                "1594323",
+                "-48500",
+                "3000000003 3",
+                "12.0",
+                "nil\n3\n",
+                "105",
+        };
+
+        compile_run_and_compare_output(program_texts, outputs);
+    }
+
+    public void test_numeric_float_while_loop() {
+        String[] program_texts = {
+                "x = 0.0; i = 0; while i < 10; x = x + 0.5 * i; i += 1; end; print x, ' ', i",
+                "t = 0.0; k = 0; while k < 4; t = 1 - t; k += 1; end; print t",
+                "q = 1.0; n = 0; while n < 3; q = q * 0.5 - n; n += 1; end; print q, ' ', n",
+                "lim = 2.5; f = 0.0; while f < lim; f = f + 1.0; end; print f",
+                "lim = 3; f = 0.0; while f < lim; f = f + 1.0; end; print f",
+                "g = 0; while g < 2; g = g + 0.75; end; print g",
+                "e = 0.0; while e != 2.0; e = e + 0.5; end; print e",
+                "nan = 0.0 / 0.0; m = 0; begin; while nan < 1.0; m += 1; end; rescue ArgumentError; print 'error'; end",
+                "class Float; alias_method :numeric_loop_old_plus, :+; def +(x); 100.0; end; end\n" +
+                "h = 0.0; while h < 10; h = h + 1.0; end; print h\n" +
+                "class Float; alias_method :+, :numeric_loop_old_plus; end",
+        };
+
+        String[] outputs = {
+                "22.5 10",
+                "0.0",
+                "-2.375 3",
+                "3.0",
+                "3.0",
+                "2.25",
+                "2.0",
+                "error",
+                "100.0",
+        };
+
+        compile_run_and_compare_output(program_texts, outputs);
+    }
+
+    public void test_numeric_loop_guard() {
+        //the unboxed loops run only while this holds, which needs the
+        //comparisons Float gets from Comparable in builtin.rb
+        assertTrue(RubyAPI.isNumericOperatorsBuiltin());
+
+        String[] program_texts = {
+                "class Float; alias_method :numeric_loop_old_lt, :<; def <(x); false; end; end",
+                "class Float; alias_method :<, :numeric_loop_old_lt; end",
+        };
+
+        String[] outputs = {
+                "",
+                "",
+        };
+
+        compile_run_and_compare_output(new String[] {program_texts[0]}, new String[] {outputs[0]});
+        assertFalse(RubyAPI.isNumericOperatorsBuiltin());
+        compile_run_and_compare_output(new String[] {program_texts[1]}, new String[] {outputs[1]});
+        assertTrue(RubyAPI.isNumericOperatorsBuiltin());
+    }
+
+    public void test_instance_variable_shapes() {
+        String[] program_texts = {
+                "class ShapeA; def initialize(x, y); @x = x; @y = y; end; def sum; @x + @y; end; end\n" +
+                "class ShapeB; def initialize(x, y); @y = y; @x = x; end; def sum; @x + @y; end; end\n" +
+                "def shape_sum(o); o.sum; end\n" +
+                "print shape_sum(ShapeA.new(1, 2)), shape_sum(ShapeB.new(3, 4)), shape_sum(ShapeA.new(5, 6))",
+
+                "class ShapeC; attr_accessor :a, :b; def c; @c; end; end\n" +
+                "o = ShapeC.new; o.b = 1; print o.a.inspect, o.b, o.c.inspect\n" +
+                "o2 = o.clone; o2.b = 2; o2.a = 3; print o.b, o.a.inspect, o2.b, o2.a",
+
+                "class ShapeD; def initialize; @a = 1; @b = 'x'; end; end\n" +
+                "print ShapeD.new.inspect.sub(/0x[0-9a-f]+/, '')",
+
+                "class ShapeE; def set; @v0 = 0; @v1 = 1; @v2 = 2; @v3 = 3; @v4 = 4; @v5 = 5; @v6 = 6; @v7 = 7; @v8 = 8; @v9 = 9; @v10 = 10; @v11 = 11; end; def get; @v11 + @v3; end; end\n" +
+                "o = ShapeE.new; o.set; print o.get",
+
+                "class ShapeF; @k = 'class ivar'; def self.k; @k; end; end\n" +
+                "print ShapeF.k",
+        };
+
+        String[] outputs = {
+                "3711",
+                "nil1nil1nil23",
+                "#<ShapeD: @a=1, @b=\"x\">",
+                "14",
+                "class ivar",
+        };
+
+        compile_run_and_compare_output(program_texts, outputs);
+    }
+
+    public void test_method_handle_dispatch() {
+        String[] program_texts = {
+                "class DynSiteA; def f; 'a'; end; end\n" +
+                "class DynSiteB; def f; 'b'; end; end\n" +
+                "[DynSiteA.new, DynSiteB.new, DynSiteA.new].each {|x| print x.f}",
+
+                "class DynSiteC; def g(x, y); x + y; end; end\n" +
+                "def call_g(c); c.g(1, 2); end\n" +
+                "c = DynSiteC.new; print call_g(c)\n" +
+                "class DynSiteC; def g(x, y); x * y; end; end\n" +
+                "print call_g(c)",
+
+                "module DynSiteM; def k; 'm'; end; end\n" +
+                "class DynSiteD; def k; 'd'; end; end\n" +
+                "class DynSiteE < DynSiteD; end\n" +
+                "def call_k(e); e.k; end\n" +
+                "e = DynSiteE.new; print call_k(e)\n" +
+                "class DynSiteE; include DynSiteM; end\n" +
+                "print call_k(e)",
+
+                "class DynSiteF; def method_missing(name, *args); print name, args.size; end; end\n" +
+                "DynSiteF.new.foo(1, 2, 3)",
+
+                "[1, 1.5, 'a', :b, [2], nil, true, 3, 'c'].each {|x| print x.to_s}",
+        };
+
+        String[] outputs = {
+                "aba",
+                "32",
+                "dm",
+                "foo3",
+                "11.5ab2true3c",
+        };
+
+        CgConfig.setMethodHandleDispatch(true);
+        try {
+            compile_run_and_compare_output(program_texts, outputs);
+        } finally {
+            CgConfig.setMethodHandleDispatch(false);
+        }
+    }
+
     /*
     TODO does not work with exception
     TODO wrong format, should fix the implementation
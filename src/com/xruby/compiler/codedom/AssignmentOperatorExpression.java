@@ -6,6 +6,7 @@
 package com.xruby.compiler.codedom;
 
 import java.util.ArrayList;
+import java.util.List;
 
 import antlr.RecognitionException;
 
@@ -74,6 +75,25 @@ public class AssignmentOperatorExpression extends Expression {
 		}
 	}
 
+	boolean isNumeric(ISymbolTable symboltable, ArrayList<String> variables) {
+		return lhs_ instanceof LocalVariableExpression &&
+			lhs_.isNumeric(symboltable, variables) &&
+			rhs_.isNumeric(symboltable, variables);
+	}
+
+	void inferFloatVariables(List<String> float_variables, List<String> assigned_variables) {
+		rhs_.inferFloatVariables(float_variables, assigned_variables);
+		String name = ((LocalVariableExpression)lhs_).getValue();
+		if (rhs_.isFloat(float_variables) && !float_variables.contains(name)) {
+			float_variables.add(name);
+		}
+	}
+
+	void acceptAsNumeric(CodeVisitor visitor) {
+		rhs_.acceptAsNumeric(visitor);
+		visitor.visitNumericLocalVariableAssignment(((LocalVariableExpression)lhs_).getValue());
+	}
+
 	public void getFrequentlyUsedIntegers(ArrayList<Integer> result) {
 		rhs_.getFrequentlyUsedIntegers(result);
 	}
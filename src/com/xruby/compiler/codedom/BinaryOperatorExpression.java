@@ -6,6 +6,7 @@
 package com.xruby.compiler.codedom;
 
 import java.util.ArrayList;
+import java.util.List;
 
 public class BinaryOperatorExpression extends Expression {
 
@@ -30,6 +31,43 @@ public class BinaryOperatorExpression extends Expression {
         right_.getFrequentlyUsedIntegers(result);
     }
 
+    boolean isNumeric(ISymbolTable symboltable, ArrayList<String> variables) {
+        if (!operator_.equals("+") && !operator_.equals("-") && !operator_.equals("*")) {
+            return false;
+        }
+
+        return left_.isNumeric(symboltable, variables) && right_.isNumeric(symboltable, variables);
+    }
+
+    boolean isFloat(List<String> float_variables) {
+        return left_.isFloat(float_variables) || right_.isFloat(float_variables);
+    }
+
+    void inferFloatVariables(List<String> float_variables, List<String> assigned_variables) {
+        left_.inferFloatVariables(float_variables, assigned_variables);
+        right_.inferFloatVariables(float_variables, assigned_variables);
+        if (isFloat(float_variables)) {
+            //e.g. 'x < limit' with x being Float: limit is probably Float too
+            guessFloat(left_, float_variables, assigned_variables);
+            guessFloat(right_, float_variables, assigned_variables);
+        }
+    }
+
+    private static void guessFloat(Expression e, List<String> float_variables, List<String> assigned_variables) {
+        if (e instanceof LocalVariableExpression) {
+            String name = ((LocalVariableExpression)e).getValue();
+            if (!assigned_variables.contains(name) && !float_variables.contains(name)) {
+                float_variables.add(name);
+            }
+        }
+    }
+
+    void acceptAsNumeric(CodeVisitor visitor) {
+        left_.acceptAsNumeric(visitor);
+        right_.acceptAsNumeric(visitor);
+        visitor.visitNumericBinaryOperator(operator_);
+    }
+
     void getNewlyAssignedVariables(ISymbolTable symboltable, ArrayList<String> result) {
         left_.getNewlyAssignedVariables(symboltable, result);
         right_.getNewlyAssignedVariables(symboltable, result);
@@ -8,6 +8,7 @@ package com.xruby.compiler.codedom;
 import org.objectweb.asm.Label;
 
 import java.math.BigInteger;
+import java.util.List;
 
 public class CodePrinter implements CodeVisitor {
     StringBuilder result_ = new StringBuilder();
@@ -213,7 +214,11 @@ public class CodePrinter implements CodeVisitor {
         result_.append("StringExpressionWithExpressionSubstitutionEnd\n");
     }
 
-    public void visitRegexpExpressionWithExpressionSubstitutionEnd(String option) {
+    public Object visitRegexpExpressionWithExpressionSubstitutionBegin(String option) {
+        return null;
+    }
+
+    public void visitRegexpExpressionWithExpressionSubstitutionEnd(String option, Object var) {
         result_.append("RegexExpressionWithExpressionSubstitutionEnd\n");
     }
 
@@ -558,6 +563,55 @@ public class CodePrinter implements CodeVisitor {
         result_.append("end while\n");
     }
 
+    public boolean visitNumericLoopBegin(List<String> variables, List<String> float_variables, List<String> assigned_variables) {
+        result_.append("numeric while ");
+        result_.append(variables);
+        result_.append(" float:");
+        result_.append(float_variables);
+        result_.append("\n");
+        return true;
+    }
+
+    public void visitNumericLoopConditionEnd(String operator, boolean is_until) {
+        result_.append(is_until ? "until " : "while ");
+        result_.append(operator);
+        result_.append("\n");
+    }
+
+    public void visitNumericLoopBodyEnd() {
+        result_.append("end numeric while\n");
+    }
+
+    public void visitNumericLoopResume() {
+        result_.append("resume\n");
+    }
+
+    public void visitNumericLoopEnd() {
+        result_.append("end resume\n");
+    }
+
+    public void visitNumericFixnumExpression(int value) {
+        visitFixnumExpression(value);
+    }
+
+    public void visitNumericFloatExpression(double value) {
+        visitFloatExpression(value);
+    }
+
+    public void visitNumericLocalVariableExpression(String name) {
+        visitLocalVariableExpression(name);
+    }
+
+    public void visitNumericLocalVariableAssignment(String name) {
+        result_.append("numeric ");
+        result_.append(name);
+        result_.append(" =\n");
+    }
+
+    public void visitNumericBinaryOperator(String operator) {
+        visitBinaryOperator(operator);
+    }
+
     public void visitWhileConditionBegin(boolean do_first) {
         result_.append("while condition:");
         result_.append(do_first);
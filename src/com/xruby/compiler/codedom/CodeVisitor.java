@@ -8,6 +8,7 @@ package com.xruby.compiler.codedom;
 import org.objectweb.asm.Label;
 
 import java.math.BigInteger;
+import java.util.List;
 
 interface ISymbolTable {
 	public boolean isDefinedInCurrentScope(String name);
@@ -70,7 +71,8 @@ public interface CodeVisitor extends ISymbolTable {
 	public void visitStringExpressionWithExpressionSubstitution(String value);
 	public void visitStringExpressionWithExpressionSubstitution();
 	public void visitStringExpressionWithExpressionSubstitutionEnd();
-	public void visitRegexpExpressionWithExpressionSubstitutionEnd(String option);
+	public Object visitRegexpExpressionWithExpressionSubstitutionBegin(String option);
+	public void visitRegexpExpressionWithExpressionSubstitutionEnd(String option, Object var);
 	public void visitCommandOutputExpressionWithExpressionSubstitutionEnd();
 	
 	public String visitMethodDefinition(String methodName, int num_of_args, boolean has_asterisk_parameter, int num_of_default_args, boolean is_singleton_method);
@@ -150,6 +152,18 @@ public interface CodeVisitor extends ISymbolTable {
 	public void visitWhileConditionEnd(boolean always_true, boolean is_until);
 	public void visitWhileBodyEnd(boolean has_body);
 
+	//returns false if numeric loops are not supported
+	public boolean visitNumericLoopBegin(List<String> variables, List<String> float_variables, List<String> assigned_variables);
+	public void visitNumericLoopConditionEnd(String operator, boolean is_until);
+	public void visitNumericLoopBodyEnd();
+	public void visitNumericLoopResume();
+	public void visitNumericLoopEnd();
+	public void visitNumericFixnumExpression(int value);
+	public void visitNumericFloatExpression(double value);
+	public void visitNumericLocalVariableExpression(String name);
+	public void visitNumericLocalVariableAssignment(String name);
+	public void visitNumericBinaryOperator(String operator);
+
     public int visitBlockBegin(StringBuilder name, boolean pulled);
 	public void visitBlockBodyBegin(String name, int num_of_args, boolean has_asterisk_parameter, int num_of_default_args, boolean is_for_in_expression, boolean has_extra_comma_, boolean has_body);
 	public void visitBlockBodyEnd(String name, boolean last_statement_has_return_value, int saved_as_pulled);
@@ -94,6 +94,27 @@ public class CompoundStatement implements Visitable {
         }
     }
 
+    /// Returns null unless every statement is a numeric assignment like 'i += 1'
+    List<AssignmentOperatorExpression> getNumericAssignments(ISymbolTable symboltable, ArrayList<String> variables) {
+        if (null != beginblocks_ || null != endblocks_ || statements_.isEmpty()) {
+            return null;
+        }
+
+        List<AssignmentOperatorExpression> result = new ArrayList<AssignmentOperatorExpression>();
+        for (Statement s : statements_) {
+            if (!(s instanceof ExpressionStatement)) {
+                return null;
+            }
+
+            Expression e = ((ExpressionStatement)s).getExpression();
+            if (!(e instanceof AssignmentOperatorExpression) || !e.isNumeric(symboltable, variables)) {
+                return null;
+            }
+            result.add((AssignmentOperatorExpression)e);
+        }
+        return result;
+    }
+
     void pullBlock(ArrayList<Block> result) {
         for (Statement s : statements_) {
             s.pullBlock(result);
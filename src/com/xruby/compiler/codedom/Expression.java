@@ -6,6 +6,7 @@
 package com.xruby.compiler.codedom;
 
 import java.util.ArrayList;
+import java.util.List;
 
 public abstract class Expression implements Visitable {
 	protected int position;
@@ -52,6 +53,28 @@ public abstract class Expression implements Visitable {
 		//Default behavior is do nothing
 	}
 
+	/// Used for optimazation of numeric loops (see WhileExpression): returns
+	/// true if the expression only does Fixnum/Float arithmetic on local variables
+	/// and literals. Variables used are added to 'variables'.
+	boolean isNumeric(ISymbolTable symboltable, ArrayList<String> variables) {
+		return false;
+	}
+
+	/// For numeric expressions: returns true if the result is a Float
+	boolean isFloat(List<String> float_variables) {
+		return false;
+	}
+
+	/// For numeric expressions: adds variables which are (guessed to be) Float
+	/// to 'float_variables'. Called repeatedly until nothing is added.
+	void inferFloatVariables(List<String> float_variables, List<String> assigned_variables) {
+		//Default behavior is do nothing
+	}
+
+	void acceptAsNumeric(CodeVisitor visitor) {
+		throw new Error("Not a numeric expression");
+	}
+
 
 	public void setPosition(int position) {
 		this.position = position;
@@ -5,6 +5,9 @@
 
 package com.xruby.compiler.codedom;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class FloatExpression extends Expression {
 	private double value_;
 
@@ -15,5 +18,17 @@ public class FloatExpression extends Expression {
 	public void accept(CodeVisitor visitor) {
 		visitor.visitFloatExpression(value_);
 	}
+
+	boolean isNumeric(ISymbolTable symboltable, ArrayList<String> variables) {
+		return true;
+	}
+
+	boolean isFloat(List<String> float_variables) {
+		return true;
+	}
+
+	void acceptAsNumeric(CodeVisitor visitor) {
+		visitor.visitNumericFloatExpression(value_);
+	}
 }
 
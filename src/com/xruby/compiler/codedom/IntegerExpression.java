@@ -38,6 +38,14 @@ public class IntegerExpression extends Expression {
 		}
 	}
 
+	boolean isNumeric(ISymbolTable symboltable, ArrayList<String> variables) {
+		return value_.compareTo(FIXNUM_MIN) >= 0 && value_.compareTo(FIXNUM_MAX) <= 0;
+	}
+
+	void acceptAsNumeric(CodeVisitor visitor) {
+		visitor.visitNumericFixnumExpression(value_.intValue());
+	}
+
 	public void getFrequentlyUsedIntegers(ArrayList<Integer> result) {
 		if (value_.compareTo(FIXNUM_MIN) >= 0 && value_.compareTo(FIXNUM_MAX) <= 0) {
 			result.add(value_.intValue());
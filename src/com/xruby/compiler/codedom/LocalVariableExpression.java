@@ -6,6 +6,7 @@
 package com.xruby.compiler.codedom;
 
 import java.util.ArrayList;
+import java.util.List;
 
 import antlr.RecognitionException;
 
@@ -65,4 +66,23 @@ public class LocalVariableExpression extends ParameterVariableExpression {
         //Do nothing
     }
 
+    boolean isNumeric(ISymbolTable symboltable, ArrayList<String> variables) {
+        if (!symboltable.isDefinedInCurrentScope(value_)) {
+            return false;
+        }
+
+        if (!variables.contains(value_)) {
+            variables.add(value_);
+        }
+        return true;
+    }
+
+    boolean isFloat(List<String> float_variables) {
+        return float_variables.contains(value_);
+    }
+
+    void acceptAsNumeric(CodeVisitor visitor) {
+        visitor.visitNumericLocalVariableExpression(value_);
+    }
+
 }
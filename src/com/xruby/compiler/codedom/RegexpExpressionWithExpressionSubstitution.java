@@ -23,6 +23,7 @@ public class RegexpExpressionWithExpressionSubstitution extends ExpressionWithEx
 
     public void accept(CodeVisitor visitor) {
 
+        Object var = visitor.visitRegexpExpressionWithExpressionSubstitutionBegin(option_);
         visitor.visitStringExpressionWithExpressionSubstitutionBegin();
 
         for (Object o : stmts_) {
@@ -45,7 +46,7 @@ public class RegexpExpressionWithExpressionSubstitution extends ExpressionWithEx
             }
         }
 
-        visitor.visitRegexpExpressionWithExpressionSubstitutionEnd(option_);
+        visitor.visitRegexpExpressionWithExpressionSubstitutionEnd(option_, var);
     }
 
 }
@@ -6,6 +6,7 @@
 package com.xruby.compiler.codedom;
 
 import java.util.ArrayList;
+import java.util.List;
 
 public class WhileExpression extends Expression {
     private final Expression condition_;
@@ -33,7 +34,85 @@ public class WhileExpression extends Expression {
         }
     }
 
+    private static boolean isComparison(String operator) {
+        return operator.equals("<") || operator.equals("<=") ||
+            operator.equals(">") || operator.equals(">=") ||
+            operator.equals("==") || operator.equals("!=");
+    }
+
+    //Loops like 'while i < n; i += 1; end', which only do Fixnum/Float arithmetic
+    //on local variables, are compiled twice: first a version working on unboxed
+    //values, then the normal one, which is used if the guard of the first one
+    //fails or a value does not fit into a Fixnum.
+    private boolean acceptAsNumericLoop(CodeVisitor visitor) {
+        if (do_first_ || null == body_ || !(condition_ instanceof BinaryOperatorExpression)) {
+            return false;
+        }
+
+        BinaryOperatorExpression condition = (BinaryOperatorExpression)condition_;
+        ArrayList<String> variables = new ArrayList<String>();
+        if (!isComparison(condition.operator_) ||
+                !condition.left_.isNumeric(visitor, variables) ||
+                !condition.right_.isNumeric(visitor, variables)) {
+            return false;
+        }
+
+        List<AssignmentOperatorExpression> assignments = body_.getNumericAssignments(visitor, variables);
+        if (null == assignments) {
+            return false;
+        }
+
+        ArrayList<String> assigned_variables = new ArrayList<String>();
+        for (AssignmentOperatorExpression assignment : assignments) {
+            String name = ((LocalVariableExpression)assignment.getLhs()).getValue();
+            if (!assigned_variables.contains(name)) {
+                assigned_variables.add(name);
+            }
+        }
+
+        List<String> float_variables = inferFloatVariables(condition, assignments, assigned_variables);
+        if (null == float_variables ||
+                !visitor.visitNumericLoopBegin(variables, float_variables, assigned_variables)) {
+            return false;
+        }
+
+        condition.left_.acceptAsNumeric(visitor);
+        condition.right_.acceptAsNumeric(visitor);
+        visitor.visitNumericLoopConditionEnd(condition.operator_, is_until_);
+        for (AssignmentOperatorExpression assignment : assignments) {
+            assignment.acceptAsNumeric(visitor);
+        }
+        visitor.visitNumericLoopBodyEnd();
+        return true;
+    }
+
+    //Variables assigned a Float are Float, read-only variables are guessed to be
+    //Float if they are combined with a Float. The guard of the loop checks the
+    //guess. Returns null if a Float variable may become a Fixnum again.
+    private static List<String> inferFloatVariables(BinaryOperatorExpression condition,
+            List<AssignmentOperatorExpression> assignments, List<String> assigned_variables) {
+        ArrayList<String> float_variables = new ArrayList<String>();
+        int size;
+        do {
+            size = float_variables.size();
+            condition.inferFloatVariables(float_variables, assigned_variables);
+            for (AssignmentOperatorExpression assignment : assignments) {
+                assignment.inferFloatVariables(float_variables, assigned_variables);
+            }
+        } while (size != float_variables.size());
+
+        for (AssignmentOperatorExpression assignment : assignments) {
+            if (assignment.getLhs().isFloat(float_variables) &&
+                    !assignment.getRhs().isFloat(float_variables)) {
+                return null;
+            }
+        }
+        return float_variables;
+    }
+
     public void accept(CodeVisitor visitor) {
+        boolean numeric_loop = acceptAsNumericLoop(visitor);
+
         //We used to generate code for body first, then condition (javac does this as well, it will help to create a little more efficient code).
         //But later we changed it back, because local variable may be first assigned in while expression's condition,  and we are replying
         //codegen backend to to maintain a symbol table -- so we should not change the consequence of visiting.
@@ -49,6 +128,10 @@ public class WhileExpression extends Expression {
         }
 
         visitor.visitWhileConditionBegin(do_first_);
+        if (numeric_loop) {
+            visitor.visitNumericLoopResume();
+        }
+
         boolean always_true = conditionIsAlwayTrue(condition_);
         if (!always_true) {
             condition_.accept(visitor);
@@ -60,6 +143,9 @@ public class WhileExpression extends Expression {
         }
 
         visitor.visitWhileBodyEnd(null != body_);
+        if (numeric_loop) {
+            visitor.visitNumericLoopEnd();
+        }
     }
 
     void pullBlock(ArrayList<Block> result) {
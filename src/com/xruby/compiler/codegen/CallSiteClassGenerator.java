@@ -0,0 +1,267 @@
+/**
+ * Copyright 2007 Xue Yong Zhi, Ye Zheng
+ * Distributed under the Apache License
+ */
+
+package com.xruby.compiler.codegen;
+
+import java.lang.invoke.MethodHandle;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.commons.GeneratorAdapter;
+import org.objectweb.asm.commons.Method;
+
+import com.xruby.runtime.lang.DynamicCallSite;
+
+/**
+ * Generates the classes holding the inline caches (com.xruby.runtime.lang.CallSite)
+ * of a script. Every method call gets its own static field, unlike the RubyIDs
+ * in RubyIDClassGenerator which are shared by name. The same is done for
+ * instance variable accesses (com.xruby.runtime.lang.InstanceVariableSite),
+ * regexp literals (com.xruby.runtime.builtin.RegexpSite) and constant
+ * references (com.xruby.runtime.lang.ConstantSite). Global variables get one
+ * field per name holding their com.xruby.runtime.lang.GlobalVariableSlot.
+ *
+ * With method handle dispatch (CgConfig.isMethodHandleDispatch()) the container
+ * holds a com.xruby.runtime.lang.DynamicCallSite invoker per call instead, plus
+ * a static method "site<N>" calling it with invokeExact.
+ */
+public class CallSiteClassGenerator {
+    //keep <clinit> of each container well below the 64K code size limit
+    private static final int SITES_PER_CLASS = 1024;
+
+    private static final Type METHOD_HANDLE_TYPE = Type.getType(MethodHandle.class);
+
+    private static final Type[][] ARGUMENT_TYPES = {
+        {Types.RUBY_VALUE_TYPE, Types.RUBY_BLOCK_TYPE},
+        {Types.RUBY_VALUE_TYPE, Types.RUBY_VALUE_TYPE, Types.RUBY_BLOCK_TYPE},
+        {Types.RUBY_VALUE_TYPE, Types.RUBY_VALUE_TYPE, Types.RUBY_VALUE_TYPE, Types.RUBY_BLOCK_TYPE},
+        {Types.RUBY_VALUE_TYPE, Types.RUBY_ARRAY_TYPE, Types.RUBY_BLOCK_TYPE},
+    };
+
+    private static final int INSTANCE_VARIABLE_SITE = -2;
+    private static final int REGEXP_SITE = -3;
+    private static final int CONSTANT_SITE = -4;
+    private static final int GLOBAL_VARIABLE_SITE = -5;
+
+    private static class Site {
+        final String name;
+        final int kind;
+        final boolean public_only;
+        final String option;//for REGEXP_SITE
+
+        Site(String name, int kind, boolean public_only) {
+            this(name, kind, public_only, null);
+        }
+
+        Site(String name, int kind, boolean public_only, String option) {
+            this.name = name;
+            this.kind = kind;
+            this.public_only = public_only;
+            this.option = option;
+        }
+    }
+
+    private static String CallSiteClassName;
+    private static boolean methodHandleDispatch;
+    private static List<Site> sites = new ArrayList<Site>();
+    private static Map<String, Integer> global_variable_sites = new HashMap<String, Integer>();
+
+    public static void initScript(String extra, String script_name) {
+        CallSiteClassName = NameFactory.createClassNameForCallSiteContainer(extra, script_name);
+        methodHandleDispatch = CgConfig.isMethodHandleDispatch();
+        sites.clear();
+        global_variable_sites.clear();
+    }
+
+    public static boolean isMethodHandleDispatch() {
+        return methodHandleDispatch;
+    }
+
+    private static String getClassName(int index) {
+        int n = index / SITES_PER_CLASS;
+        return (0 == n) ? CallSiteClassName : CallSiteClassName + n;
+    }
+
+    public static void getField(GeneratorAdapter mg, String method_name) {
+        int index = sites.size();
+        sites.add(new Site(method_name, -1, false));
+        mg.getStatic(Type.getType("L" + getClassName(index) + ";"), "site" + index, Types.CALL_SITE_TYPE);
+    }
+
+    public static void getInstanceVariableSite(GeneratorAdapter mg, String name) {
+        int index = sites.size();
+        sites.add(new Site(name, INSTANCE_VARIABLE_SITE, false));
+        mg.getStatic(Type.getType("L" + getClassName(index) + ";"), "site" + index, Types.INSTANCE_VARIABLE_SITE_TYPE);
+    }
+
+    public static void getConstantSite(GeneratorAdapter mg, String name) {
+        int index = sites.size();
+        sites.add(new Site(name, CONSTANT_SITE, false));
+        mg.getStatic(Type.getType("L" + getClassName(index) + ";"), "site" + index, Types.CONSTANT_SITE_TYPE);
+    }
+
+    public static void getGlobalVariableSlot(GeneratorAdapter mg, String name) {
+        Integer index = global_variable_sites.get(name);
+        if (null == index) {
+            index = sites.size();
+            sites.add(new Site(name, GLOBAL_VARIABLE_SITE, false));
+            global_variable_sites.put(name, index);
+        }
+        mg.getStatic(Type.getType("L" + getClassName(index) + ";"), "site" + index, Types.GLOBAL_VARIABLE_SLOT_TYPE);
+    }
+
+    /**
+     * @param value null for a regexp with expression substitution (and option 'o')
+     * @return index of the new site, for getRegexpSite
+     */
+    public static int addRegexpSite(String value, String option) {
+        sites.add(new Site(value, REGEXP_SITE, false, option));
+        return sites.size() - 1;
+    }
+
+    public static void getRegexpSite(GeneratorAdapter mg, int index) {
+        mg.getStatic(Type.getType("L" + getClassName(index) + ";"), "site" + index, Types.REGEXP_SITE_TYPE);
+    }
+
+    /**
+     * Emits a call to the DynamicCallSite for method_name, the receiver, the
+     * arguments (as given by kind) and the block should be on the stack already.
+     */
+    public static void invokeSite(GeneratorAdapter mg, String method_name, int kind, boolean public_only) {
+        int index = sites.size();
+        sites.add(new Site(method_name, kind, public_only));
+        mg.invokeStatic(Type.getType("L" + getClassName(index) + ";"),
+                new Method("site" + index, Types.RUBY_VALUE_TYPE, ARGUMENT_TYPES[kind]));
+    }
+
+    private static byte[] visitClass(int begin, int end) {
+        return methodHandleDispatch ? visitDynamicClass(begin, end) : visitCallSiteClass(begin, end);
+    }
+
+    private static void visitStaticSite(ClassWriter cw, GeneratorAdapter staticBlockMg, Type type, int index) {
+        Site site = sites.get(index);
+        Type site_type;
+        if (INSTANCE_VARIABLE_SITE == site.kind) {
+            site_type = Types.INSTANCE_VARIABLE_SITE_TYPE;
+        } else if (REGEXP_SITE == site.kind) {
+            site_type = Types.REGEXP_SITE_TYPE;
+        } else if (CONSTANT_SITE == site.kind) {
+            site_type = Types.CONSTANT_SITE_TYPE;
+        } else if (GLOBAL_VARIABLE_SITE == site.kind) {
+            site_type = Types.GLOBAL_VARIABLE_SLOT_TYPE;
+        } else {
+            site_type = Types.CALL_SITE_TYPE;
+        }
+        cw.visitField(Opcodes.ACC_PUBLIC + Opcodes.ACC_STATIC + Opcodes.ACC_FINAL, "site" + index,
+                site_type.getDescriptor(), null, null);
+
+        if (GLOBAL_VARIABLE_SITE == site.kind) {
+            staticBlockMg.push(site.name);
+            staticBlockMg.invokeStatic(Types.GLOBAL_VARIABLES_TYPE,
+                    Method.getMethod("com.xruby.runtime.lang.GlobalVariableSlot getSlot(String)"));
+            staticBlockMg.putStatic(type, "site" + index, site_type);
+            return;
+        }
+
+        staticBlockMg.newInstance(site_type);
+        staticBlockMg.dup();
+        staticBlockMg.push(site.name);
+        if (REGEXP_SITE == site.kind) {
+            staticBlockMg.push(site.option);
+            staticBlockMg.invokeConstructor(site_type,
+                    Method.getMethod("void <init> (String, String)"));
+        } else {
+            staticBlockMg.invokeConstructor(site_type,
+                    Method.getMethod("void <init> (String)"));
+        }
+        staticBlockMg.putStatic(type, "site" + index, site_type);
+    }
+
+    private static byte[] visitCallSiteClass(int begin, int end) {
+        String name = getClassName(begin);
+        Type type = Type.getType("L" + name + ";");
+
+        ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        cw.visit(CgConfig.TARGET_VERSION, Opcodes.ACC_PUBLIC, name, null, "java/lang/Object", null);
+        Method staticBlock = Method.getMethod("void <clinit> ()V");
+        GeneratorAdapter staticBlockMg = new GeneratorAdapter(Opcodes.ACC_STATIC, staticBlock, null, null, cw);
+
+        for (int i = begin; i < end; ++i) {
+            visitStaticSite(cw, staticBlockMg, type, i);
+        }
+
+        staticBlockMg.returnValue();
+        staticBlockMg.endMethod();
+        cw.visitEnd();
+
+        return cw.toByteArray();
+    }
+
+    private static byte[] visitDynamicClass(int begin, int end) {
+        String name = getClassName(begin);
+        Type type = Type.getType("L" + name + ";");
+        Type dynamic_call_site_type = Type.getType(DynamicCallSite.class);
+
+        ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        cw.visit(CgConfig.METHOD_HANDLE_TARGET_VERSION, Opcodes.ACC_PUBLIC, name, null, "java/lang/Object", null);
+        Method staticBlock = Method.getMethod("void <clinit> ()V");
+        GeneratorAdapter staticBlockMg = new GeneratorAdapter(Opcodes.ACC_STATIC, staticBlock, null, null, cw);
+
+        for (int i = begin; i < end; ++i) {
+            Site site = sites.get(i);
+            if (site.kind < 0) {//not a method call
+                visitStaticSite(cw, staticBlockMg, type, i);
+                continue;
+            }
+
+            cw.visitField(Opcodes.ACC_PRIVATE + Opcodes.ACC_STATIC + Opcodes.ACC_FINAL, "invoker" + i,
+                    METHOD_HANDLE_TYPE.getDescriptor(), null, null);
+
+            staticBlockMg.newInstance(dynamic_call_site_type);
+            staticBlockMg.dup();
+            staticBlockMg.push(site.name);
+            staticBlockMg.push(site.kind);
+            staticBlockMg.push(site.public_only);
+            staticBlockMg.invokeConstructor(dynamic_call_site_type,
+                    Method.getMethod("void <init> (String, int, boolean)"));
+            staticBlockMg.invokeVirtual(dynamic_call_site_type,
+                    Method.getMethod("java.lang.invoke.MethodHandle dynamicInvoker()"));
+            staticBlockMg.putStatic(type, "invoker" + i, METHOD_HANDLE_TYPE);
+
+            Method invoke = new Method("site" + i, Types.RUBY_VALUE_TYPE, ARGUMENT_TYPES[site.kind]);
+            GeneratorAdapter mg = new GeneratorAdapter(Opcodes.ACC_PUBLIC + Opcodes.ACC_STATIC, invoke, null, null, cw);
+            mg.getStatic(type, "invoker" + i, METHOD_HANDLE_TYPE);
+            mg.loadArgs();
+            mg.invokeVirtual(METHOD_HANDLE_TYPE, new Method("invokeExact", invoke.getDescriptor()));
+            mg.returnValue();
+            mg.endMethod();
+        }
+
+        staticBlockMg.returnValue();
+        staticBlockMg.endMethod();
+        cw.visitEnd();
+
+        return cw.toByteArray();
+    }
+
+    public static CompilationResults getCompilationResults() {
+        CompilationResults results = new CompilationResults();
+        for (int begin = 0; begin < sites.size(); begin += SITES_PER_CLASS) {
+            int end = Math.min(begin + SITES_PER_CLASS, sites.size());
+            results.add(new CompilationResult(getClassName(begin), visitClass(begin, end)));
+        }
+        for (Site site : sites) {
+            if (REGEXP_SITE == site.kind && null == site.name) {
+                results.setReusable(false);
+            }
+        }
+        return results;
+    }
+}
@@ -3,7 +3,21 @@ package com.xruby.compiler.codegen;
 import org.objectweb.asm.Opcodes;
 
 public class CgConfig {
-	public static final int TARGET_VERSION = Opcodes.V1_5;
-	
+	public static final int TARGET_VERSION = Opcodes.V1_6;
+
+	//call site containers use MethodHandle.invokeExact, which needs Java 7 class files
+	public static final int METHOD_HANDLE_TARGET_VERSION = Opcodes.V1_6 + 1;
+
+	//opt-in: dispatch method calls through com.xruby.runtime.lang.DynamicCallSite
+	private static boolean methodHandleDispatch = Boolean.getBoolean("xruby.method_handles");
+
+	public static boolean isMethodHandleDispatch() {
+		return methodHandleDispatch;
+	}
+
+	public static void setMethodHandleDispatch(boolean enabled) {
+		methodHandleDispatch = enabled;
+	}
+
 	private CgConfig() {}
 }
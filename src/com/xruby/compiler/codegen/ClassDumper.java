@@ -16,6 +16,13 @@ public class ClassDumper {
 		}
 	}
 	
+	/**
+	 * @return true if generated classes are saved (-Dxruby.method.dump=true)
+	 */
+	public static boolean isEnabled() {
+		return dump;
+	}
+	
 	public void dump(String classname, byte[] contents) {
 		if (dump) {
 			try {
@@ -5,9 +5,7 @@
 
 package com.xruby.compiler.codegen;
 
-import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
-import org.objectweb.asm.commons.Method;
 
 class ClassGeneratorForNoArgRubyMethod extends ClassGeneratorForRubyMethod {
 	public ClassGeneratorForNoArgRubyMethod(String method_name, String fileName, String name, int argc, boolean has_asterisk_parameter, int default_argc, boolean is_singleton_method) {
@@ -19,6 +17,10 @@ class ClassGeneratorForNoArgRubyMethod extends ClassGeneratorForRubyMethod {
 		return "com/xruby/runtime/lang/RubyNoArgMethod";
 	}
 
+	protected boolean isBodyInInvoke() {
+		return true;
+	}
+
 	public String getRunMethodName() {
 		return "com.xruby.runtime.lang.RubyValue run(com.xruby.runtime.lang.RubyValue, com.xruby.runtime.lang.RubyBlock)";
 	}
@@ -43,8 +45,8 @@ class ClassGeneratorForNoArgRubyMethod extends ClassGeneratorForRubyMethod {
 	}
 
 	protected MethodGenerator createMethodGenerator() {
-		return new MethodGenerator(Opcodes.ACC_PROTECTED,
-				Method.getMethod(this.getRunMethodName()),
+		return new MethodGenerator(getBodyMethodAccess(),
+				getBodyMethod(),
 				cv_,
 				null,
 				null,
@@ -17,6 +17,10 @@ class ClassGeneratorForOneArgRubyMethod extends ClassGeneratorForRubyMethod {
         return "com/xruby/runtime/lang/RubyOneArgMethod";
     }
 
+    protected boolean isBodyInInvoke() {
+        return true;
+    }
+
     public String getRunMethodName() {
         return "com.xruby.runtime.lang.RubyValue run(com.xruby.runtime.lang.RubyValue, com.xruby.runtime.lang.RubyValue, com.xruby.runtime.lang.RubyBlock)";
     }
@@ -26,6 +26,7 @@ abstract class ClassGeneratorForRubyMethod extends ClassGenerator {
         method_name_ = method_name;
         is_singleton_method_ = is_singleton_method;
         mg_for_run_method_ = visitRubyMethod(argc, has_asterisk_parameter, default_argc);
+        mg_for_run_method_.initFrame();
 
         // set source file's name, for debug
         if (null != fileName) {
@@ -51,17 +52,56 @@ abstract class ClassGeneratorForRubyMethod extends ClassGenerator {
                 );
 
         createCtorForRubyMethod(argc, has_asterisk_parameter, default_argc);
+        if (isBodyInInvoke()) {
+            createRunMethodForInvoke();
+        }
 
         return createMethodGenerator();
     }
 
-    protected MethodGenerator createMethodGenerator() {
-        return new MethodGenerator(Opcodes.ACC_PROTECTED,
+    /**
+     * Methods with a fixed number of parameters (RubyOneArgMethod etc.) never
+     * need the argument checking of RubyMethod.invoke(), so their body is
+     * generated as invoke() itself, and run() only forwards to it. This saves
+     * a java frame for every ruby call, which matters for deep recursion.
+     */
+    protected boolean isBodyInInvoke() {
+        return false;
+    }
+
+    protected int getBodyMethodAccess() {
+        return isBodyInInvoke() ? Opcodes.ACC_PUBLIC : Opcodes.ACC_PROTECTED;
+    }
+
+    protected Method getBodyMethod() {
+        Method run = Method.getMethod(this.getRunMethodName());
+        if (isBodyInInvoke()) {
+            return new Method("invoke", run.getDescriptor());
+        }
+        return run;
+    }
+
+    private void createRunMethodForInvoke() {
+        MethodGenerator mg = new MethodGenerator(Opcodes.ACC_PROTECTED,
                 Method.getMethod(this.getRunMethodName()),
                 cv_,
                 null,
                 null,
                 false);
+        mg.loadThis();
+        mg.loadArgs();
+        mg.invokeVirtual(Type.getType("L" + name_ + ";"), getBodyMethod());
+        mg.returnValue();
+        mg.endMethod();
+    }
+
+    protected MethodGenerator createMethodGenerator() {
+        return new MethodGenerator(getBodyMethodAccess(),
+                getBodyMethod(),
+                cv_,
+                null,
+                null,
+                false);
     }
 
     private void createCtorForRubyMethod(int argc, boolean has_asterisk_parameter, int default_argc) {
@@ -18,6 +18,7 @@ class ClassGeneratorForRubyProgram extends ClassGenerator {
         this.fileName = fileName;
         this.binding = binding;
         mg_for_run_method_ = startRubyProgram(create_main, is_singleton);
+        mg_for_run_method_.initFrame();
     }
 
     public String getFileName() {
@@ -1,8 +1,6 @@
 package com.xruby.compiler.codegen;
 
-import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
-import org.objectweb.asm.commons.Method;
 
 public class ClassGeneratorForTwoArgRubyMethod extends ClassGeneratorForRubyMethod {
 	public ClassGeneratorForTwoArgRubyMethod(String method_name, String fileName, String name, int argc, boolean has_asterisk_parameter, int default_argc, boolean is_singleton_method) {
@@ -13,6 +11,10 @@ public class ClassGeneratorForTwoArgRubyMethod extends ClassGeneratorForRubyMeth
 	public String getSuperName() {
 		return "com/xruby/runtime/lang/RubyTwoArgMethod";
 	}
+
+	protected boolean isBodyInInvoke() {
+		return true;
+	}
 	
 	public String getRunMethodName() {
 		return "com.xruby.runtime.lang.RubyValue run(com.xruby.runtime.lang.RubyValue, com.xruby.runtime.lang.RubyValue, com.xruby.runtime.lang.RubyValue, com.xruby.runtime.lang.RubyBlock)";
@@ -40,8 +42,8 @@ public class ClassGeneratorForTwoArgRubyMethod extends ClassGeneratorForRubyMeth
 	}
 	
 	protected MethodGenerator createMethodGenerator() {
-		return new MethodGenerator(Opcodes.ACC_PROTECTED,
-				Method.getMethod(this.getRunMethodName()),
+		return new MethodGenerator(getBodyMethodAccess(),
+				getBodyMethod(),
 				cv_,
 				null,
 				null,
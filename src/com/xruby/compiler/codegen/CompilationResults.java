@@ -32,11 +32,25 @@ class CompilationResult {
     public Class load(XRubyClassLoader loader) {
         return loader.load(name_, code_);
     }
+
+    public void write(DataOutputStream out) throws IOException {
+        out.writeUTF(name_);
+        out.writeInt(code_.length);
+        out.write(code_);
+    }
+
+    public static CompilationResult read(DataInputStream in) throws IOException {
+        String name = in.readUTF();
+        byte[] code = new byte[in.readInt()];
+        in.readFully(code);
+        return new CompilationResult(name, code);
+    }
 }
 
 public class CompilationResults {
 
     private final List<CompilationResult> results_ = new ArrayList<CompilationResult>();
+    private boolean reusable_ = true;
 
     public void add(CompilationResult result) {
         results_.add(result);
@@ -46,12 +60,46 @@ public class CompilationResults {
     	for (CompilationResult result : results.results_) {
     		this.results_.add(result);
     	}
+    	reusable_ = reusable_ && results.reusable_;
+    }
+
+    /*
+     * A program with /#{...}/o keeps the regexp in a static field (see
+     * RegexpSite), so running it again needs newly loaded classes.
+     */
+    public boolean isReusable() {
+        return reusable_;
+    }
+
+    public void setReusable(boolean reusable) {
+        reusable_ = reusable;
     }
 
     public int size() {
         return results_.size();
     }
 
+    /*
+     * Writes the classes in a simple binary format, see read().
+     */
+    public void write(DataOutputStream out) throws IOException {
+        out.writeBoolean(reusable_);
+        out.writeInt(results_.size());
+        for (CompilationResult result : results_) {
+            result.write(out);
+        }
+    }
+
+    public static CompilationResults read(DataInputStream in) throws IOException {
+        CompilationResults results = new CompilationResults();
+        results.reusable_ = in.readBoolean();
+        int size = in.readInt();
+        for (int i = 0; i < size; ++i) {
+            results.add(CompilationResult.read(in));
+        }
+        return results;
+    }
+
     public void save(String script_name) throws FileNotFoundException, IOException {
         String targetFileName = NameFactory.createJarFileName(script_name);
 		File targetFile = new File(targetFileName);
@@ -98,6 +146,14 @@ public class CompilationResults {
      * @return an instance of RubyProgram.
      */
     public RubyProgram getRubyProgram() throws InstantiationException, IllegalAccessException {
+        return (RubyProgram)getRubyProgramClass().newInstance();
+    }
+
+    /*
+     * Loads all the classes with a new class loader.
+     * @return class of the RubyProgram.
+     */
+    public Class getRubyProgramClass() {
         XRubyClassLoader loader = new XRubyClassLoader();
         Class classToRun = null;
         for (CompilationResult result : results_) {
@@ -105,6 +161,20 @@ public class CompilationResults {
         }
 
         //The "main program" is always the last one.
-        return (RubyProgram)classToRun.newInstance();
+        return classToRun;
+    }
+
+    /*
+     * Like getRubyProgramClass, but also links and initializes every class, so
+     * that code which does not fit the runtime fails here (with a LinkageError)
+     * rather than in the middle of the program.
+     */
+    public Class<?> linkRubyProgramClass() throws ClassNotFoundException {
+        XRubyClassLoader loader = new XRubyClassLoader();
+        Class<?> classToRun = null;
+        for (CompilationResult result : results_) {
+            classToRun = Class.forName(result.load(loader).getName(), true, loader);
+        }
+        return classToRun;
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -16,6 +16,7 @@ import org.objectweb.asm.commons.Method;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.List;
 
@@ -28,6 +29,8 @@ class MethodGenerator extends GeneratorAdapter {
     private final boolean is_singleton_;
     private final LabelManager label_manager_ = new LabelManager();
     private final EnsureLabelManager ensure_label_manager_ = new EnsureLabelManager();
+    private Label body_begin_;
+    private int frame_ = -1;//local holding the RubyFrame, see initFrame()
 
     public MethodGenerator(final int arg0, final Method arg1, final ClassVisitor cv, RubyBinding binding, SymbolTable st, boolean is_singleton) {
         super(arg0, arg1, null, null, cv);
@@ -39,12 +42,65 @@ class MethodGenerator extends GeneratorAdapter {
         }
         is_singleton_ = is_singleton;
         visitCode();
+        body_begin_ = mark();
     }
 
     public SymbolTable getSymbolTable() {
            return symbol_table_;
     }
 
+    /**
+     * Run methods of methods, programs and class bodies keep their RubyFrame
+     * in a local, which stays null until the first block is created.
+     */
+    void initFrame() {
+        frame_ = newLocal(Types.RUBY_FRAME_TYPE);
+        pushNull();
+        storeLocal(frame_);
+        //the exception handlers of catchProcReturn read the local
+        body_begin_ = mark();
+    }
+
+    //the frame blocks created here belong to, created on first use
+    private void loadFrameForNewBlock(boolean is_in_block) {
+        if (is_in_block) {
+            loadThis();
+            RubyBlock_getFrame();
+            return;
+        } else if (frame_ < 0) {
+            pushNull();
+            return;
+        }
+
+        Label created = new Label();
+        loadLocal(frame_);
+        ifNonNull(created);
+        newInstance(Types.RUBY_FRAME_TYPE);
+        dup();
+        invokeConstructor(Types.RUBY_FRAME_TYPE, CgUtil.CONSTRUCTOR);
+        storeLocal(frame_);
+        mark(created);
+        loadLocal(frame_);
+    }
+
+    private void exitFrame() {
+        if (frame_ < 0) {
+            return;
+        }
+
+        Label no_frame = new Label();
+        loadLocal(frame_);
+        ifNull(no_frame);
+        loadLocal(frame_);
+        invokeVirtual(Types.RUBY_FRAME_TYPE, Method.getMethod("void exit()"));
+        mark(no_frame);
+    }
+
+    public void returnValue() {
+        exitFrame();
+        super.returnValue();
+    }
+
     public LabelManager getLabelManager() {
         return label_manager_;
     }
@@ -125,22 +181,59 @@ class MethodGenerator extends GeneratorAdapter {
         symbol_table_.addVariblesAssignedInBlock(block_name, i, assigned_commons);
     }
 
-    public void returnIfBlockReturned() {
-        dup();
-        invokeVirtual(Types.RUBY_VALUE_TYPE,
-                Method.getMethod("boolean returnedInBlock()"));
+    //Called after a method call with a block, 'return' inside the block
+    //should return from the current method (or block) as well.
+    public void returnIfBlockReturned(int block, boolean may_be_null, boolean is_in_block) {
         Label after_return = new Label();
+        if (may_be_null) {
+            loadLocal(block);
+            ifNull(after_return);
+        }
+        loadLocal(block);
+        invokeVirtual(Types.RUBY_BLOCK_TYPE,
+                Method.getMethod("boolean returned()"));
         ifZCmp(GeneratorAdapter.EQ, after_return);
+        if (is_in_block) {
+            RubyBlock__return__();
+        }
         returnValue();//TODO more error checking, may not in the method context
         mark(after_return);
-        /*TODO if it is going to return any way, should not not check.
-          Right now the code may look like:
-              if(!rubyvalue5.returnedInBlock()) goto _L2; else goto _L1
-              _L1:
-                      return;
-              _L2:
-                      return;
-          */
+    }
+
+    //'return' inside a Proc called by Proc#call, see ProcReturnException
+    public void catchProcReturn(boolean is_in_block) {
+        Label end = mark();
+        catchException(body_begin_, end, Types.PROC_RETURN_EXCEPTION_TYPE);
+        dup();
+        if (is_in_block) {
+            loadThis();
+            RubyBlock_getFrame();
+        } else if (frame_ >= 0) {
+            loadLocal(frame_);
+        } else {
+            pushNull();
+        }
+        invokeVirtual(Types.PROC_RETURN_EXCEPTION_TYPE,
+                Method.getMethod("boolean isReturnFrom(com.xruby.runtime.lang.RubyFrame)"));
+        Label return_from_here = new Label();
+        ifZCmp(GeneratorAdapter.NE, return_from_here);
+        throwException();
+
+        mark(return_from_here);
+        if (is_in_block) {
+            RubyBlock__return__();
+        }
+        invokeVirtual(Types.PROC_RETURN_EXCEPTION_TYPE,
+                Method.getMethod("com.xruby.runtime.lang.RubyValue getValue()"));
+        returnValue();
+
+        //returnValue() exits the frame, this does for anything thrown
+        if (frame_ >= 0) {
+            Label handler = mark();
+            visitTryCatchBlock(body_begin_, handler, handler, null);
+            exitFrame();
+            throwException();
+        }
     }
 
     public void store_asterisk_parameter_(Class c) {
@@ -255,6 +348,11 @@ class MethodGenerator extends GeneratorAdapter {
                 Method.getMethod("com.xruby.runtime.lang.RubyMethod getCurrentMethod()"));
     }
 
+    public void RubyBlock_getFrame() {
+        invokeVirtual(Types.RUBY_BLOCK_TYPE,
+                Method.getMethod("com.xruby.runtime.lang.RubyFrame getFrame()"));
+    }
+
     public void loadSelf(boolean is_in_block) {
         if (is_in_block) {
             RubyBlock_selfOfCurrentMethod_();
@@ -307,6 +405,10 @@ class MethodGenerator extends GeneratorAdapter {
         invokeConstructor(methodNameType,
                 Method.getMethod(ClassGeneratorForRubyBlock.buildContructorSignature()));
 
+        dup();
+        loadFrameForNewBlock(is_in_block);
+        invokeVirtual(Types.RUBY_BLOCK_TYPE,
+                Method.getMethod("void setFrame(com.xruby.runtime.lang.RubyFrame)"));
     }
 
     public void RubyArray_add(boolean is_method_call) {
@@ -421,10 +523,27 @@ class MethodGenerator extends GeneratorAdapter {
     }
 
     public void ObjectFactory_createRegexp(String value, String option) {
-        push(value);
-        push(option);
-        invokeStatic(Types.OBJECTFACTORY_TYPE,
-                Method.getMethod("com.xruby.runtime.builtin.RubyRegexp createRegexp(String, String)"));
+        CallSiteClassGenerator.getRegexpSite(this, CallSiteClassGenerator.addRegexpSite(value, option));
+        invokeVirtual(Types.REGEXP_SITE_TYPE,
+                Method.getMethod("com.xruby.runtime.builtin.RubyRegexp get()"));
+    }
+
+    /// Leaves the regexp of a /#{...}/o site on the stack and jumps to end if it has been created.
+    public void RegexpSite_getOnce(int site, Label end) {
+        CallSiteClassGenerator.getRegexpSite(this, site);
+        invokeVirtual(Types.REGEXP_SITE_TYPE,
+                Method.getMethod("com.xruby.runtime.builtin.RubyRegexp getOnce()"));
+        dup();
+        ifNonNull(end);
+        pop();
+    }
+
+    public void RegexpSite_setOnce(int site, Label end) {
+        CallSiteClassGenerator.getRegexpSite(this, site);
+        swap();
+        invokeVirtual(Types.REGEXP_SITE_TYPE,
+                Method.getMethod("com.xruby.runtime.builtin.RubyRegexp setOnce(com.xruby.runtime.builtin.RubyString)"));
+        mark(end);
     }
 
     public void ObjectFactory_createRegexp(String option) {
@@ -488,15 +607,16 @@ class MethodGenerator extends GeneratorAdapter {
             return;
         }
 
-        push(var);
-        invokeStatic(Types.GLOBAL_VARIABLES_TYPE,
-                Method.getMethod("com.xruby.runtime.lang.RubyValue set(com.xruby.runtime.lang.RubyValue, String)"));
+        CallSiteClassGenerator.getGlobalVariableSlot(this, var);
+        swap();
+        invokeVirtual(Types.GLOBAL_VARIABLE_SLOT_TYPE,
+                Method.getMethod("com.xruby.runtime.lang.RubyValue set(com.xruby.runtime.lang.RubyValue)"));
     }
 
     public void GlobalVatiables_get(String var) {
-        push(var);
-        invokeStatic(Types.GLOBAL_VARIABLES_TYPE,
-                Method.getMethod("com.xruby.runtime.lang.RubyValue get(String)"));
+        CallSiteClassGenerator.getGlobalVariableSlot(this, var);
+        invokeVirtual(Types.GLOBAL_VARIABLE_SLOT_TYPE,
+                Method.getMethod("com.xruby.runtime.lang.RubyValue get()"));
     }
 
     public void GlobalVariables_alias(String newName, String oldName) {
@@ -514,60 +634,89 @@ class MethodGenerator extends GeneratorAdapter {
         invokeVirtual(Types.RUBY_VALUE_TYPE, CgUtil.getMethod("isTrue", Type.BOOLEAN_TYPE));
     }
 
-    private void loadRubyID(String s) {
-        RubyIDClassGenerator.getField(this, s);
+    private void invokeCallSite(String methodName, int kind, boolean public_only, Method rubyAPIMethod) {
+        if (CallSiteClassGenerator.isMethodHandleDispatch()) {
+            CallSiteClassGenerator.invokeSite(this, methodName, kind, public_only);
+        } else {
+            CallSiteClassGenerator.getField(this, methodName);
+            invokeStatic(Types.RUBY_API_TYPE, rubyAPIMethod);
+        }
     }
 
+    private static final Method RubyAPICallPublicMethodMethod =
+        CgUtil.getMethod("callPublicMethod", Types.RUBY_VALUE_TYPE, Types.RUBY_VALUE_TYPE, Types.RUBY_ARRAY_TYPE, Types.RUBY_BLOCK_TYPE, Types.CALL_SITE_TYPE);
+    private static final Method RubyAPICallPublicNoArgMethodMethod =
+        CgUtil.getMethod("callPublicNoArgMethod", Types.RUBY_VALUE_TYPE, Types.RUBY_VALUE_TYPE, Types.RUBY_BLOCK_TYPE, Types.CALL_SITE_TYPE);
+    private static final Method RubyAPICallPublicOneArgMethodMethod =
+        CgUtil.getMethod("callPublicOneArgMethod", Types.RUBY_VALUE_TYPE, Types.RUBY_VALUE_TYPE, Types.RUBY_VALUE_TYPE, Types.RUBY_BLOCK_TYPE, Types.CALL_SITE_TYPE);
+    private static final Method RubyAPICallPublicTwoArgMethodMethod =
+        CgUtil.getMethod("callPublicTwoArgMethod", Types.RUBY_VALUE_TYPE, Types.RUBY_VALUE_TYPE, Types.RUBY_VALUE_TYPE, Types.RUBY_VALUE_TYPE, Types.RUBY_BLOCK_TYPE, Types.CALL_SITE_TYPE);
+    private static final Method RubyAPICallMethodMethod =
+        CgUtil.getMethod("callMethod", Types.RUBY_VALUE_TYPE, Types.RUBY_VALUE_TYPE, Types.RUBY_ARRAY_TYPE, Types.RUBY_BLOCK_TYPE, Types.CALL_SITE_TYPE);
+    private static final Method RubyAPICallNoArgMethodMethod =
+        CgUtil.getMethod("callNoArgMethod", Types.RUBY_VALUE_TYPE, Types.RUBY_VALUE_TYPE, Types.RUBY_BLOCK_TYPE, Types.CALL_SITE_TYPE);
+    private static final Method RubyAPICallOneArgMethodMethod =
+        CgUtil.getMethod("callOneArgMethod", Types.RUBY_VALUE_TYPE, Types.RUBY_VALUE_TYPE, Types.RUBY_VALUE_TYPE, Types.RUBY_BLOCK_TYPE, Types.CALL_SITE_TYPE);
+    private static final Method RubyAPICallTwoArgMethodMethod =
+        CgUtil.getMethod("callTwoArgMethod", Types.RUBY_VALUE_TYPE, Types.RUBY_VALUE_TYPE, Types.RUBY_VALUE_TYPE, Types.RUBY_VALUE_TYPE, Types.RUBY_BLOCK_TYPE, Types.CALL_SITE_TYPE);
+
     public void RubyAPI_callPublicMethod(String methodName) {
-        loadRubyID(methodName);
-        invokeStatic(Types.RUBY_API_TYPE,
-                Method.getMethod("com.xruby.runtime.lang.RubyValue callPublicMethod(com.xruby.runtime.lang.RubyValue, com.xruby.runtime.builtin.RubyArray, com.xruby.runtime.lang.RubyBlock, com.xruby.runtime.lang.RubyID)"));
+        invokeCallSite(methodName, DynamicCallSite.MULTI_ARG, true, RubyAPICallPublicMethodMethod);
     }
 
     public void RubyAPI_callPublicNoArgMethod(String methodName) {
-        loadRubyID(methodName);
-        invokeStatic(Types.RUBY_API_TYPE,
-                Method.getMethod("com.xruby.runtime.lang.RubyValue callPublicNoArgMethod(com.xruby.runtime.lang.RubyValue, com.xruby.runtime.lang.RubyBlock, com.xruby.runtime.lang.RubyID)"));
+        invokeCallSite(methodName, DynamicCallSite.NO_ARG, true, RubyAPICallPublicNoArgMethodMethod);
     }
 
     public void RubyAPI_callPublicOneArgMethod(String methodName) {
-        loadRubyID(methodName);
+        invokeCallSite(methodName, DynamicCallSite.ONE_ARG, true, RubyAPICallPublicOneArgMethodMethod);
+    }
+
+    private static final Map<String, String> OPERATOR_FAST_PATHS = new HashMap<String, String>();
+    static {
+        OPERATOR_FAST_PATHS.put("+", "operatorPlus");
+        OPERATOR_FAST_PATHS.put("-", "operatorMinus");
+        OPERATOR_FAST_PATHS.put("*", "operatorMul");
+        OPERATOR_FAST_PATHS.put("/", "operatorDiv");
+        OPERATOR_FAST_PATHS.put("<", "operatorLt");
+        OPERATOR_FAST_PATHS.put("<=", "operatorLe");
+        OPERATOR_FAST_PATHS.put(">", "operatorGt");
+        OPERATOR_FAST_PATHS.put(">=", "operatorGe");
+        OPERATOR_FAST_PATHS.put("==", "operatorEqual");
+    }
+
+    //Binary operators with a Fixnum/Float fast path in RubyAPI. With method
+    //handle dispatch the builtin method gets inlined anyway.
+    public void RubyAPI_callOperator(String operator) {
+        String fast_path = OPERATOR_FAST_PATHS.get(operator);
+        if (null == fast_path || CallSiteClassGenerator.isMethodHandleDispatch()) {
+            RubyAPI_callPublicOneArgMethod(operator);
+            return;
+        }
+
+        CallSiteClassGenerator.getField(this, operator);
         invokeStatic(Types.RUBY_API_TYPE,
-                Method.getMethod("com.xruby.runtime.lang.RubyValue callPublicOneArgMethod(com.xruby.runtime.lang.RubyValue, com.xruby.runtime.lang.RubyValue, com.xruby.runtime.lang.RubyBlock, com.xruby.runtime.lang.RubyID)"));
+                CgUtil.getMethod(fast_path, Types.RUBY_VALUE_TYPE, Types.RUBY_VALUE_TYPE, Types.RUBY_VALUE_TYPE, Types.RUBY_BLOCK_TYPE, Types.CALL_SITE_TYPE));
     }
 
     public void RubyAPI_callPublicTwoArgMethod(String methodName) {
-        loadRubyID(methodName);
-        invokeStatic(Types.RUBY_API_TYPE,
-                Method.getMethod("com.xruby.runtime.lang.RubyValue callPublicTwoArgMethod(com.xruby.runtime.lang.RubyValue, com.xruby.runtime.lang.RubyValue, com.xruby.runtime.lang.RubyValue, com.xruby.runtime.lang.RubyBlock, com.xruby.runtime.lang.RubyID)"));
+        invokeCallSite(methodName, DynamicCallSite.TWO_ARG, true, RubyAPICallPublicTwoArgMethodMethod);
     }
 
     public void RubyAPI_callMethod(String methodName) {
-        loadRubyID(methodName);
-        invokeStatic(Types.RUBY_API_TYPE,
-                Method.getMethod("com.xruby.runtime.lang.RubyValue callMethod(com.xruby.runtime.lang.RubyValue, com.xruby.runtime.builtin.RubyArray, com.xruby.runtime.lang.RubyBlock, com.xruby.runtime.lang.RubyID)"));
+        invokeCallSite(methodName, DynamicCallSite.MULTI_ARG, false, RubyAPICallMethodMethod);
     }
 
-    private static final Method RubyAPICallNoArgMethodMethod =
-        CgUtil.getMethod("callNoArgMethod", Types.RUBY_VALUE_TYPE, Types.RUBY_VALUE_TYPE, Types.RUBY_BLOCK_TYPE, Types.RUBY_ID_TYPE);
-    private static final Method RubyAPICallOneArgMethodMethod =
-        CgUtil.getMethod("callOneArgMethod", Types.RUBY_VALUE_TYPE, Types.RUBY_VALUE_TYPE, Types.RUBY_VALUE_TYPE, Types.RUBY_BLOCK_TYPE, Types.RUBY_ID_TYPE);
-    private static final Method RubyAPICallTwoArgMethodMethod =
-        CgUtil.getMethod("callTwoArgMethod", Types.RUBY_VALUE_TYPE, Types.RUBY_VALUE_TYPE, Types.RUBY_VALUE_TYPE, Types.RUBY_VALUE_TYPE, Types.RUBY_BLOCK_TYPE, Types.RUBY_ID_TYPE);
-
     public void RubyAPI_callNoArgMethod(String methodName) {
-        loadRubyID(methodName);
-        invokeStatic(Types.RUBY_API_TYPE, RubyAPICallNoArgMethodMethod);
+        invokeCallSite(methodName, DynamicCallSite.NO_ARG, false, RubyAPICallNoArgMethodMethod);
     }
 
     public void RubyAPI_callOneArgMethod(String methodName) {
-        loadRubyID(methodName);
-        invokeStatic(Types.RUBY_API_TYPE, RubyAPICallOneArgMethodMethod);
+        invokeCallSite(methodName, DynamicCallSite.ONE_ARG, false, RubyAPICallOneArgMethodMethod);
     }
 
     public void RubyAPI_callTwoArgMethod(String methodName) {
-        loadRubyID(methodName);
-        invokeStatic(Types.RUBY_API_TYPE, RubyAPICallTwoArgMethodMethod);
+        invokeCallSite(methodName, DynamicCallSite.TWO_ARG, false, RubyAPICallTwoArgMethodMethod);
     }
 
     public void RubyAPI_callSuperMethod() {
@@ -594,6 +743,11 @@ class MethodGenerator extends GeneratorAdapter {
                 Method.getMethod("com.xruby.runtime.lang.RubyValue callSuperTwoArgMethod(com.xruby.runtime.lang.RubyValue, com.xruby.runtime.lang.RubyValue, com.xruby.runtime.lang.RubyValue, com.xruby.runtime.lang.RubyBlock, com.xruby.runtime.lang.MethodBlockBase)"));
     }
 
+    public void RubyAPI_isNumericOperatorsBuiltin() {
+        invokeStatic(Types.RUBY_API_TYPE,
+                Method.getMethod("boolean isNumericOperatorsBuiltin()"));
+    }
+
     public void RubyAPI_operatorNot() {
         invokeStatic(Types.RUBY_API_TYPE,
                 Method.getMethod("com.xruby.runtime.lang.RubyValue operatorNot(com.xruby.runtime.lang.RubyValue)"));
@@ -699,15 +853,15 @@ class MethodGenerator extends GeneratorAdapter {
     }
 
     public void RubyAPI_getCurrentNamespaceConstant(String name) {
-        push(name);
+        CallSiteClassGenerator.getConstantSite(this, name);
         invokeStatic(Types.RUBY_API_TYPE,
-                Method.getMethod("com.xruby.runtime.lang.RubyValue getCurrentNamespaceConstant(com.xruby.runtime.lang.RubyModule, String)"));
+                Method.getMethod("com.xruby.runtime.lang.RubyValue getCurrentNamespaceConstant(com.xruby.runtime.lang.RubyModule, com.xruby.runtime.lang.ConstantSite)"));
     }
 
     public void RubyAPI_getConstant(String name) {
-        push(name);
+        CallSiteClassGenerator.getConstantSite(this, name);
         invokeStatic(Types.RUBY_API_TYPE,
-                Method.getMethod("com.xruby.runtime.lang.RubyValue getConstant(com.xruby.runtime.lang.RubyValue, String)"));
+                Method.getMethod("com.xruby.runtime.lang.RubyValue getConstant(com.xruby.runtime.lang.RubyValue, com.xruby.runtime.lang.ConstantSite)"));
     }
 
     public void RubyAPI_setConstant(String name) {
@@ -832,18 +986,16 @@ class MethodGenerator extends GeneratorAdapter {
                 Method.getMethod("com.xruby.runtime.lang.RubyClass getSingletonClass(com.xruby.runtime.lang.RubyModule)"));
     }
 
-    public void RubyValue_getInstanceVariable(String name) {
-        //push(name);
-        RubyIDClassGenerator.getField(this, name);
-        invokeVirtual(Types.RUBY_VALUE_TYPE,
-                Method.getMethod("com.xruby.runtime.lang.RubyValue getInstanceVariable(com.xruby.runtime.lang.RubyID)"));
+    public void RubyAPI_getInstanceVariable(String name) {
+        CallSiteClassGenerator.getInstanceVariableSite(this, name);
+        invokeStatic(Types.RUBY_API_TYPE,
+                Method.getMethod("com.xruby.runtime.lang.RubyValue getInstanceVariable(com.xruby.runtime.lang.RubyValue, com.xruby.runtime.lang.InstanceVariableSite)"));
     }
 
-    public void RubyValue_setInstanceVariable(String name) {
-        RubyIDClassGenerator.getField(this, name);
-        //push(name);
-        invokeVirtual(Types.RUBY_VALUE_TYPE,
-                Method.getMethod("com.xruby.runtime.lang.RubyValue setInstanceVariable(com.xruby.runtime.lang.RubyValue, com.xruby.runtime.lang.RubyID)"));
+    public void RubyAPI_setInstanceVariable(String name) {
+        CallSiteClassGenerator.getInstanceVariableSite(this, name);
+        invokeStatic(Types.RUBY_API_TYPE,
+                Method.getMethod("com.xruby.runtime.lang.RubyValue setInstanceVariable(com.xruby.runtime.lang.RubyValue, com.xruby.runtime.lang.RubyValue, com.xruby.runtime.lang.InstanceVariableSite)"));
     }
 
     public void MethodBlockBase_getScope() {
@@ -14,6 +14,7 @@ public class NameFactory {
     private static final String DefaultName = "main";
 
     public static String DEFAULT_RUBY_ID_CLASS_NAME = "RubyIDContainer";
+    public static String DEFAULT_CALL_SITE_CLASS_NAME = "CallSiteContainer";
 
     public static void reset() {
         count_.set(0);
@@ -56,6 +57,14 @@ public class NameFactory {
         return "xruby/" + getNameWithoutPrefixAndSufix(extra, script_name) + "/" + DEFAULT_RUBY_ID_CLASS_NAME;
     }
 
+    public static String createClassNameForCallSiteContainer(String extra, String script_name) {
+        if (null == script_name) {
+            script_name = "STDIN";
+        }
+
+        return "xruby/" + getNameWithoutPrefixAndSufix(extra, script_name) + "/" + DEFAULT_CALL_SITE_CLASS_NAME;
+    }
+
     private static String removeInvalidIdentifierPart(String method_name, boolean ignore_back_slash_and_dot) {
         StringBuilder sb = new StringBuilder();
         for (int i = 0; i < method_name.length(); ++i) {
@@ -0,0 +1,282 @@
+/**
+ * Copyright 2005-2007 Xue Yong Zhi
+ * Distributed under the Apache License
+ */
+
+package com.xruby.compiler.codegen;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Stack;
+
+import org.objectweb.asm.Label;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.commons.GeneratorAdapter;
+import org.objectweb.asm.commons.Method;
+
+/**
+ * Unboxed version of a while loop which only does Fixnum/Float arithmetic on
+ * local variables (see WhileExpression.acceptAsNumericLoop). The generated
+ * code looks like:
+ *
+ *     if builtin Fixnum/Float operators and all variables have the expected class
+ *         unbox variables into long/double locals
+ *         loop on the long/double locals
+ *         box assigned variables, result is nil
+ *     else
+ *         normal while loop
+ *
+ * Every intermediate Fixnum result is checked to be in Fixnum range, and Float
+ * comparisons are checked not to involve NaN (the normal loop raises or not
+ * depending on the operator). If a check fails, the variables are restored as
+ * they were at the beginning of the iteration and the normal loop takes over
+ * from its condition. This is correct because the unboxed loop has no side
+ * effects other than assigning the variables.
+ */
+class NumericLoop {
+    private final ClassGenerator cg_;
+    private final List<String> float_variables_;
+    private final List<String> assigned_variables_;
+    private final Map<String, Integer> values_ = new HashMap<String, Integer>();
+    private final Map<String, Integer> saved_values_ = new HashMap<String, Integer>();
+    private final Stack<Type> operands_ = new Stack<Type>();
+    private int overflow_;
+
+    private final Label condition_ = new Label();
+    private final Label exit_ = new Label();
+    private final Label bailout_ = new Label();
+    private final Label generic_ = new Label();
+    private final Label resume_ = new Label();
+    private final Label end_ = new Label();
+
+    NumericLoop(ClassGenerator cg, List<String> float_variables, List<String> assigned_variables) {
+        cg_ = cg;
+        float_variables_ = float_variables;
+        assigned_variables_ = assigned_variables;
+    }
+
+    private Type getType(String name) {
+        return float_variables_.contains(name) ? Type.DOUBLE_TYPE : Type.LONG_TYPE;
+    }
+
+    private Type getBoxedType(String name) {
+        return float_variables_.contains(name) ? Types.RUBY_FLOAT_TYPE : Types.RUBY_FIXNUM_TYPE;
+    }
+
+    void begin(List<String> variables) {
+        MethodGenerator mg = cg_.getMethodGenerator();
+        mg.RubyAPI_isNumericOperatorsBuiltin();
+        mg.ifZCmp(GeneratorAdapter.EQ, generic_);
+        for (String name : variables) {
+            cg_.loadVariable(name);
+            mg.instanceOf(getBoxedType(name));
+            mg.ifZCmp(GeneratorAdapter.EQ, generic_);
+        }
+
+        for (String name : variables) {
+            int value = mg.newLocal(getType(name));
+            cg_.loadVariable(name);
+            mg.checkCast(getBoxedType(name));
+            if (float_variables_.contains(name)) {
+                mg.invokeVirtual(Types.RUBY_FLOAT_TYPE, Method.getMethod("double doubleValue()"));
+            } else {
+                mg.invokeVirtual(Types.RUBY_FIXNUM_TYPE, Method.getMethod("int toInt()"));
+                mg.cast(Type.INT_TYPE, Type.LONG_TYPE);
+            }
+            mg.storeLocal(value);
+            values_.put(name, value);
+        }
+
+        for (String name : assigned_variables_) {
+            saved_values_.put(name, mg.newLocal(getType(name)));
+        }
+
+        overflow_ = mg.newLocal(Type.INT_TYPE);
+        mg.push(0);
+        mg.storeLocal(overflow_);
+
+        mg.mark(condition_);
+        for (String name : assigned_variables_) {
+            mg.loadLocal(values_.get(name));
+            mg.storeLocal(saved_values_.get(name));
+        }
+    }
+
+    void pushFixnum(int value) {
+        cg_.getMethodGenerator().push((long)value);
+        operands_.push(Type.LONG_TYPE);
+    }
+
+    void pushFloat(double value) {
+        cg_.getMethodGenerator().push(value);
+        operands_.push(Type.DOUBLE_TYPE);
+    }
+
+    void loadVariable(String name) {
+        cg_.getMethodGenerator().loadLocal(values_.get(name));
+        operands_.push(getType(name));
+    }
+
+    /// Pops the types of two operands, if one of them is Float converts the
+    /// other one. Returns the type of both operands now on the stack.
+    private Type convertOperands() {
+        MethodGenerator mg = cg_.getMethodGenerator();
+        Type right = operands_.pop();
+        Type left = operands_.pop();
+        if (Type.LONG_TYPE == left && Type.LONG_TYPE == right) {
+            return Type.LONG_TYPE;
+        }
+
+        if (Type.LONG_TYPE == right) {
+            mg.cast(Type.LONG_TYPE, Type.DOUBLE_TYPE);
+        } else if (Type.LONG_TYPE == left) {
+            //long, double -> double, long -> double, double
+            mg.dup2X2();
+            mg.pop2();
+            mg.cast(Type.LONG_TYPE, Type.DOUBLE_TYPE);
+            mg.dup2X2();
+            mg.pop2();
+        }
+        return Type.DOUBLE_TYPE;
+    }
+
+    void binaryOperator(String operator) {
+        MethodGenerator mg = cg_.getMethodGenerator();
+        Type type = convertOperands();
+        operands_.push(type);
+        if (operator.equals("+")) {
+            mg.math(GeneratorAdapter.ADD, type);
+        } else if (operator.equals("-")) {
+            mg.math(GeneratorAdapter.SUB, type);
+        } else if (operator.equals("*")) {
+            mg.math(GeneratorAdapter.MUL, type);
+        } else {
+            throw new Error("Unsupported numeric operator " + operator);
+        }
+
+        if (Type.DOUBLE_TYPE == type) {
+            return;
+        }
+
+        //overflow_ |= (result != (int)result)
+        mg.dup2();
+        mg.dup2();
+        mg.cast(Type.LONG_TYPE, Type.INT_TYPE);
+        mg.cast(Type.INT_TYPE, Type.LONG_TYPE);
+        mg.visitInsn(Opcodes.LCMP);
+        mg.loadLocal(overflow_);
+        mg.visitInsn(Opcodes.IOR);
+        mg.storeLocal(overflow_);
+    }
+
+    private void bailoutIfOverflow(Type type_on_stack) {
+        MethodGenerator mg = cg_.getMethodGenerator();
+        Label ok = new Label();
+        mg.loadLocal(overflow_);
+        mg.ifZCmp(GeneratorAdapter.EQ, ok);
+        if (type_on_stack.getSize() == 2) {
+            mg.pop2();
+        } else {
+            mg.pop();
+        }
+        mg.goTo(bailout_);
+        mg.mark(ok);
+    }
+
+    void conditionEnd(String operator, boolean is_until) {
+        MethodGenerator mg = cg_.getMethodGenerator();
+        if (Type.LONG_TYPE == convertOperands()) {
+            mg.visitInsn(Opcodes.LCMP);
+        } else {
+            //dcmpg and dcmpl only differ if an operand is NaN
+            int right = mg.newLocal(Type.DOUBLE_TYPE);
+            int left = mg.newLocal(Type.DOUBLE_TYPE);
+            mg.storeLocal(right);
+            mg.storeLocal(left);
+            mg.loadLocal(left);
+            mg.loadLocal(right);
+            mg.visitInsn(Opcodes.DCMPG);
+            mg.dup();
+            mg.loadLocal(left);
+            mg.loadLocal(right);
+            mg.visitInsn(Opcodes.DCMPL);
+            Label ordered = new Label();
+            mg.ifICmp(GeneratorAdapter.EQ, ordered);
+            mg.pop();
+            mg.goTo(bailout_);
+            mg.mark(ordered);
+        }
+        bailoutIfOverflow(Type.INT_TYPE);
+
+        //jump to exit_ if the condition is false (or true for 'until')
+        int mode;
+        if (operator.equals("<")) {
+            mode = is_until ? GeneratorAdapter.LT : GeneratorAdapter.GE;
+        } else if (operator.equals("<=")) {
+            mode = is_until ? GeneratorAdapter.LE : GeneratorAdapter.GT;
+        } else if (operator.equals(">")) {
+            mode = is_until ? GeneratorAdapter.GT : GeneratorAdapter.LE;
+        } else if (operator.equals(">=")) {
+            mode = is_until ? GeneratorAdapter.GE : GeneratorAdapter.LT;
+        } else if (operator.equals("==")) {
+            mode = is_until ? GeneratorAdapter.EQ : GeneratorAdapter.NE;
+        } else if (operator.equals("!=")) {
+            mode = is_until ? GeneratorAdapter.NE : GeneratorAdapter.EQ;
+        } else {
+            throw new Error("Unsupported numeric comparison " + operator);
+        }
+        mg.ifZCmp(mode, exit_);
+    }
+
+    void storeVariable(String name) {
+        Type type = operands_.pop();
+        if (type != getType(name)) {
+            throw new Error("Can not assign " + type + " to numeric variable " + name);
+        }
+        bailoutIfOverflow(type);
+        cg_.getMethodGenerator().storeLocal(values_.get(name));
+    }
+
+    private void storeBoxedVariables(Map<String, Integer> values) {
+        MethodGenerator mg = cg_.getMethodGenerator();
+        for (String name : assigned_variables_) {
+            mg.loadLocal(values.get(name));
+            if (float_variables_.contains(name)) {
+                mg.invokeStatic(Types.OBJECTFACTORY_TYPE,
+                        Method.getMethod("com.xruby.runtime.builtin.RubyFloat createFloat(double)"));
+            } else {
+                mg.cast(Type.LONG_TYPE, Type.INT_TYPE);
+                mg.invokeStatic(Types.OBJECTFACTORY_TYPE,
+                        Method.getMethod("com.xruby.runtime.builtin.RubyFixnum createFixnum(int)"));
+            }
+            cg_.storeVariable(name);
+        }
+    }
+
+    void bodyEnd() {
+        MethodGenerator mg = cg_.getMethodGenerator();
+        mg.goTo(condition_);
+
+        mg.mark(exit_);
+        storeBoxedVariables(values_);
+        mg.loadNil();//value of the while expression
+        mg.goTo(end_);
+
+        mg.mark(bailout_);
+        storeBoxedVariables(saved_values_);
+        mg.goTo(resume_);
+
+        mg.mark(generic_);
+    }
+
+    /// Called at the beginning of the condition of the normal loop
+    void resume() {
+        cg_.getMethodGenerator().mark(resume_);
+    }
+
+    void end() {
+        cg_.getMethodGenerator().mark(end_);
+    }
+}
@@ -15,12 +15,14 @@ import org.objectweb.asm.Type;
 import org.objectweb.asm.commons.GeneratorAdapter;
 
 import java.math.BigInteger;
+import java.util.List;
 import java.util.Stack;
 
 public class RubyCompilerImpl implements CodeVisitor {
 
     private ClassGenerator cg_;
     private final Stack<ClassGenerator> suspended_cgs_ = new Stack<ClassGenerator>();
+    private final Stack<NumericLoop> numeric_loops_ = new Stack<NumericLoop>();
     private final CompilationResults compilation_results_;
     private final String extra_;
     private final String script_name_;
@@ -28,6 +30,7 @@ public class RubyCompilerImpl implements CodeVisitor {
 
     private Label currentLineLabel;
     private boolean enableDebug = false;
+    private boolean block_argument_ = false;//'&block' passed to the current method call
 
     public RubyCompilerImpl(String extra, String script_name) {
         extra_ = extra;
@@ -71,6 +74,7 @@ public class RubyCompilerImpl implements CodeVisitor {
         }
 
         mg.returnValue();
+        mg.catchProcReturn(isInBlock());
         mg.endMethod();
         cg_.visitEnd();
 
@@ -81,6 +85,7 @@ public class RubyCompilerImpl implements CodeVisitor {
     public CompilationResults compile(Program program, RubyBinding binding) {
         binding_ = binding;
         RubyIDClassGenerator.initScript(extra_, script_name_);
+        CallSiteClassGenerator.initScript(extra_, script_name_);
         String className = NameFactory.createClassName(extra_, script_name_, null);
         cg_ = new ClassGeneratorForRubyProgram(className, script_name_, binding, true, false);
 
@@ -88,6 +93,7 @@ public class RubyCompilerImpl implements CodeVisitor {
         program.accept(this);
 
         MethodGenerator mg = cg_.getMethodGenerator();
+        mg.catchProcReturn(false);
         // Record the local variables' range, if user enables debug
         if (enableDebug) {
             mg.writeLocalVariableInfo();
@@ -95,6 +101,7 @@ public class RubyCompilerImpl implements CodeVisitor {
         mg.endMethod();
         cg_.visitEnd();
         compilation_results_.add(RubyIDClassGenerator.getCompilationResult());
+        compilation_results_.add(CallSiteClassGenerator.getCompilationResults());
 //		RubyIDClassGenerator.clear();
         compilation_results_.add(cg_.getCompilationResult());
         return compilation_results_;
@@ -357,6 +364,7 @@ public class RubyCompilerImpl implements CodeVisitor {
     }
 
     public void visitNoBlock(boolean is_super_or_block_given_call) {
+        block_argument_ = false;
         if (is_super_or_block_given_call) {
             if (isInGlobalScope()) {
                 cg_.getMethodGenerator().pushNull();
@@ -373,6 +381,7 @@ public class RubyCompilerImpl implements CodeVisitor {
     }
 
     public void visitBlockArgument() {
+        block_argument_ = true;
         cg_.getMethodGenerator().RubyAPI_convertRubyValue2RubyBlock();
     }
 
@@ -385,6 +394,13 @@ public class RubyCompilerImpl implements CodeVisitor {
         MethodGenerator mg = cg_.getMethodGenerator();
         mg.removeCurrentVariablesOnStack();
 
+        int block = -1;
+        if (null != blockName || block_argument_) {
+            mg.dup();
+            block = mg.newLocal(Types.RUBY_BLOCK_TYPE);
+            mg.storeLocal(block);
+        }
+
         if (hasReceiver) {
             switch (argc) {
             case 0:
@@ -417,21 +433,23 @@ public class RubyCompilerImpl implements CodeVisitor {
             }
         }
 
-        mg.returnIfBlockReturned();
+        if (block >= 0) {
+            mg.returnIfBlockReturned(block, null == blockName, isInBlock());
+        }
     }
 
     public void visitBinaryOperator(String operator) {
         MethodGenerator mg = cg_.getMethodGenerator();
         mg.pushNull();
         if (operator.equals("!=")) {
-            mg.RubyAPI_callPublicOneArgMethod("==");
+            mg.RubyAPI_callOperator("==");
             mg.RubyAPI_operatorNot();
         } else if (operator.equals("!~")) {
             mg.RubyAPI_callPublicOneArgMethod("=~");
             mg.RubyAPI_operatorNot();
         } else {
             //operator as method call
-            mg.RubyAPI_callPublicOneArgMethod(operator);
+            mg.RubyAPI_callOperator(operator);
         }
     }
 
@@ -535,8 +553,25 @@ public class RubyCompilerImpl implements CodeVisitor {
     public void visitStringExpressionWithExpressionSubstitutionEnd() {
     }
 
-    public void visitRegexpExpressionWithExpressionSubstitutionEnd(String option) {
-        cg_.getMethodGenerator().ObjectFactory_createRegexp(option);
+    public Object visitRegexpExpressionWithExpressionSubstitutionBegin(String option) {
+        if (option.indexOf('o') < 0) {
+            return null;
+        }
+
+        //substitute once: skip the substitution once the regexp has been created
+        int site = CallSiteClassGenerator.addRegexpSite(null, option);
+        Label end = new Label();
+        cg_.getMethodGenerator().RegexpSite_getOnce(site, end);
+        return new Object[] {site, end};
+    }
+
+    public void visitRegexpExpressionWithExpressionSubstitutionEnd(String option, Object var) {
+        if (null == var) {
+            cg_.getMethodGenerator().ObjectFactory_createRegexp(option);
+        } else {
+            Object[] site_and_end = (Object[])var;
+            cg_.getMethodGenerator().RegexpSite_setOnce((Integer)site_and_end[0], (Label)site_and_end[1]);
+        }
     }
 
     public void visitCommandOutputExpressionWithExpressionSubstitutionEnd() {
@@ -579,6 +614,49 @@ public class RubyCompilerImpl implements CodeVisitor {
         return label;
     }
 
+    public boolean visitNumericLoopBegin(List<String> variables, List<String> float_variables, List<String> assigned_variables) {
+        NumericLoop loop = new NumericLoop(cg_, float_variables, assigned_variables);
+        loop.begin(variables);
+        numeric_loops_.push(loop);
+        return true;
+    }
+
+    public void visitNumericLoopConditionEnd(String operator, boolean is_until) {
+        numeric_loops_.peek().conditionEnd(operator, is_until);
+    }
+
+    public void visitNumericLoopBodyEnd() {
+        numeric_loops_.peek().bodyEnd();
+    }
+
+    public void visitNumericLoopResume() {
+        numeric_loops_.peek().resume();
+    }
+
+    public void visitNumericLoopEnd() {
+        numeric_loops_.pop().end();
+    }
+
+    public void visitNumericFixnumExpression(int value) {
+        numeric_loops_.peek().pushFixnum(value);
+    }
+
+    public void visitNumericFloatExpression(double value) {
+        numeric_loops_.peek().pushFloat(value);
+    }
+
+    public void visitNumericLocalVariableExpression(String name) {
+        numeric_loops_.peek().loadVariable(name);
+    }
+
+    public void visitNumericLocalVariableAssignment(String name) {
+        numeric_loops_.peek().storeVariable(name);
+    }
+
+    public void visitNumericBinaryOperator(String operator) {
+        numeric_loops_.peek().binaryOperator(operator);
+    }
+
     public void visitWhileConditionBegin(boolean do_first) {
         MethodGenerator mg = cg_.getMethodGenerator();
         LabelManager lm = mg.getLabelManager();
@@ -958,7 +1036,7 @@ public class RubyCompilerImpl implements CodeVisitor {
 
     public void visitInstanceVariableExpression(String name) {
         visitSelfExpression();
-        cg_.getMethodGenerator().RubyValue_getInstanceVariable(name);
+        cg_.getMethodGenerator().RubyAPI_getInstanceVariable(name);
     }
 
     public void visitInstanceVariableAssignmentOperator(String name, boolean rhs_is_method_call, boolean is_multiple_assign) {
@@ -969,7 +1047,7 @@ public class RubyCompilerImpl implements CodeVisitor {
 
         visitSelfExpression();
         mg.swap();
-        mg.RubyValue_setInstanceVariable(name);
+        mg.RubyAPI_setInstanceVariable(name);
         if (is_multiple_assign) {
             mg.pop();
         }
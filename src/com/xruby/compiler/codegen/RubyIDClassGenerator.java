@@ -73,7 +73,7 @@ public class RubyIDClassGenerator {
 
     private static byte[] visitEnd() {
         ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
-        cw.visit(Opcodes.V1_1, Opcodes.ACC_PUBLIC, RubyIDClassName, null, "java/lang/Object", null);
+        cw.visit(CgConfig.TARGET_VERSION, Opcodes.ACC_PUBLIC, RubyIDClassName, null, "java/lang/Object", null);
         Method staticBlock = Method.getMethod("void <clinit> ()V");
         GeneratorAdapter staticBlockMg = new GeneratorAdapter(Opcodes.ACC_STATIC, staticBlock, null, null, cw);
 
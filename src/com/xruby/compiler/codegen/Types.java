@@ -8,8 +8,10 @@ package com.xruby.compiler.codegen;
 import com.xruby.runtime.builtin.ObjectFactory;
 import com.xruby.runtime.builtin.RubyArray;
 import com.xruby.runtime.builtin.RubyFixnum;
+import com.xruby.runtime.builtin.RubyFloat;
 import com.xruby.runtime.builtin.RubyHash;
 import com.xruby.runtime.builtin.RubyProc;
+import com.xruby.runtime.builtin.RegexpSite;
 import com.xruby.runtime.builtin.RubyString;
 import com.xruby.runtime.lang.*;
 
@@ -54,6 +56,10 @@ public class Types {
 	static final Type METHOD_BLOCK_BASE_TYPE = Type.getType(MethodBlockBase.class);
     public static final Type RUBY_ARRAY_TYPE = Type.getType(RubyArray.class);
     public static final Type RUBY_ID_TYPE = Type.getType(RubyID.class);
+    public static final Type CALL_SITE_TYPE = Type.getType(CallSite.class);
+    public static final Type INSTANCE_VARIABLE_SITE_TYPE = Type.getType(InstanceVariableSite.class);
+    public static final Type REGEXP_SITE_TYPE = Type.getType(RegexpSite.class);
+    public static final Type CONSTANT_SITE_TYPE = Type.getType(ConstantSite.class);
     public static final Type RUBY_VALUE_TYPE = Type.getType(RubyValue.class);
     public static final Type RUBY_STRING_TYPE = Type.getType(RubyString.class);
     public static final Type RUBY_CONSTANT_TYPE = Type.getType(RubyConstant.class);
@@ -61,10 +67,16 @@ public class Types {
     static final Type RUBY_BINDING_TYPE = Type.getType(RubyBinding.class);
     static final Type RUBY_HASH_TYPE = Type.getType(RubyHash.class);
     public static final Type RUBY_FIXNUM_TYPE = Type.getType(RubyFixnum.class);
+    static final Type RUBY_FLOAT_TYPE = Type.getType(RubyFloat.class);
     public static final Type RUBY_EXCEPTION_TYPE = Type.getType(RubyException.class);
+    static final Type PROC_RETURN_EXCEPTION_TYPE = Type.getType(ProcReturnException.class);
+    static final Type RUBY_FRAME_TYPE = Type.getType(RubyFrame.class);
     public static final Type OBJECTFACTORY_TYPE = Type.getType(ObjectFactory.class);
     public static final Type GLOBAL_VARIABLES_TYPE = Type.getType(GlobalVariables.class);
+    public static final Type GLOBAL_VARIABLE_SLOT_TYPE = Type.getType(GlobalVariableSlot.class);
 
+    //Builtins created lazily by RubyRuntime (e.g. Struct, Math) are not listed
+    //here, they are looked up as normal constants.
     public static boolean isBuiltinClass(String name) {
         final String[] builtin_classes = {
                 "Array", "Bignum", "Binding", "Class",
@@ -72,7 +84,7 @@ public class Types {
                 "Dir", "Exception",
                 //"File::Stat",
                 "FalseClass", "File", "Fixnum", "Float", "Hash", "Integer", "IO", "MatchData", "Method",
-                "Module", "NilClass", "Numeric", "Object", "Proc", "Range", "Regexp", "String", "Struct",
+                "Module", "NilClass", "Numeric", "Object", "Proc", "Range", "Regexp", "String",
                 //"Struct::Tms"
                 "Symbol", "ThreadGroup", "Thread", "ArgumentError",
                 "Time", "TrueClass", "UnboundMethod",
@@ -95,12 +107,7 @@ public class Types {
                 "Comparable",
                 "Enumerable",
                 "Errno",
-                "FileTest",
-                "GC",
                 "Kernel",
-                "Marshal",
-                "Math",
-                "ObjectSpace",
                 "Process ",
         };
 
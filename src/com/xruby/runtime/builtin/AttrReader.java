@@ -5,23 +5,24 @@
 
 package com.xruby.runtime.builtin;
 
+import com.xruby.runtime.lang.InstanceVariableSite;
 import com.xruby.runtime.lang.RubyBlock;
 import com.xruby.runtime.lang.RubyID;
 import com.xruby.runtime.lang.RubyNoArgMethod;
 import com.xruby.runtime.lang.RubyValue;
 
 public class AttrReader extends RubyNoArgMethod {
-    private RubyID attrName;
+    private final InstanceVariableSite attrSite;
 
     public AttrReader(String methodName) {
-        attrName = RubyID.intern("@" + methodName);
+        attrSite = new InstanceVariableSite("@" + methodName);
     }
     
     public AttrReader(RubyID id) {
-        attrName = RubyID.intern("@" + id.toString());
+        attrSite = new InstanceVariableSite("@" + id.toString());
     }
 
     protected RubyValue run(RubyValue receiver, RubyBlock block) {
-        return receiver.getInstanceVariable(attrName);
+        return attrSite.get(receiver);
     }
 }
@@ -5,24 +5,25 @@
 
 package com.xruby.runtime.builtin;
 
+import com.xruby.runtime.lang.InstanceVariableSite;
 import com.xruby.runtime.lang.RubyBlock;
 import com.xruby.runtime.lang.RubyID;
 import com.xruby.runtime.lang.RubyOneArgMethod;
 import com.xruby.runtime.lang.RubyValue;
 
 public class AttrWriter extends RubyOneArgMethod {
-    private RubyID attrName;
+    private final InstanceVariableSite attrSite;
 
     public AttrWriter(String methodName) {
-        attrName = RubyID.intern("@" + methodName);
+        attrSite = new InstanceVariableSite("@" + methodName);
     }
     
     public AttrWriter(RubyID id) {
-        attrName = RubyID.intern("@" + id.toString());
+        attrSite = new InstanceVariableSite("@" + id.toString());
     }
 
     protected RubyValue run(RubyValue receiver, RubyValue arg, RubyBlock block) {
-        return receiver.setInstanceVariable(arg, attrName);
+        return attrSite.set(receiver, arg);
     }
 }
 
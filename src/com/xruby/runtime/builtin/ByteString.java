@@ -0,0 +1,73 @@
+/**
+ * Copyright 2005-2007 Xue Yong Zhi, Ye Zheng
+ * Distributed under the Apache License
+ */
+
+package com.xruby.runtime.builtin;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * Immutable chars below 256, one byte per char: the byte store of a
+ * RubyString. Text read from files goes into it as it is when it is all
+ * ASCII (see RubyIOFileExecutor), instead of being decoded into a String of
+ * UTF-16 chars (on JDK 8). RubyString only makes a String of it when one is
+ * needed, see RubyString.toString().
+ *
+ * Substrings share the array, unless they are less than a quarter of it,
+ * so that a short piece does not keep a large text alive.
+ */
+final class ByteString implements CharSequence {
+    private static final Charset LATIN1 = Charset.forName("ISO-8859-1");
+
+    private final byte[] bytes_;
+    private final int offset_;
+    private final int length_;
+
+    /**
+     * @param bytes kept, not copied: must not be changed afterwards
+     */
+    ByteString(byte[] bytes, int offset, int length) {
+        bytes_ = bytes;
+        offset_ = offset;
+        length_ = length;
+    }
+
+    static boolean isAscii(byte[] bytes, int length) {
+        for (int i = 0; i < length; ++i) {
+            if (bytes[i] < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int length() {
+        return length_;
+    }
+
+    public char charAt(int index) {
+        if (index < 0 || index >= length_) {
+            throw new StringIndexOutOfBoundsException(index);
+        }
+        return (char)(bytes_[offset_ + index] & 0xff);
+    }
+
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || end > length_ || start > end) {
+            throw new StringIndexOutOfBoundsException("begin " + start + ", end " + end + ", length " + length_);
+        }
+
+        int length = end - start;
+        if (length >= bytes_.length / 4) {
+            return new ByteString(bytes_, offset_ + start, length);
+        } else {
+            return new ByteString(Arrays.copyOfRange(bytes_, offset_ + start, offset_ + end), 0, length);
+        }
+    }
+
+    public String toString() {
+        return new String(bytes_, offset_, length_, LATIN1);
+    }
+}
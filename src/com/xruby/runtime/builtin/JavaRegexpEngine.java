@@ -0,0 +1,285 @@
+/**
+ * Copyright 2005-2007 Xue Yong Zhi
+ * Distributed under the Apache License
+ */
+
+package com.xruby.runtime.builtin;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.MatchResult;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * RegexpEngine on java.util.regex. The pattern is translated from ruby 1.8
+ * syntax first, see translate(). In ruby '^' and '$' always match at line
+ * breaks (only '\n' is one), and option 'm' lets '.' match a newline.
+ */
+class JavaRegexpEngine extends RegexpEngine {
+    private static final Map<String, String> POSIX_CLASSES = new HashMap<String, String>();
+
+    static {
+        POSIX_CLASSES.put("alnum", "\\p{Alnum}");
+        POSIX_CLASSES.put("alpha", "\\p{Alpha}");
+        POSIX_CLASSES.put("blank", "\\p{Blank}");
+        POSIX_CLASSES.put("cntrl", "\\p{Cntrl}");
+        POSIX_CLASSES.put("digit", "\\p{Digit}");
+        POSIX_CLASSES.put("graph", "\\p{Graph}");
+        POSIX_CLASSES.put("lower", "\\p{Lower}");
+        POSIX_CLASSES.put("print", "\\p{Print}");
+        POSIX_CLASSES.put("punct", "\\p{Punct}");
+        POSIX_CLASSES.put("space", "\\p{Space}");
+        POSIX_CLASSES.put("upper", "\\p{Upper}");
+        POSIX_CLASSES.put("xdigit", "\\p{XDigit}");
+        POSIX_CLASSES.put("word", "\\w");
+    }
+
+    //escapes which mean the same in ruby and java
+    private static final String SAME_ESCAPES = "wWsSdDbBAZzGntrfaecx";
+
+    RegexpPattern compile(String source, int options) {
+        int flags = Pattern.MULTILINE | Pattern.UNIX_LINES;
+        if ((options & MULTILINE) != 0) {
+            flags |= Pattern.DOTALL;
+        }
+
+        if ((options & IGNORECASE) != 0) {
+            flags |= Pattern.CASE_INSENSITIVE;
+        }
+
+        if ((options & EXTENDED) != 0) {
+            flags |= Pattern.COMMENTS;
+        }
+
+        try {
+            return new JavaPattern(Pattern.compile(translate(source), flags));
+        } catch (PatternSyntaxException e) {
+            throw new Error(e);
+        }
+    }
+
+    /**
+     * Rewrites the constructs which java does not have, or which mean
+     * something else in java:
+     *   [[:alpha:]]      [\p{Alpha}]
+     *   [a[&]            [a\[\&]  (java has nested classes and intersections)
+     *   \v  \0  \x9      \x0B  \x00  \x09
+     *   \y               y  (unknown escapes are literal in ruby, errors in java)
+     *   [\b]             [\x08]
+     *   a{  a{,3}        a\{  a{0,3}
+     *   (?#comment)      removed
+     *   (?m:...)         (?s:...)
+     *   ^                (?:^|\A)  (java's '^' does not match an empty input)
+     */
+    static String translate(String source) {
+        StringBuilder r = new StringBuilder(source.length() + 16);
+        boolean in_class = false;
+        int length = source.length();
+        for (int i = 0; i < length; ++i) {
+            char c = source.charAt(i);
+            if ('\\' == c && i + 1 < length) {
+                i = translateEscape(source, i + 1, in_class, r);
+            } else if (in_class) {
+                if (']' == c) {
+                    in_class = false;
+                    r.append(c);
+                } else if ('[' == c && source.startsWith("[:", i)) {
+                    int end = source.indexOf(":]", i + 2);
+                    String name = (end < 0) ? null : source.substring(i + 2, end);
+                    boolean negated = (null != name && name.startsWith("^"));
+                    String java_class = (null == name) ? null : POSIX_CLASSES.get(negated ? name.substring(1) : name);
+                    if (null == java_class) {
+                        r.append("\\[");
+                    } else {
+                        r.append(negated ? java_class.replace("\\p", "\\P").replace("\\w", "\\W") : java_class);
+                        i = end + 1;
+                    }
+                } else if ('[' == c || '&' == c) {
+                    r.append('\\').append(c);
+                } else {
+                    r.append(c);
+                }
+            } else if ('[' == c) {
+                in_class = true;
+                r.append(c);
+                if (i + 1 < length && '^' == source.charAt(i + 1)) {
+                    r.append('^');
+                    ++i;
+                }
+                //']' right after '[' or '[^' is literal
+                if (i + 1 < length && ']' == source.charAt(i + 1)) {
+                    r.append("\\]");
+                    ++i;
+                }
+            } else if ('^' == c) {
+                //java's multiline '^' never matches at the end of the input, like ruby's
+                //after a trailing '\n', but unlike ruby's it does not match "" either
+                r.append("(?:^|\\A)");
+            } else if ('{' == c) {
+                i = translateBrace(source, i, r);
+            } else if ('(' == c && source.startsWith("(?#", i)) {
+                int end = source.indexOf(')', i);
+                i = (end < 0) ? length : end;
+            } else if ('(' == c && source.startsWith("(?", i)) {
+                //inline options, ruby's 'm' is java's 's'
+                r.append("(?");
+                i += 2;
+                while (i < length && "imx-".indexOf(source.charAt(i)) > -1) {
+                    char option = source.charAt(i++);
+                    r.append('m' == option ? 's' : option);
+                }
+                --i;
+            } else {
+                r.append(c);
+            }
+        }
+        return r.toString();
+    }
+
+    /**
+     * @return index of the last character of the escape
+     */
+    private static int translateEscape(String source, int i, boolean in_class, StringBuilder r) {
+        char c = source.charAt(i);
+        if ('0' == c) {
+            int end = i + 1;
+            while (end < source.length() && end < i + 3 && isOctal(source.charAt(end))) {
+                ++end;
+            }
+            r.append((end == i + 1) ? "\\x00" : "\\0" + source.substring(i + 1, end));
+            return end - 1;
+        } else if ('x' == c) {
+            int end = i + 1;
+            while (end < source.length() && end < i + 3 && isHex(source.charAt(end))) {
+                ++end;
+            }
+            if (end == i + 2) {
+                r.append("\\x0").append(source.charAt(i + 1));
+            } else {
+                r.append("\\x").append(source, i + 1, end);
+            }
+            return end - 1;
+        } else if ('v' == c) {
+            r.append("\\x0B");
+        } else if ('b' == c && in_class) {
+            r.append("\\x08");
+        } else if (Character.isLetter(c) && SAME_ESCAPES.indexOf(c) < 0) {
+            r.append(c);
+        } else {
+            r.append('\\').append(c);
+        }
+        return i;
+    }
+
+    /**
+     * @return index of the last character of the quantifier, or of '{' if it is literal
+     */
+    private static int translateBrace(String source, int i, StringBuilder r) {
+        int end = source.indexOf('}', i);
+        if (end > i + 1) {
+            String s = source.substring(i + 1, end);
+            int comma = s.indexOf(',');
+            String min = (comma < 0) ? s : s.substring(0, comma);
+            String max = (comma < 0) ? "" : s.substring(comma + 1);
+            if (isDigits(min) && isDigits(max) && (min.length() > 0 || max.length() > 0)) {
+                r.append('{').append(min.length() > 0 ? min : "0");
+                if (comma >= 0) {
+                    r.append(',').append(max);
+                }
+                r.append('}');
+                return end;
+            }
+        }
+
+        r.append("\\{");
+        return i;
+    }
+
+    private static boolean isDigits(String s) {
+        for (int i = 0; i < s.length(); ++i) {
+            if (!Character.isDigit(s.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isOctal(char c) {
+        return c >= '0' && c <= '7';
+    }
+
+    private static boolean isHex(char c) {
+        return Character.digit(c, 16) >= 0;
+    }
+
+    private static class JavaPattern implements RegexpPattern {
+        private final Pattern pattern_;
+
+        //a Matcher belongs to one pattern, so each pattern keeps one for reuse; null while it is in use
+        private final AtomicReference<Matcher> idle_matcher_ = new AtomicReference<Matcher>();
+
+        JavaPattern(Pattern pattern) {
+            pattern_ = pattern;
+        }
+
+        public RegexpMatch search(String input, int start) {
+            Matcher m = idle_matcher_.getAndSet(null);
+            if (null == m) {
+                m = pattern_.matcher(input);
+            } else {
+                m.reset(input);
+            }
+
+            try {
+                return m.find(start) ? new JavaMatch(m.toMatchResult()) : null;
+            } finally {
+                //do not keep the input alive
+                m.reset("");
+                idle_matcher_.set(m);
+            }
+        }
+
+        public RegexpMatcher matcher(String input) {
+            return new JavaMatcher(pattern_.matcher(input));
+        }
+    }
+
+    private static class JavaMatcher implements RegexpMatcher {
+        private final Matcher matcher_;
+
+        JavaMatcher(Matcher matcher) {
+            matcher_ = matcher;
+        }
+
+        public RegexpMatch search(int start) {
+            return matcher_.find(start) ? new JavaMatch(matcher_.toMatchResult()) : null;
+        }
+    }
+
+    private static class JavaMatch implements RegexpMatch {
+        private final MatchResult result_;
+
+        JavaMatch(MatchResult result) {
+            result_ = result;
+        }
+
+        public int groups() {
+            return result_.groupCount() + 1;
+        }
+
+        public String group(int group) {
+            return result_.group(group);
+        }
+
+        public int begin(int group) {
+            return result_.start(group);
+        }
+
+        public int end(int group) {
+            return result_.end(group);
+        }
+    }
+}
@@ -14,7 +14,6 @@ import com.xruby.runtime.lang.RubySymbol;
 import com.xruby.runtime.lang.RubyValue;
 
 import java.math.BigInteger;
-import org.apache.oro.text.regex.MatchResult;
 
 public class ObjectFactory {
     //For preformance reason, some frequently used numbers are predefined here.
@@ -70,6 +69,14 @@ public class ObjectFactory {
         return new RubyString(value);
     }
 
+    //shares a ByteString, copies anything else
+    static RubyString createString(CharSequence value) {
+        if (value instanceof ByteString) {
+            return new RubyString((ByteString)value);
+        }
+        return new RubyString(value.toString());
+    }
+
     public static RubyString createString(RubyClass c, String s) {
         return new RubyString(c, s);
     }
@@ -137,7 +144,7 @@ public class ObjectFactory {
         return r;
     }
 
-    public static RubyMatchData createMatchData(MatchResult m) {
+    static RubyMatchData createMatchData(RegexpMatch m) {
         return new RubyMatchData(m);
     }
 
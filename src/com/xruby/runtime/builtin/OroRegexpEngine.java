@@ -0,0 +1,123 @@
+/**
+ * Copyright 2005-2007 Xue Yong Zhi
+ * Distributed under the Apache License
+ */
+
+package com.xruby.runtime.builtin;
+
+import org.apache.oro.text.regex.MalformedPatternException;
+import org.apache.oro.text.regex.MatchResult;
+import org.apache.oro.text.regex.Pattern;
+import org.apache.oro.text.regex.PatternMatcher;
+import org.apache.oro.text.regex.PatternMatcherInput;
+import org.apache.oro.text.regex.Perl5Compiler;
+import org.apache.oro.text.regex.Perl5Matcher;
+
+/**
+ * RegexpEngine on Jakarta ORO. ORO patterns are perl 5 patterns, which are
+ * close enough to ruby's that they are used as they are.
+ */
+class OroRegexpEngine extends RegexpEngine {
+    //null while the matcher of the thread is in use, so a nested search gets a new one
+    private static final ThreadLocal<PatternMatcher> matcher_ = new ThreadLocal<PatternMatcher>();
+
+    RegexpPattern compile(String source, int options) {
+        int mode = Perl5Compiler.DEFAULT_MASK;
+        if ((options & MULTILINE) != 0) {
+            mode |= Perl5Compiler.SINGLELINE_MASK;
+        } else {
+            mode |= Perl5Compiler.MULTILINE_MASK;
+        }
+
+        if ((options & IGNORECASE) != 0) {
+            mode |= Perl5Compiler.CASE_INSENSITIVE_MASK;
+        }
+
+        if ((options & EXTENDED) != 0) {
+            mode |= Perl5Compiler.EXTENDED_MASK;
+        }
+
+        //'\z' works for ruby, but ORO only supports '\Z'
+        source = source.replace("\\z", "\\Z");
+
+        try {
+            return new OroPattern(new Perl5Compiler().compile(source, mode));
+        } catch (MalformedPatternException e) {
+            throw new Error(e);
+        }
+    }
+
+    private static PatternMatcher acquireMatcher() {
+        PatternMatcher m = matcher_.get();
+        if (null == m) {
+            return new Perl5Matcher();
+        }
+
+        matcher_.set(null);
+        return m;
+    }
+
+    private static class OroPattern implements RegexpPattern {
+        private final Pattern pattern_;
+
+        OroPattern(Pattern pattern) {
+            pattern_ = pattern;
+        }
+
+        public RegexpMatch search(String input, int start) {
+            PatternMatcherInput in = new PatternMatcherInput(input);
+            in.setCurrentOffset(start);
+            PatternMatcher m = acquireMatcher();
+            try {
+                return m.contains(in, pattern_) ? new OroMatch(m.getMatch()) : null;
+            } finally {
+                //give the matcher back even if the match threw, or the thread never reuses it again
+                matcher_.set(m);
+            }
+        }
+
+        public RegexpMatcher matcher(String input) {
+            return new OroMatcher(pattern_, input);
+        }
+    }
+
+    private static class OroMatcher implements RegexpMatcher {
+        private final Pattern pattern_;
+        private final PatternMatcherInput input_;
+        private final PatternMatcher matcher_ = new Perl5Matcher();
+
+        OroMatcher(Pattern pattern, String input) {
+            pattern_ = pattern;
+            input_ = new PatternMatcherInput(input);
+        }
+
+        public RegexpMatch search(int start) {
+            input_.setCurrentOffset(start);
+            return matcher_.contains(input_, pattern_) ? new OroMatch(matcher_.getMatch()) : null;
+        }
+    }
+
+    private static class OroMatch implements RegexpMatch {
+        private final MatchResult result_;
+
+        OroMatch(MatchResult result) {
+            result_ = result;
+        }
+
+        public int groups() {
+            return result_.groups();
+        }
+
+        public String group(int group) {
+            return result_.group(group);
+        }
+
+        public int begin(int group) {
+            return result_.beginOffset(group);
+        }
+
+        public int end(int group) {
+            return result_.endOffset(group);
+        }
+    }
+}
@@ -44,7 +44,7 @@ public class OutputStreamExecutor implements RubyIOExecutor {
 		throw new Error("should reach here");
 	}
 
-	public String read(int length, int offset) {
+	public String read(long length, long offset) {
 		throw new Error("should reach here");
 	}
 
@@ -52,7 +52,7 @@ public class OutputStreamExecutor implements RubyIOExecutor {
 		throw new Error("should reach here");
 	}
 
-	public void truncate(int length) {
+	public void truncate(long length) {
 		throw new Error("should reach here");
 	}
 
@@ -0,0 +1,74 @@
+/**
+ * Copyright 2005-2007 Xue Yong Zhi
+ * Distributed under the Apache License
+ */
+
+package com.xruby.runtime.builtin;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compiled patterns shared by all RubyRegexps (Regexp.new, interpolated
+ * regexps and string patterns of String#gsub etc. compile the same source
+ * again and again).
+ *
+ * Compiled patterns are immutable and can be shared between threads. The
+ * least recently used pattern is dropped once there are more than
+ * -Dxruby.regexp_cache_size (256 by default) patterns.
+ */
+final class RegexpCache {
+    private static final int max_size_ = Integer.getInteger("xruby.regexp_cache_size", 256);
+
+    private static final Map<Key, RegexpPattern> cache_ = new LinkedHashMap<Key, RegexpPattern>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        protected boolean removeEldestEntry(Map.Entry<Key, RegexpPattern> eldest) {
+            return size() > max_size_;
+        }
+    };
+
+    /**
+     * @param options see RegexpEngine.compile()
+     */
+    static RegexpPattern getPattern(String source, int options) {
+        Key key = new Key(source, options);
+        synchronized (cache_) {
+            RegexpPattern pattern = cache_.get(key);
+            if (null != pattern) {
+                return pattern;
+            }
+        }
+
+        RegexpPattern pattern = RegexpEngine.getEngine().compile(source, options);
+        synchronized (cache_) {
+            if (max_size_ > 0) {
+                cache_.put(key, pattern);
+            }
+        }
+        return pattern;
+    }
+
+    private static class Key {
+        private final String source_;
+        private final int options_;
+
+        Key(String source, int options) {
+            source_ = source;
+            options_ = options;
+        }
+
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+
+            Key other = (Key)o;
+            return options_ == other.options_ && source_.equals(other.source_);
+        }
+
+        public int hashCode() {
+            return source_.hashCode() * 31 + options_;
+        }
+    }
+}
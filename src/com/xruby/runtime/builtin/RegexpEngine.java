@@ -0,0 +1,57 @@
+/**
+ * Copyright 2005-2007 Xue Yong Zhi
+ * Distributed under the Apache License
+ */
+
+package com.xruby.runtime.builtin;
+
+/**
+ * Regular expression library behind RubyRegexp. RubyRegexp only needs to
+ * compile a pattern and to search it in a string, everything else (scan,
+ * sub, split, MatchData and the $~ variables) is built on top of that.
+ *
+ * -Dxruby.regexp_engine selects the engine: "java" (java.util.regex, the
+ * default) or "oro" (Jakarta ORO, what xruby has used so far).
+ */
+abstract class RegexpEngine {
+    //same values as Regexp::IGNORECASE etc.
+    static final int IGNORECASE = 1;
+    static final int EXTENDED = 2;
+    static final int MULTILINE = 4;
+
+    private static final RegexpEngine engine_ = createEngine(System.getProperty("xruby.regexp_engine", "java"));
+
+    static RegexpEngine createEngine(String name) {
+        if (name.equals("java")) {
+            return new JavaRegexpEngine();
+        } else if (name.equals("oro")) {
+            return new OroRegexpEngine();
+        } else {
+            throw new Error("Unknown regexp engine " + name);
+        }
+    }
+
+    static RegexpEngine getEngine() {
+        return engine_;
+    }
+
+    static int getOptions(String option) {
+        int options = 0;
+        if (option.indexOf('i') > -1) {
+            options |= IGNORECASE;
+        }
+        if (option.indexOf('x') > -1) {
+            options |= EXTENDED;
+        }
+        if (option.indexOf('m') > -1) {
+            options |= MULTILINE;
+        }
+        return options;
+    }
+
+    /**
+     * @param source pattern in ruby syntax
+     * @param options IGNORECASE, EXTENDED and MULTILINE
+     */
+    abstract RegexpPattern compile(String source, int options);
+}
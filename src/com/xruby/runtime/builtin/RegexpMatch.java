@@ -0,0 +1,29 @@
+/**
+ * Copyright 2005-2007 Xue Yong Zhi
+ * Distributed under the Apache License
+ */
+
+package com.xruby.runtime.builtin;
+
+/**
+ * Result of RegexpPattern.search(). Group 0 is the whole match, offsets are
+ * relative to the beginning of the input.
+ */
+interface RegexpMatch {
+    /**
+     * @return number of groups, including group 0
+     */
+    int groups();
+
+    /**
+     * @return null if the group did not participate in the match
+     */
+    String group(int group);
+
+    /**
+     * @return -1 if the group did not participate in the match
+     */
+    int begin(int group);
+
+    int end(int group);
+}
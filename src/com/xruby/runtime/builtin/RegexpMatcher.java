@@ -0,0 +1,18 @@
+/**
+ * Copyright 2005-2007 Xue Yong Zhi
+ * Distributed under the Apache License
+ */
+
+package com.xruby.runtime.builtin;
+
+/**
+ * Searches one pattern in one input again and again (scan, gsub, split),
+ * for a single search RegexpPattern.search() is enough. Only one thread may
+ * use a matcher.
+ */
+interface RegexpMatcher {
+    /**
+     * @see RegexpPattern#search
+     */
+    RegexpMatch search(int start);
+}
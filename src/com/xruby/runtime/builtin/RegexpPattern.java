@@ -0,0 +1,20 @@
+/**
+ * Copyright 2005-2007 Xue Yong Zhi
+ * Distributed under the Apache License
+ */
+
+package com.xruby.runtime.builtin;
+
+/**
+ * Compiled pattern of a RegexpEngine, it can be used by several threads at
+ * the same time.
+ */
+interface RegexpPattern {
+    /**
+     * @param start offset to start searching at, 0 <= start <= input.length()
+     * @return the first match at or after start, null if there is none
+     */
+    RegexpMatch search(String input, int start);
+
+    RegexpMatcher matcher(String input);
+}
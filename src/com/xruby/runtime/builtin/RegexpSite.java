@@ -0,0 +1,57 @@
+/**
+ * Copyright 2005-2007 Xue Yong Zhi
+ * Distributed under the Apache License
+ */
+
+package com.xruby.runtime.builtin;
+
+/**
+ * Holds the RubyRegexp of one regexp literal in compiled code (see
+ * CallSiteClassGenerator), so the pattern is compiled once per literal
+ * instead of every time the literal is evaluated. Like ruby, every
+ * evaluation of the literal returns the same object.
+ *
+ * For a literal without expression substitution the regexp is created the
+ * first time it is needed (not when the class is loaded, so a bad pattern
+ * raises where it is used). A literal with expression substitution and the
+ * 'o' option (/#{...}/o) uses getOnce()/setOnce(): the substitution is
+ * evaluated only until the regexp has been created. Such a program is not
+ * reused by EvalCache, so every eval of it substitutes again.
+ */
+public class RegexpSite {
+    private final String value_;
+    private final String option_;
+    private volatile RubyRegexp regexp_;
+
+    /**
+     * @param value null for /#{...}/o
+     */
+    public RegexpSite(String value, String option) {
+        value_ = value;
+        option_ = option;
+    }
+
+    public RubyRegexp get() {
+        RubyRegexp regexp = regexp_;
+        if (null == regexp) {
+            regexp = ObjectFactory.createRegexp(value_, option_);
+            regexp_ = regexp;
+        }
+        return regexp;
+    }
+
+    /**
+     * @return null if the regexp has not been created yet
+     */
+    public RubyRegexp getOnce() {
+        return regexp_;
+    }
+
+    public synchronized RubyRegexp setOnce(RubyString value) {
+        //another thread may have been faster
+        if (null == regexp_) {
+            regexp_ = ObjectFactory.createRegexp(value.toString(), option_);
+        }
+        return regexp_;
+    }
+}
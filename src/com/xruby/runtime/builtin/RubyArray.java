@@ -483,7 +483,7 @@ public class RubyArray extends RubyBasic implements Iterable<RubyValue> {
 
     @RubyLevelMethod(name="to_s")
     public RubyValue to_s() {
-        RubyString r = ObjectFactory.createString();
+        RubyString r = ObjectFactory.createString(new StringBuilder(estimateStringLength(0)));
 
         for (RubyValue v : array_) {
             r.appendString(v);
@@ -495,6 +495,42 @@ public class RubyArray extends RubyBasic implements Iterable<RubyValue> {
         return r;
     }
 
+    @RubyLevelMethod(name="join")
+    public RubyValue join() {
+        return to_s();
+    }
+
+    @RubyLevelMethod(name="join")
+    public RubyValue join(RubyValue separator) {
+        if (separator == RubyConstant.QNIL) {
+            return to_s();
+        }
+
+        String sep = separator.toStr();
+        if (sep.length() == 0) {
+            return to_s();
+        }
+
+        RubyString r = ObjectFactory.createString(new StringBuilder(estimateStringLength(sep.length())));
+        for (int i = 0; i < array_.size(); ++i) {
+            if (i > 0) {
+                r.appendString(sep);
+            }
+            r.appendString(array_.get(i));
+        }
+        return r;
+    }
+
+    //Capacity for the result of to_s/join, so that the buffer does not have
+    //to grow while the elements are appended.
+    private int estimateStringLength(int separator_length) {
+        int length = separator_length * Math.max(array_.size() - 1, 0);
+        for (RubyValue v : array_) {
+            length += (v instanceof RubyString) ? ((RubyString)v).length() : 8;
+        }
+        return length;
+    }
+
     @RubyLevelMethod(name="length")
     public RubyFixnum length() {
         return ObjectFactory.createFixnum(this.array_.size());
@@ -732,6 +768,29 @@ public class RubyArray extends RubyBasic implements Iterable<RubyValue> {
         return this;
     }
 
+    @RubyLevelMethod(name="inject")
+    public RubyValue inject(RubyBlock block) {
+        if (array_.isEmpty()) {
+            return RubyConstant.QNIL;
+        }
+        return inject(array_.get(0), 1, block);
+    }
+
+    @RubyLevelMethod(name="inject")
+    public RubyValue inject(RubyValue init, RubyBlock block) {
+        return inject(init, 0, block);
+    }
+
+    private RubyValue inject(RubyValue memo, int start, RubyBlock block) {
+        for (int i = start; i < array_.size(); ++i) {
+            memo = block.invoke(this, memo, array_.get(i));
+            if (block.breakedOrReturned()) {
+                return memo;
+            }
+        }
+        return memo;
+    }
+
     @RubyLevelMethod(name="each_index")
     public RubyValue each_index(RubyBlock block) {
         for (int i=0;i<size();i++) {
@@ -0,0 +1,72 @@
+/**
+ * Copyright 2007 Xue Yong Zhi, Ye Zheng
+ * Distributed under the Apache License
+ */
+
+package com.xruby.runtime.builtin;
+
+import com.xruby.runtime.lang.RubyAPI;
+import com.xruby.runtime.lang.RubyConstant;
+import com.xruby.runtime.lang.RubyException;
+import com.xruby.runtime.lang.RubyID;
+import com.xruby.runtime.lang.RubyRuntime;
+import com.xruby.runtime.lang.RubyValue;
+import com.xruby.runtime.lang.annotation.RubyLevelMethod;
+import com.xruby.runtime.lang.annotation.RubyLevelModule;
+
+@RubyLevelModule(name="Comparable")
+public class RubyComparableModule {
+	@RubyLevelMethod(name="==")
+	public static RubyValue equal(RubyValue receiver, RubyValue arg) {
+		if (receiver == arg) {
+			return RubyConstant.QTRUE;
+		}
+
+		RubyValue result = RubyAPI.callPublicOneArgMethod(receiver, arg, null, RubyID.unequalID);
+		return ObjectFactory.createBoolean(result instanceof RubyFixnum && result.toInt() == 0);
+	}
+
+	@RubyLevelMethod(name=">")
+	public static RubyValue gt(RubyValue receiver, RubyValue arg) {
+		return ObjectFactory.createBoolean(compare(receiver, arg) > 0);
+	}
+
+	@RubyLevelMethod(name=">=")
+	public static RubyValue ge(RubyValue receiver, RubyValue arg) {
+		return ObjectFactory.createBoolean(compare(receiver, arg) >= 0);
+	}
+
+	@RubyLevelMethod(name="<")
+	public static RubyValue lt(RubyValue receiver, RubyValue arg) {
+		return ObjectFactory.createBoolean(compare(receiver, arg) < 0);
+	}
+
+	@RubyLevelMethod(name="<=")
+	public static RubyValue le(RubyValue receiver, RubyValue arg) {
+		return ObjectFactory.createBoolean(compare(receiver, arg) <= 0);
+	}
+
+	@RubyLevelMethod(name="between?")
+	public static RubyValue between(RubyValue receiver, RubyValue min, RubyValue max) {
+		return ObjectFactory.createBoolean(compare(receiver, min) >= 0 && compare(receiver, max) <= 0);
+	}
+
+	private static int compare(RubyValue receiver, RubyValue arg) {
+		RubyValue result = RubyAPI.callPublicOneArgMethod(receiver, arg, null, RubyID.unequalID);
+		if (result instanceof RubyFixnum) {
+			return result.toInt();
+		}
+
+		if (result == RubyConstant.QNIL) {
+			throw new RubyException(RubyRuntime.ArgumentErrorClass,
+					"comparison of " + receiver.getRubyClass().getName() + " with " + arg.getRubyClass().getName() + " failed");
+		}
+
+		if (RubyAPI.callPublicOneArgMethod(result, ObjectFactory.FIXNUM0, null, RubyID.gtID).isTrue()) {
+			return 1;
+		} else if (RubyAPI.callPublicOneArgMethod(result, ObjectFactory.FIXNUM0, null, RubyID.ltID).isTrue()) {
+			return -1;
+		}
+		return 0;
+	}
+}
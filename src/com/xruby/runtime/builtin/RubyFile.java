@@ -168,7 +168,7 @@ public class RubyFile extends RubyIO {
 
     @RubyLevelMethod(name="truncate")
     public RubyValue truncate(RubyValue arg) {
-        truncate(arg.toInt());
+        truncate(RubyTypesUtil.convertToJavaLong(arg));
         return ObjectFactory.FIXNUM0;
     }
 
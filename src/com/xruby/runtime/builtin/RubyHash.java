@@ -10,12 +10,9 @@ import com.xruby.runtime.lang.annotation.RubyLevelClass;
 import com.xruby.runtime.lang.annotation.RubyLevelMethod;
 import com.xruby.runtime.lang.annotation.RubyAllocMethod;
 
-import java.util.HashMap;
-import java.util.Iterator;
-
 @RubyLevelClass(name="Hash", modules="Enumerable")
 public class RubyHash extends RubyBasic {
-    private HashMap<RubyValue, RubyValue> map_ = new HashMap<RubyValue, RubyValue>();
+    private RubyHashTable map_ = new RubyHashTable();
     private RubyValue default_value_ = RubyConstant.QNIL;
     private RubyBlock default_value_as_block_ = null;
 
@@ -23,10 +20,9 @@ public class RubyHash extends RubyBasic {
         super(RubyRuntime.HashClass);
     }
 
-    @SuppressWarnings("unchecked")
     public RubyHash clone() {
         RubyHash h = (RubyHash) super.clone();
-        h.map_ = (HashMap<RubyValue, RubyValue>) map_.clone();
+        h.map_ = map_.clone();
         return h;
     }
 
@@ -69,9 +65,11 @@ public class RubyHash extends RubyBasic {
     public RubyString to_s() {
         RubyString r = ObjectFactory.createString();
 
-        for (RubyValue key : map_.keySet()) {
-            RubyValue value = map_.get(key);
-            r.appendString(key.toString() + value.toString());
+        for (int i = 0; i < map_.end(); ++i) {
+            RubyValue key = map_.keyAt(i);
+            if (null != key) {
+                r.appendString(key.toString() + map_.valueAt(i).toString());
+            }
         }
 
         return r;
@@ -103,13 +101,12 @@ public class RubyHash extends RubyBasic {
 
     @RubyLevelMethod(name="delete_if")
     public RubyValue delete_if(RubyBlock block) {
-        Iterator<RubyValue> ite = map_.keySet().iterator();
-        while (ite.hasNext()) {
-            RubyValue key = ite.next();
-            RubyValue value = map_.get(key);
-            RubyValue r = block.invoke(this, key, value);
+        RubyValue[] keys = map_.keys();
+        RubyValue[] values = map_.values();
+        for (int i = 0; i < keys.length; ++i) {
+            RubyValue r = block.invoke(this, keys[i], values[i]);
             if (r.isTrue()) {
-                ite.remove();
+                map_.remove(keys[i]);
             }
         }
 
@@ -162,17 +159,22 @@ public class RubyHash extends RubyBasic {
     }
 
     public boolean equals(RubyHash that) {
-        if (this.size() != that.size()) {
+        if (map_.size() != that.map_.size()) {
             return false;
         }
 
-        for (RubyValue key : map_.keySet()) {
-            RubyValue v1 = that.get(key);
+        for (int i = 0; i < map_.end(); ++i) {
+            RubyValue key = map_.keyAt(i);
+            if (null == key) {
+                continue;
+            }
+
+            RubyValue v1 = that.map_.get(key);
             if (null == v1) {
                 return false;
             }
 
-            RubyValue v2 = this.get(key);
+            RubyValue v2 = map_.valueAt(i);
             if (!RubyAPI.testEqual(v1, v2)) {
                 return false;
             }
@@ -181,10 +183,46 @@ public class RubyHash extends RubyBasic {
         return true;
     }
 
+    @RubyLevelMethod(name="each", alias="each_pair")
+    public RubyValue each(RubyBlock block) {
+        //iterate over a snapshot, the block may modify the hash
+        RubyValue[] keys = map_.keys();
+        RubyValue[] values = map_.values();
+        for (int i = 0; i < keys.length; ++i) {
+            RubyValue v = block.invoke(this, new RubyArray(keys[i], values[i]));
+            if (block.breakedOrReturned()) {
+                return v;
+            }
+        }
+        return this;
+    }
+
+    @RubyLevelMethod(name="each_key")
+    public RubyValue each_key(RubyBlock block) {
+        for (RubyValue key : map_.keys()) {
+            RubyValue v = block.invoke(this, key);
+            if (block.breakedOrReturned()) {
+                return v;
+            }
+        }
+        return this;
+    }
+
+    @RubyLevelMethod(name="each_value")
+    public RubyValue each_value(RubyBlock block) {
+        for (RubyValue value : map_.values()) {
+            RubyValue v = block.invoke(this, value);
+            if (block.breakedOrReturned()) {
+                return v;
+            }
+        }
+        return this;
+    }
+
     @RubyLevelMethod(name="keys")
     public RubyArray keys() {
-        RubyArray a = new RubyArray();
-        for (RubyValue key : map_.keySet()) {
+        RubyArray a = new RubyArray(map_.size());
+        for (RubyValue key : map_.keys()) {
             a.add(key);
         }
         return a;
@@ -192,7 +230,7 @@ public class RubyHash extends RubyBasic {
 
     @RubyLevelMethod(name="values")
     public RubyArray values() {
-        RubyArray a = new RubyArray();
+        RubyArray a = new RubyArray(map_.size());
         for (RubyValue value : map_.values()) {
             a.add(value);
         }
@@ -205,8 +243,10 @@ public class RubyHash extends RubyBasic {
             return default_value_;
         }
 
-        RubyValue k = map_.keySet().iterator().next();
-        RubyValue v = map_.remove(k);
+        int first = map_.first();
+        RubyValue k = map_.keyAt(first);
+        RubyValue v = map_.valueAt(first);
+        map_.remove(k);
 
         RubyArray a = new RubyArray(2);
         a.add(k);
@@ -0,0 +1,266 @@
+/**
+ * Copyright 2005-2007 Xue Yong Zhi, Ye Zheng
+ * Distributed under the Apache License
+ */
+
+package com.xruby.runtime.builtin;
+
+import com.xruby.runtime.lang.RubyAPI;
+import com.xruby.runtime.lang.RubyID;
+import com.xruby.runtime.lang.RubyObject;
+import com.xruby.runtime.lang.RubySymbol;
+import com.xruby.runtime.lang.RubyValue;
+
+/**
+ * Storage of RubyHash: an insertion ordered open addressing hash table.
+ *
+ * Entries are kept in parallel arrays (keys_, values_, hashes_) in the order
+ * they were added, index_ maps a hash to the position of an entry (plus
+ * one, 0 is an empty slot) with linear probing. A removed entry keeps its
+ * slot in index_ with a null key, so probe chains are not broken, the
+ * holes are squeezed out the next time the arrays are reallocated.
+ *
+ * Fixnum, Symbol and String keys are hashed and compared in Java, objects of
+ * user defined classes use their ruby 'hash' and 'eql?' methods, all other
+ * builtin values use hashCode()/equals() as before.
+ */
+final class RubyHashTable implements Cloneable {
+    private static final int MIN_CAPACITY = 8;
+
+    private RubyValue[] keys_ = null;//allocated on the first put
+    private RubyValue[] values_ = null;
+    private int[] hashes_ = null;
+    private int[] index_ = null;
+    private int end_ = 0;//number of used positions, including removed entries
+    private int size_ = 0;
+
+    int size() {
+        return size_;
+    }
+
+    boolean isEmpty() {
+        return 0 == size_;
+    }
+
+    /**
+     * @return the value, or null if there is no such key
+     */
+    RubyValue get(RubyValue key) {
+        int i = find(key, hash(key));
+        return (i >= 0) ? values_[i] : null;
+    }
+
+    boolean containsKey(RubyValue key) {
+        return find(key, hash(key)) >= 0;
+    }
+
+    boolean containsValue(RubyValue value) {
+        for (int i = 0; i < end_; ++i) {
+            if (null != keys_[i] && values_[i].equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void put(RubyValue key, RubyValue value) {
+        int hash = hash(key);
+        int i = find(key, hash);
+        if (i >= 0) {
+            values_[i] = value;
+            return;
+        }
+
+        if (null == keys_ || end_ == keys_.length) {
+            resize();
+        }
+
+        i = end_++;
+        keys_[i] = key;
+        values_[i] = value;
+        hashes_[i] = hash;
+        addToIndex(hash, i);
+        ++size_;
+    }
+
+    /**
+     * @return the removed value, or null if there is no such key
+     */
+    RubyValue remove(RubyValue key) {
+        int i = find(key, hash(key));
+        if (i < 0) {
+            return null;
+        }
+
+        RubyValue v = values_[i];
+        keys_[i] = null;
+        values_[i] = null;
+        if (0 == --size_) {
+            clear();
+        }
+        return v;
+    }
+
+    void clear() {
+        keys_ = null;
+        values_ = null;
+        hashes_ = null;
+        index_ = null;
+        end_ = 0;
+        size_ = 0;
+    }
+
+    /**
+     * @return position of the first entry, or -1 if the table is empty
+     */
+    int first() {
+        for (int i = 0; i < end_; ++i) {
+            if (null != keys_[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Entries are at positions 0 to end() - 1, keyAt() is null for the
+     * positions of removed entries.
+     */
+    int end() {
+        return end_;
+    }
+
+    RubyValue keyAt(int i) {
+        return keys_[i];
+    }
+
+    RubyValue valueAt(int i) {
+        return values_[i];
+    }
+
+    /**
+     * @return a copy of the keys in insertion order
+     */
+    RubyValue[] keys() {
+        return copy(keys_);
+    }
+
+    /**
+     * @return a copy of the values in insertion order
+     */
+    RubyValue[] values() {
+        return copy(values_);
+    }
+
+    private RubyValue[] copy(RubyValue[] a) {
+        RubyValue[] r = new RubyValue[size_];
+        int j = 0;
+        for (int i = 0; i < end_; ++i) {
+            if (null != keys_[i]) {
+                r[j++] = a[i];
+            }
+        }
+        return r;
+    }
+
+    public RubyHashTable clone() {
+        try {
+            RubyHashTable t = (RubyHashTable)super.clone();
+            if (null != keys_) {
+                t.keys_ = keys_.clone();
+                t.values_ = values_.clone();
+                t.hashes_ = hashes_.clone();
+                t.index_ = index_.clone();
+            }
+            return t;
+        } catch (CloneNotSupportedException e) {
+            throw new Error(e);
+        }
+    }
+
+    private int find(RubyValue key, int hash) {
+        if (null == index_) {
+            return -1;
+        }
+
+        int mask = index_.length - 1;
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            int i = index_[slot] - 1;
+            if (i < 0) {
+                return -1;
+            }
+
+            RubyValue k = keys_[i];
+            if (null != k && hashes_[i] == hash && keyEquals(k, key)) {
+                return i;
+            }
+        }
+    }
+
+    private void addToIndex(int hash, int i) {
+        int mask = index_.length - 1;
+        int slot = hash & mask;
+        while (0 != index_[slot]) {
+            slot = (slot + 1) & mask;
+        }
+        index_[slot] = i + 1;
+    }
+
+    //Grows the arrays, or just squeezes out removed entries if that frees
+    //enough room. index_ is twice as large as the entry arrays, so the load
+    //factor of the probe table never exceeds 1/2.
+    private void resize() {
+        int capacity = MIN_CAPACITY;
+        if (null != keys_) {
+            capacity = (size_ < keys_.length / 2) ? keys_.length : keys_.length * 2;
+        }
+
+        RubyValue[] keys = new RubyValue[capacity];
+        RubyValue[] values = new RubyValue[capacity];
+        int[] hashes = new int[capacity];
+        index_ = new int[capacity * 2];
+
+        int j = 0;
+        for (int i = 0; i < end_; ++i) {
+            if (null != keys_[i]) {
+                keys[j] = keys_[i];
+                values[j] = values_[i];
+                hashes[j] = hashes_[i];
+                addToIndex(hashes[j], j);
+                ++j;
+            }
+        }
+
+        keys_ = keys;
+        values_ = values;
+        hashes_ = hashes;
+        end_ = j;
+    }
+
+    private static int hash(RubyValue key) {
+        int h;
+        if (key instanceof RubyObject) {
+            h = RubyAPI.callPublicNoArgMethod(key, null, RubyID.hashID).hashCode();
+        } else {
+            //Fixnum: its value, Symbol: its id, String: cached content hash
+            h = key.hashCode();
+        }
+        return h ^ (h >>> 16);
+    }
+
+    private static boolean keyEquals(RubyValue k, RubyValue key) {
+        if (k == key) {
+            return true;
+        } else if (k instanceof RubyFixnum) {
+            return key instanceof RubyFixnum && k.toInt() == key.toInt();
+        } else if (k instanceof RubySymbol) {
+            return false;
+        } else if (k instanceof RubyString) {
+            return key instanceof RubyString && k.equals(key);
+        } else if (k instanceof RubyObject) {
+            return RubyAPI.callPublicOneArgMethod(key, k, null, RubyID.eqlID).isTrue();
+        } else {
+            return k.equals(key);
+        }
+    }
+}
@@ -41,4 +41,24 @@ public class RubyHashTest extends TestCase {
         assertEquals(v2, r2);
     }
 
+    public void test_remove() {
+        RubyHash h = new RubyHash();
+        for (int i = 0; i < 100; ++i) {
+            h.add(ObjectFactory.createFixnum(i), ObjectFactory.createFixnum(i * 2));
+        }
+        for (int i = 0; i < 100; i += 2) {
+            assertEquals(ObjectFactory.createFixnum(i * 2), h.delete(ObjectFactory.createFixnum(i)));
+        }
+        assertEquals(50, h.size().toInt());
+
+        RubyArray keys = h.keys();
+        for (int i = 0; i < 50; ++i) {
+            assertEquals(i * 2 + 1, keys.get(i).toInt());
+        }
+
+        h.add(ObjectFactory.createFixnum(0), ObjectFactory.FIXNUM0);
+        assertEquals(ObjectFactory.FIXNUM0, h.get(ObjectFactory.createFixnum(0)));
+        assertEquals(0, h.keys().get(50).toInt());
+    }
+
 }
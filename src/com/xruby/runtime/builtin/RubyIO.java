@@ -44,19 +44,19 @@ public class RubyIO extends RubyBasic {
         executor.print(s);
     }
 
-    public String read() {
+    public CharSequence read() {
         return executor.read();
     }
 
-    public String read(int length, int offset) {
+    public CharSequence read(long length, long offset) {
         return executor.read(length, offset);
     }
 
-    public String read(long length) {
+    public CharSequence read(long length) {
         return executor.read(length);
     }
     
-    public void truncate(int length) {
+    public void truncate(long length) {
         this.executor.truncate(length);
     }
 
@@ -194,7 +194,7 @@ public class RubyIO extends RubyBasic {
         if ((null == args) || (RubyConstant.QNIL == args.get(0))) {
             return buildResult(this.executor.read(), buffer);
         } else {
-            return buildResult(this.executor.read(args.get(0).toInt()), buffer);
+            return buildResult(this.executor.read(RubyTypesUtil.convertToJavaLong(args.get(0))), buffer);
         }
     }
 	
@@ -208,14 +208,14 @@ public class RubyIO extends RubyBasic {
     }
 
 	
-    private static RubyValue buildResult(String s, RubyString buffer) {
+    private static RubyValue buildResult(CharSequence s, RubyString buffer) {
         if (null == s) {
             if (null != buffer) {
                 buffer.setString("");
             }
             return RubyConstant.QNIL;
         } else if (null != buffer) {
-            buffer.setString(s);
+            buffer.setValue(s);
             return buffer;
         } else {
             return ObjectFactory.createString(s);
@@ -225,13 +225,60 @@ public class RubyIO extends RubyBasic {
     @RubyLevelMethod(name="gets")
     public RubyValue gets(RubyArray args) {
     	RubyValue seperator = (null == args) ? GlobalVariables.get("$/") : args.get(0);
-    	String s = this.executor.gets(seperator);
+    	CharSequence s = this.executor.gets(seperator);
     	RubyValue v = (null == s) ? RubyConstant.QNIL : ObjectFactory.createString(s);
-    	GlobalVariables.set(v, "$_");
-
-    	return GlobalVariables.get("$_");
+    	return GlobalVariables.set(v, "$_");
     }
     
+    private static RubyValue lineSeparator(RubyArray args) {
+        return (null == args || args.size() == 0) ? GlobalVariables.get("$/") : args.get(0);
+    }
+
+    @RubyLevelMethod(name="each_line", alias="each")
+    public RubyValue each_line(RubyArray args, RubyBlock block) {
+        RubyValue separator = lineSeparator(args);
+        CharSequence s;
+        while (null != (s = this.executor.gets(separator))) {
+            RubyValue v = block.invoke(this, ObjectFactory.createString(s));
+            if (block.breakedOrReturned()) {
+                return v;
+            }
+        }
+        return this;
+    }
+
+    @RubyLevelMethod(name="readlines")
+    public RubyArray readlines(RubyArray args) {
+        RubyValue separator = lineSeparator(args);
+        RubyArray a = new RubyArray();
+        CharSequence s;
+        while (null != (s = this.executor.gets(separator))) {
+            a.add(ObjectFactory.createString(s));
+        }
+        return a;
+    }
+
+    @RubyLevelMethod(name="readlines", singleton=true)
+    public static RubyValue readlinesSingleton(RubyValue receiver, RubyArray args) {
+        RubyIO io = ObjectFactory.createFile(args.get(0).toStr(), "r");
+        try {
+            return io.readlines(args.subarray(1, args.size() - 1));
+        } finally {
+            io.close();
+        }
+    }
+
+    @RubyLevelMethod(name="foreach", singleton=true)
+    public static RubyValue foreach(RubyValue receiver, RubyArray args, RubyBlock block) {
+        RubyIO io = ObjectFactory.createFile(args.get(0).toStr(), "r");
+        try {
+            RubyValue v = io.each_line(args.subarray(1, args.size() - 1), block);
+            return block.breakedOrReturned() ? v : RubyConstant.QNIL;
+        } finally {
+            io.close();
+        }
+    }
+
     @RubyLevelMethod(name="pipe")
     public static RubyValue pipeSingleton(RubyValue receiver, RubyBlock block) {
         RubyArray array = new RubyArray(2);
@@ -252,18 +299,18 @@ public class RubyIO extends RubyBasic {
     public static RubyValue read(RubyValue receiver, RubyArray args, RubyBlock block) {
         RubyString fileName = (RubyString) args.get(0);
         RubyIO io = ObjectFactory.createFile(fileName.toString(), "r");
-        int offset;
-        int length;
+        long offset;
+        long length;
 
         RubyValue r;
         if (args.size() == 1) {
             r = buildResult(io.read(), null);
         } else {
-            length = ((RubyFixnum) args.get(1)).toInt();
+            length = RubyTypesUtil.convertToJavaLong(args.get(1));
             if (args.size() == 2) {
                 r = buildResult(io.read(length), null);
             } else {
-                offset = ((RubyFixnum) args.get(2)).toInt();
+                offset = RubyTypesUtil.convertToJavaLong(args.get(2));
                 r = buildResult(io.read(length, offset), null);
             }
         }
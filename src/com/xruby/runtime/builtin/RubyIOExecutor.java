@@ -19,15 +19,18 @@ interface RubyIOExecutor {
 
     void print(String s);
 
-    String gets(RubyValue seperator);
+    //The read methods return a String, or a ByteString which RubyIO puts
+    //into the RubyString as it is.
 
-    String read();
+    CharSequence gets(RubyValue seperator);
 
-    String read(long length);
+    CharSequence read();
 
-    String read(int length, int offset);
+    CharSequence read(long length);
 
-    void truncate(int length);
+    CharSequence read(long length, long offset);
+
+    void truncate(long length);
 
     void seek(long pos);
 
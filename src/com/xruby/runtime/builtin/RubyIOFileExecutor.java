@@ -5,183 +5,532 @@
 
 package com.xruby.runtime.builtin;
 
-import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.File;
-import java.io.RandomAccessFile;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.InvalidPathException;
+import java.nio.file.OpenOption;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 import com.xruby.runtime.lang.RubyConstant;
 import com.xruby.runtime.lang.RubyException;
 import com.xruby.runtime.lang.RubyRuntime;
 import com.xruby.runtime.lang.RubyValue;
 
+/**
+ * IO of a File: a FileChannel with one direct buffer, which holds either the
+ * bytes read ahead of the current position or the bytes written but not yet
+ * passed to the channel, never both. Pending writes go to the channel when
+ * the buffer is full, before the next read or seek, on flush and close, and
+ * at exit for files that are never closed.
+ *
+ * gets looks for the separator in the bytes, so a line is decoded only once.
+ * ASCII text (like the separators, the default charset is taken to be ASCII
+ * compatible) is not decoded at all: the bytes go into a ByteString, and the
+ * RubyString keeps them. Other text is decoded with the default charset, as
+ * before. Positions are longs, reads are limited by the size of an array.
+ *
+ * Files of MAP_THRESHOLD bytes or more opened read only are memory mapped
+ * instead, a window at a time, so each_line over a huge file only touches
+ * the pages of the current window. A window is unmapped when the next one
+ * is mapped and on close, see unmap().
+ */
 class RubyIOFileExecutor implements RubyIOExecutor {
+    private static final Charset CHARSET = Charset.defaultCharset();
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+    private static final int INITIAL_BYTES_SIZE = 128;
+    private static final long MAP_THRESHOLD = 1024 * 1024;
+    private static final long MAP_WINDOW_SIZE = 128 * 1024 * 1024;
+    private static final byte[] NEWLINE = {'\n'};
+    private static final byte[] PARAGRAPH = {'\n', '\n'};
+
+    private static final int IDLE = 0;
+    private static final int READING = 1;
+    private static final int WRITING = 2;
 
-    private RandomAccessFile file_ = null;
+    //Executors with pending writes
+    private static final Set<RubyIOFileExecutor> dirty_ =
+        Collections.synchronizedSet(new LinkedHashSet<RubyIOFileExecutor>());
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread() {
+            public void run() {
+                flushAll();
+            }
+        });
+    }
+
+    //sun.misc.Unsafe and its invokeCleaner(ByteBuffer), null before JDK 9
+    private static final Object UNSAFE;
+    private static final Method INVOKE_CLEANER;
+
+    static {
+        Object unsafe = null;
+        Method invoke_cleaner = null;
+        try {
+            Class<?> c = Class.forName("sun.misc.Unsafe");
+            Field f = c.getDeclaredField("theUnsafe");
+            f.setAccessible(true);
+            unsafe = f.get(null);
+            invoke_cleaner = c.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (Exception e) {
+            // Do not care, the windows are unmapped by GC
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invoke_cleaner;
+    }
+
+    private FileChannel channel_ = null;
+    private boolean readable_ = false;
+    private boolean writable_ = false;
+    private boolean append_ = false;
+    private boolean mapped_ = false;
+    private ByteBuffer buffer_ = null;//allocated on first use, File.read does not need it
+    private int state_ = IDLE;
+    private long buffer_start_ = 0;//file position of buffer_[0], or the current position when IDLE
+    private byte[] bytes_ = new byte[INITIAL_BYTES_SIZE];//result of read and gets before decoding
 
     public RubyIOFileExecutor(String filename, String mode) {
         open(filename, mode);
     }
 
-    private String translateMode(String mode) {
-        if (mode.equals("w")) {
-            return "rw";
-        } else if (mode.equals("a")) {
-            return "rw";
-        } else if (mode.equals("rb")) {
-            return "r";
-        } else if (mode.equals("r+")) {
-            return "r";
+    private boolean open(String filename, String mode) {
+        assert (null == channel_);
+
+        //'b' and 't' make no difference here
+        String m = mode.replace("b", "").replace("t", "");
+        boolean plus = m.endsWith("+");
+        Set<OpenOption> options = new HashSet<OpenOption>();
+        if (m.startsWith("w")) {
+            options.add(StandardOpenOption.WRITE);
+            options.add(StandardOpenOption.CREATE);
+            options.add(StandardOpenOption.TRUNCATE_EXISTING);
+        } else if (m.startsWith("a")) {
+            options.add(StandardOpenOption.WRITE);
+            options.add(StandardOpenOption.CREATE);
+            append_ = true;
         } else {
-            return mode;
+            options.add(StandardOpenOption.READ);
+        }
+        if (plus) {
+            options.add(StandardOpenOption.READ);
+            options.add(StandardOpenOption.WRITE);
         }
-    }
 
-    private boolean open(String filename, String mode) {
-        assert (null == file_);
-		File f = new File(filename);
-		long length =  f.length();
+        readable_ = options.contains(StandardOpenOption.READ);
+        writable_ = options.contains(StandardOpenOption.WRITE);
         try {
-            file_ = new RandomAccessFile(f, translateMode(mode));
-            if (mode.equals("w")) {
-                file_.setLength(0);
-            } else if (mode.equals("a")) {
-                file_.seek(length);
-			}
+            channel_ = FileChannel.open(Paths.get(filename), options);
+            if (append_) {
+                buffer_start_ = channel_.size();
+            }
+            mapped_ = !writable_ && channel_.size() >= MAP_THRESHOLD;
             return true;
-        } catch (FileNotFoundException e) {
-            return false;
         } catch (IOException e) {
-            file_ = null;
+            return false;
+        } catch (InvalidPathException e) {
             return false;
         }
     }
 
-    public boolean eof() {
-        try {
-            return file_.length() == file_.getFilePointer();
-        } catch (IOException e) {
-            throw new RubyException(RubyRuntime.IOErrorClass, e.toString());
+    private static void flushAll() {
+        RubyIOFileExecutor[] executors;
+        synchronized (dirty_) {
+            executors = dirty_.toArray(new RubyIOFileExecutor[dirty_.size()]);
         }
-    }
 
-    public void close() {
-        if (null != file_) {
+        for (RubyIOFileExecutor e : executors) {
             try {
-                file_.close();
-                file_ = null;
-            } catch (IOException e) {
+                e.sync();
+            } catch (IOException ex) {
                 // Do not care
             }
         }
     }
 
-    public void flush() {
-        try {
-            file_.getChannel().force(false);
-        } catch (IOException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
+    private void checkOpened() {
+        if (null == channel_) {
+            throw new RubyException(RubyRuntime.IOErrorClass, "file is not opened");
         }
     }
 
-    public void print(String s) {
-        if (null == file_) {
-            throw new RubyException(RubyRuntime.IOErrorClass, "file is not opened");
+    private void checkReadable() {
+        checkOpened();
+        if (!readable_) {
+            throw new RubyException(RubyRuntime.IOErrorClass, "not opened for reading");
         }
+    }
 
-        try {
-            file_.writeBytes(s);
-        } catch (IOException e) {
-            // FIXME: deal with the exception
+    private void checkWritable() {
+        checkOpened();
+        if (!writable_) {
+            throw new RubyException(RubyRuntime.IOErrorClass, "not opened for writing");
         }
     }
 
-    private String readsTheEntireContents() throws IOException {
-        int size = (int) file_.length();// TODO converted long to int
-        byte[] buffer = new byte[size];
-        if (file_.read(buffer) < 0) {
-            return "";
-        } else {
-            return new String(buffer);
+    private static RubyException ioError(IOException e) {
+        return new RubyException(RubyRuntime.IOErrorClass, e.toString());
+    }
+
+    private ByteBuffer buffer() {
+        if (null == buffer_) {
+            buffer_ = ByteBuffer.allocateDirect(BUFFER_SIZE);
         }
+        return buffer_;
+    }
+
+    private long position() {
+        return (IDLE == state_) ? buffer_start_ : buffer_start_ + buffer_.position();
+    }
+
+    //Drops the bytes read ahead, or writes the pending bytes, so that the
+    //buffer is empty and buffer_start_ is the current position.
+    private void sync() throws IOException {
+        if (READING == state_) {
+            buffer_start_ += buffer_.position();
+        } else if (WRITING == state_) {
+            buffer_.flip();
+            buffer_start_ = writeFully(buffer_);
+            dirty_.remove(this);
+        }
+
+        if (null != buffer_) {
+            buffer_.clear();
+        }
+        state_ = IDLE;
+    }
+
+    //@return the position after the written bytes
+    private long writeFully(ByteBuffer b) throws IOException {
+        long pos = append_ ? channel_.size() : buffer_start_;
+        while (b.hasRemaining()) {
+            pos += channel_.write(b, pos);
+        }
+        return pos;
+    }
+
+    //@return false at the end of file
+    private boolean fill() throws IOException {
+        if (READING == state_ && buffer_.hasRemaining()) {
+            return true;
+        }
+
+        if (mapped_) {
+            return map();
+        }
+
+        ByteBuffer b = buffer();
+        sync();
+        if (channel_.read(b, buffer_start_) <= 0) {
+            b.clear();
+            return false;
+        }
+
+        b.flip();
+        state_ = READING;
+        return true;
+    }
+
+    //Large read only files are not copied into buffer_, the next window of
+    //the file is mapped and used in its place.
+    private boolean map() throws IOException {
+        sync();
+        unmap();
+        long remaining = channel_.size() - buffer_start_;
+        if (remaining <= 0) {
+            return false;
+        }
+
+        buffer_ = channel_.map(FileChannel.MapMode.READ_ONLY, buffer_start_, Math.min(remaining, MAP_WINDOW_SIZE));
+        state_ = READING;
+        return true;
+    }
+
+    //A mapping is otherwise released only when GC collects the buffer, which
+    //can be long after close (and on windows the file cannot be deleted
+    //until then). Nothing may use the window afterwards, so buffer_ is the
+    //only reference to it. Without invokeCleaner (JDK 8) the window is just
+    //dropped and left to GC.
+    private void unmap() {
+        if (mapped_ && null != buffer_ && null != INVOKE_CLEANER) {
+            try {
+                INVOKE_CLEANER.invoke(UNSAFE, buffer_);
+            } catch (Exception e) {
+                // Do not care, GC unmaps it
+            }
+        }
+        buffer_ = null;
+    }
+
+    private void write(byte[] bytes) throws IOException {
+        ByteBuffer b = buffer();
+        if (WRITING == state_ && bytes.length > b.remaining()) {
+            sync();
+        }
+
+        if (bytes.length >= b.capacity()) {
+            sync();
+            buffer_start_ = writeFully(ByteBuffer.wrap(bytes));
+            return;
+        }
+
+        if (WRITING != state_) {
+            sync();
+            if (append_) {
+                buffer_start_ = channel_.size();
+            }
+            state_ = WRITING;
+            dirty_.add(this);
+        }
+        b.put(bytes);
+    }
+
+    private void ensureCapacity(long needed) {
+        if (needed <= bytes_.length) {
+            return;
+        } else if (needed > MAX_ARRAY_SIZE) {
+            throw new RubyException(RubyRuntime.IOErrorClass, "file is too large to be read into a String");
+        }
+
+        byte[] bytes = new byte[(int)Math.max(needed, Math.min(bytes_.length * 2L, MAX_ARRAY_SIZE))];
+        System.arraycopy(bytes_, 0, bytes, 0, bytes_.length);
+        bytes_ = bytes;
     }
 
-    private String readUntilSeperator(String separator) throws IOException {
-        // FIXME This is cheating, should read until separator
-        String s = file_.readLine();
-        if (null == s) {
-            return null;
+    //Moves n bytes from the read buffer to bytes_[length]
+    private int append(int length, int n) {
+        ensureCapacity((long)length + n);
+        buffer_.get(bytes_, length, n);
+        return length + n;
+    }
+
+    private CharSequence decode(int length) {
+        CharSequence s;
+        if (!ByteString.isAscii(bytes_, length)) {
+            s = new String(bytes_, 0, length, CHARSET);
+        } else if (length == bytes_.length) {
+            //File.read fills an array of the right size, hand it over
+            s = new ByteString(bytes_, 0, length);
+            bytes_ = new byte[INITIAL_BYTES_SIZE];
         } else {
-            return s + "\n";
+            s = new ByteString(Arrays.copyOf(bytes_, length), 0, length);
+        }
+
+        if (bytes_.length > BUFFER_SIZE) {
+            bytes_ = new byte[INITIAL_BYTES_SIZE];
         }
+        return s;
     }
 
-    public String gets(RubyValue separator) {
-        if (null == file_) {
-            throw new RubyException(RubyRuntime.IOErrorClass, "file is not opened");
+    //Reads up to max bytes into bytes_, fewer only at the end of file. Short
+    //reads go through the buffer, long ones directly into bytes_, mapped
+    //files are copied from the mapping.
+    private int readBytes(long max) throws IOException {
+        int length = 0;
+        if (READING == state_) {
+            length = append(0, (int)Math.min(buffer_.remaining(), max));
         }
 
-        try {
-            if (RubyConstant.QNIL == separator) {
-                return readsTheEntireContents();
+        if (mapped_) {
+            ensureCapacity(Math.min(max, length + Math.max(channel_.size() - position(), 0)));
+        }
+
+        if (mapped_ || max - length < BUFFER_SIZE) {
+            while (length < max && fill()) {
+                length = append(length, (int)Math.min(buffer_.remaining(), max - length));
             }
+            return length;
+        }
 
-            if (!(separator instanceof RubyString)) {
-                throw new RubyException(RubyRuntime.TypeErrorClass, "can't convert "
-                        + separator.getRubyClass().getName() + " into String");
+        sync();
+        long remaining = channel_.size() - buffer_start_;
+        ensureCapacity(Math.min(max, length + Math.max(remaining, 1)));
+        while (length < max) {
+            if (length == bytes_.length) {
+                ensureCapacity(length + 1L);
             }
 
-            RubyString s = (RubyString) separator;
+            int n = channel_.read(ByteBuffer.wrap(bytes_, length, (int)Math.min(bytes_.length - length, max - length)), buffer_start_);
+            if (n < 0) {
+                break;
+            }
+            length += n;
+            buffer_start_ += n;
+        }
+        return length;
+    }
 
-            return readUntilSeperator(s.toString());
-        } catch (IOException e) {
-            throw new RubyException(RubyRuntime.IOErrorClass, e.toString());
+    private void skipNewlines() throws IOException {
+        while (fill()) {
+            if ('\n' != buffer_.get(buffer_.position())) {
+                return;
+            }
+            buffer_.get();
         }
     }
 
-    public String read() {
-        if (null == file_) {
-            throw new RubyException(RubyRuntime.IOErrorClass, "file is not opened");
+    private boolean endsWith(int length, byte[] separator) {
+        if (length < separator.length) {
+            return false;
         }
 
+        for (int i = 0; i < separator.length; ++i) {
+            if (bytes_[length - separator.length + i] != separator[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    //Paragraph mode (separator is PARAGRAPH) also skips the newlines around
+    //the paragraph.
+    private CharSequence readUntilSeparator(byte[] separator) throws IOException {
+        boolean paragraph = (PARAGRAPH == separator);
+        if (paragraph) {
+            skipNewlines();
+        }
+
+        byte last = separator[separator.length - 1];
+        int length = 0;
+        while (fill()) {
+            int limit = buffer_.limit();
+            for (int i = buffer_.position(); i < limit; ++i) {
+                if (buffer_.get(i) == last) {
+                    length = append(length, i + 1 - buffer_.position());
+                    if (endsWith(length, separator)) {
+                        if (paragraph) {
+                            skipNewlines();
+                        }
+                        return decode(length);
+                    }
+                }
+            }
+            length = append(length, limit - buffer_.position());
+        }
+
+        return (0 == length) ? null : decode(length);
+    }
+
+    private static byte[] toBytes(String separator) {
+        if (separator.length() == 0) {
+            return PARAGRAPH;
+        } else if (separator.equals("\n")) {
+            return NEWLINE;
+        } else {
+            return separator.getBytes(CHARSET);
+        }
+    }
+
+    public boolean eof() {
+        checkReadable();
+
         try {
-            return readsTheEntireContents();
+            return !fill();
         } catch (IOException e) {
-            throw new RubyException(RubyRuntime.IOErrorClass, e.toString());
+            throw ioError(e);
         }
     }
 
-    public String read(long length) {
-        if (null == file_) {
-            throw new RubyException(RubyRuntime.IOErrorClass, "file is not opened");
+    public void close() {
+        if (null != channel_) {
+            try {
+                sync();
+            } catch (IOException e) {
+                throw ioError(e);
+            } finally {
+                try {
+                    channel_.close();
+                } catch (IOException e) {
+                    // Do not care
+                }
+                unmap();
+                channel_ = null;
+                dirty_.remove(this);
+            }
+        }
+    }
+
+    public void flush() {
+        checkOpened();
+
+        if (WRITING == state_) {
+            try {
+                sync();
+            } catch (IOException e) {
+                throw ioError(e);
+            }
+        }
+    }
+
+    public void print(String s) {
+        checkWritable();
+
+        try {
+            write(s.getBytes(CHARSET));
+        } catch (IOException e) {
+            throw ioError(e);
         }
+    }
+
+    public CharSequence gets(RubyValue separator) {
+        checkReadable();
 
         try {
-            long size = file_.length();
-            size = Math.min(length, size);
-            byte[] buffer = new byte[(int) size];
-            if (file_.read(buffer) < 0) {
-                return null;
-            } else {
-                return new String(buffer);
+            if (RubyConstant.QNIL == separator) {
+                int length = readBytes(Long.MAX_VALUE);
+                return (0 == length) ? null : decode(length);
+            }
+
+            if (!(separator instanceof RubyString)) {
+                throw new RubyException(RubyRuntime.TypeErrorClass, "can't convert "
+                        + separator.getRubyClass().getName() + " into String");
             }
+
+            return readUntilSeparator(toBytes(separator.toString()));
         } catch (IOException e) {
-            throw new RubyException(RubyRuntime.IOErrorClass, e.toString());
+            throw ioError(e);
         }
     }
 
-    public String read(int length, int offset) {
-        if (null == file_) {
-            throw new RubyException(RubyRuntime.IOErrorClass, "file is not opened");
+    public CharSequence read() {
+        checkReadable();
+
+        try {
+            return decode(readBytes(Long.MAX_VALUE));
+        } catch (IOException e) {
+            throw ioError(e);
+        }
+    }
+
+    public CharSequence read(long length) {
+        checkReadable();
+
+        if (length < 0) {
+            throw new RubyException(RubyRuntime.ArgumentErrorClass, "negative length " + length + " given");
+        } else if (0 == length) {
+            return "";
         }
 
         try {
-            file_.seek(offset);
+            int n = readBytes(length);
+            return (0 == n) ? null : decode(n);
         } catch (IOException e) {
-            throw new RubyException(RubyRuntime.IOErrorClass, e.toString());
+            throw ioError(e);
         }
+    }
 
+    public CharSequence read(long length, long offset) {
+        seek(offset);
         return read(length);
     }
 
@@ -190,19 +539,35 @@ class RubyIOFileExecutor implements RubyIOExecutor {
         return s.length();
     }
 
-    public void truncate(int length) {
+    public void truncate(long length) {
+        checkWritable();
+
         try {
-            file_.setLength(length);
+            sync();
+            long size = channel_.size();
+            if (length < size) {
+                channel_.truncate(length);
+            } else if (length > size) {
+                channel_.write(ByteBuffer.wrap(new byte[1]), length - 1);
+            }
         } catch (IOException e) {
-            throw new RubyException(RubyRuntime.IOErrorClass, e.toString());
+            throw ioError(e);
         }
     }
 
     public void seek(long pos) {
+        checkOpened();
+
+        if (READING == state_ && pos >= buffer_start_ && pos <= buffer_start_ + buffer_.limit()) {
+            buffer_.position((int)(pos - buffer_start_));
+            return;
+        }
+
         try {
-            file_.seek(pos);
+            sync();
+            buffer_start_ = pos;
         } catch (IOException e) {
-            throw new RubyException(RubyRuntime.IOErrorClass, e.toString());
+            throw ioError(e);
         }
     }
 }
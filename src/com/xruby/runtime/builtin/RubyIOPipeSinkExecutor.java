@@ -62,7 +62,7 @@ public class RubyIOPipeSinkExecutor implements RubyIOExecutor {
         throw notAllowed();
     }
 
-    public String read(int length, int offset) {
+    public String read(long length, long offset) {
         throw notAllowed();
     }
 
@@ -71,7 +71,7 @@ public class RubyIOPipeSinkExecutor implements RubyIOExecutor {
         return s.length();
     }
 
-    public void truncate(int length) {
+    public void truncate(long length) {
         throw notAllowed();
     }
 
@@ -109,8 +109,8 @@ public class RubyIOPipeSourceExecutor implements RubyIOExecutor {
         return new String(buffer.array(), 0, n);
     }
 
-    public String read(int length, int offset) {
-        ByteBuffer buffer = ByteBuffer.allocate(offset);
+    public String read(long length, long offset) {
+        ByteBuffer buffer = ByteBuffer.allocate((int) offset);
         try {
             avaliable = source.read(buffer) > 0;
         } catch (IOException e) {
@@ -124,7 +124,7 @@ public class RubyIOPipeSourceExecutor implements RubyIOExecutor {
         throw notAllowed();
     }
 
-    public void truncate(int length) {
+    public void truncate(long length) {
         throw notAllowed();
     }
 
@@ -41,6 +41,51 @@ public abstract class RubyInteger extends RubyNumeric {
         return this;
 	}
 	
+	@RubyLevelMethod(name="upto")
+	public RubyValue upto(RubyValue to, RubyBlock block) {
+		if (this instanceof RubyFixnum && to instanceof RubyFixnum) {
+			long end = to.toInt();
+			for (long i = this.toInt(); i <= end; ++i) {
+				RubyValue v = block.invoke(this, ObjectFactory.createFixnum((int)i));
+				if (block.breakedOrReturned()) {
+					return v;
+				}
+			}
+			return this;
+		}
+
+		return step(to, RubyID.leID, RubyID.plusID, block);
+	}
+
+	@RubyLevelMethod(name="downto")
+	public RubyValue downto(RubyValue to, RubyBlock block) {
+		if (this instanceof RubyFixnum && to instanceof RubyFixnum) {
+			long end = to.toInt();
+			for (long i = this.toInt(); i >= end; --i) {
+				RubyValue v = block.invoke(this, ObjectFactory.createFixnum((int)i));
+				if (block.breakedOrReturned()) {
+					return v;
+				}
+			}
+			return this;
+		}
+
+		return step(to, RubyID.geID, RubyID.subID, block);
+	}
+
+	//upto/downto for Bignum or Float limits
+	private RubyValue step(RubyValue to, RubyID compare, RubyID next, RubyBlock block) {
+		RubyValue a = this;
+		while (RubyAPI.callPublicOneArgMethod(a, to, null, compare).isTrue()) {
+			RubyValue v = block.invoke(this, a);
+			if (block.breakedOrReturned()) {
+				return v;
+			}
+			a = RubyAPI.callPublicOneArgMethod(a, ObjectFactory.FIXNUM1, null, next);
+		}
+		return this;
+	}
+
 	@RubyLevelMethod(name="chr")
 	public RubyValue chr() {
 		int i = this.toInt();
@@ -15,8 +15,7 @@ import java.util.regex.Pattern;
 import antlr.RecognitionException;
 import antlr.TokenStreamException;
 
-import com.xruby.compiler.RubyCompiler;
-import com.xruby.compiler.codegen.CompilationResults;
+import com.xruby.compiler.EvalCache;
 import com.xruby.compiler.codegen.NameFactory;
 import com.xruby.runtime.javasupport.JavaClass;
 import com.xruby.runtime.lang.*;
@@ -240,10 +239,8 @@ public class RubyKernelModule {
 	}
 
 	private static RubyValue eval(String evalText) {
-		RubyCompiler compiler = new RubyCompiler();
         try {
-			CompilationResults codes = compiler.compileString(evalText);
-            RubyProgram p = codes.getRubyProgram();
+            RubyProgram p = EvalCache.getRubyProgram(null, evalText, null);
             return p.invoke();
         } catch (RecognitionException e) {
             throw new RubyException(RubyRuntime.SyntaxErrorClass, e.toString());
@@ -257,10 +254,8 @@ public class RubyKernelModule {
 	}
 
 	public static RubyValue eval(String evalText, RubyBinding binding) {
-		RubyCompiler compiler = new RubyCompiler();
         try {
-			CompilationResults codes = compiler.compileString(evalText);
-            RubyProgram p = codes.getRubyProgram();
+            RubyProgram p = EvalCache.getRubyProgram(null, evalText, null);
             return p.invoke(binding.getSelf(), binding.getVariables(), binding.getBlock(), binding.getScope());
         } catch (RecognitionException e) {
             throw new RubyException(RubyRuntime.SyntaxErrorClass, e.toString());
@@ -274,10 +269,8 @@ public class RubyKernelModule {
 	}
 
 	private static RubyValue eval(String evalText, RubyBinding binding, String file_name) {
-		RubyCompiler compiler = new RubyCompiler(binding, false);
         try {
-			CompilationResults codes = compiler.compileString(file_name, evalText);
-            RubyProgram p = codes.getRubyProgram();
+            RubyProgram p = EvalCache.getRubyProgram(file_name, evalText, binding);
             if (null != binding) {
                 return p.invoke(binding.getSelf(), binding.getVariables(), binding.getBlock(), binding.getScope());
             } else {
@@ -363,7 +356,8 @@ public class RubyKernelModule {
         RubyValue tag = args.get(0);
 		if (tag instanceof RubySymbol ||
             tag instanceof RubyString) {
-            e = new RubyExceptionValueForThrow(tag, args.get(1));
+            //used for control flow, see catchMethod
+            throw new RubyException(new RubyExceptionValueForThrow(tag, args.get(1)), false);
         } else if (tag instanceof RubyExceptionValue) {
             e = (RubyExceptionValue)tag;
         } else if (tag instanceof RubyClass) {
@@ -537,8 +531,7 @@ public class RubyKernelModule {
             s = in_.readLine();
         } catch (IOException e) {
         }
-        GlobalVariables.set((null == s ? RubyConstant.QNIL : ObjectFactory.createString(s)), "$_");
-        return GlobalVariables.get("$_");
+        return GlobalVariables.set((null == s ? RubyConstant.QNIL : ObjectFactory.createString(s)), "$_");
     }
 
     @RubyLevelMethod(name="object_id", alias={"__id__", "hash"})
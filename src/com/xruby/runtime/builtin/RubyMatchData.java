@@ -5,23 +5,22 @@
 
 package com.xruby.runtime.builtin;
 
-import org.apache.oro.text.regex.MatchResult;
 import com.xruby.runtime.lang.*;
 import com.xruby.runtime.lang.annotation.RubyLevelClass;
 import com.xruby.runtime.lang.annotation.RubyLevelMethod;
 
 @RubyLevelClass(name="MatchData")
 public class RubyMatchData extends RubyBasic {
-    private MatchResult result_;
+    private RegexpMatch result_;
 
-    RubyMatchData(MatchResult m) {
+    RubyMatchData(RegexpMatch m) {
         super(RubyRuntime.MatchDataClass);
         result_ = m;
     }
 
     @RubyLevelMethod(name="to_s")
     public RubyString to_s() {
-        return ObjectFactory.createString(result_.toString());
+        return ObjectFactory.createString(result_.group(0));
     }
 
     public String toString() {
@@ -33,4 +32,35 @@ public class RubyMatchData extends RubyBasic {
         int index = arg.toInt();
         return ObjectFactory.createString(result_.group(index));
     }
+
+    private int getGroup(RubyValue arg) {
+        int index = arg.toInt();
+        if (index < 0 || index >= result_.groups()) {
+            throw new RubyException(RubyRuntime.IndexErrorClass, "index " + index + " out of matches");
+        }
+        return index;
+    }
+
+    private static RubyValue createOffset(int offset) {
+        return (offset < 0) ? RubyConstant.QNIL : ObjectFactory.createFixnum(offset);
+    }
+
+    @RubyLevelMethod(name="begin")
+    public RubyValue begin(RubyValue arg) {
+        return createOffset(result_.begin(getGroup(arg)));
+    }
+
+    @RubyLevelMethod(name="end")
+    public RubyValue end(RubyValue arg) {
+        return createOffset(result_.end(getGroup(arg)));
+    }
+
+    @RubyLevelMethod(name="offset")
+    public RubyValue offset(RubyValue arg) {
+        int group = getGroup(arg);
+        RubyArray a = new RubyArray(2);
+        a.add(createOffset(result_.begin(group)));
+        a.add(createOffset(result_.end(group)));
+        return a;
+    }
 }
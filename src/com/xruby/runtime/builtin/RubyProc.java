@@ -5,8 +5,11 @@
 
 package com.xruby.runtime.builtin;
 
+import com.xruby.runtime.lang.ProcReturnException;
 import com.xruby.runtime.lang.RubyBinding;
 import com.xruby.runtime.lang.RubyBlock;
+import com.xruby.runtime.lang.RubyException;
+import com.xruby.runtime.lang.RubyFrame;
 import com.xruby.runtime.lang.RubyRuntime;
 import com.xruby.runtime.lang.RubyValue;
 import com.xruby.runtime.lang.RubyVarArgMethod;
@@ -103,26 +106,32 @@ public class RubyProc extends RubyBinding {
             throw new Error("we overided invoke, so this method should never be called");
         }
 
-        public RubyValue invoke(RubyValue receiver, RubyArray args, RubyBlock block) {
-            RubyValue v = ((RubyProc)receiver).call(args);
-            RubyBlock anotherBlock = ((RubyProc)receiver).getBlock();
-            if (null != anotherBlock) {
-                v.setReturnedInBlock(anotherBlock.returned(), anotherBlock.breakedOrReturned(), !anotherBlock.createdByLambda());
+        //'return' or 'break' in a proc (not lambda) can not simply return from
+        //Proc#call, see ProcReturnException
+        private static RubyValue returnOrBreak(RubyBlock block, RubyValue v) {
+            if (null == block || block.createdByLambda()) {
+                return v;
+            } else if (block.returned()) {
+                RubyFrame frame = block.getFrame();
+                if (null == frame || !frame.isRunning()) {
+                    throw new RubyException(RubyRuntime.LocalJumpErrorClass, "unexpected return");
+                }
+                throw ProcReturnException.getInstance(v, frame);
+            } else if (block.breakedOrReturned()) {
+                throw new RubyException(RubyRuntime.LocalJumpErrorClass, "break from proc-closure");
             } else {
-                v.setReturnedInBlock(false, false, false);
+                return v;
             }
-            return v;
+        }
+
+        public RubyValue invoke(RubyValue receiver, RubyArray args, RubyBlock block) {
+            RubyProc p = (RubyProc)receiver;
+            return returnOrBreak(p.getBlock(), p.call(args));
         }
 
         public RubyValue invoke(RubyValue receiver, RubyBlock block) {
-        	RubyValue v = ((RubyProc)receiver).call();
-        	RubyBlock anotherBlock = ((RubyProc)receiver).getBlock();
-            if (null != anotherBlock) {
-                v.setReturnedInBlock(anotherBlock.returned(), anotherBlock.breakedOrReturned(), !anotherBlock.createdByLambda());
-            } else {
-                v.setReturnedInBlock(false, false, false);
-            }
-            return v;
+            RubyProc p = (RubyProc)receiver;
+            return returnOrBreak(p.getBlock(), p.call());
         }
 
         public RubyValue invoke(RubyValue receiver, RubyValue arg, RubyBlock block) {
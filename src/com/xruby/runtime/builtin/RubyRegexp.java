@@ -12,9 +12,7 @@ import com.xruby.runtime.lang.annotation.RubyLevelMethod;
 
 import java.util.ArrayList;
 import java.util.Collection;
-
-import org.apache.oro.text.perl.Perl5Util;
-import org.apache.oro.text.regex.*;
+import java.util.List;
 
 /*
  * TODO:
@@ -37,49 +35,39 @@ import org.apache.oro.text.regex.*;
  */
 @RubyLevelClass(name="Regexp")
 public class RubyRegexp extends RubyBasic {
+    private static final GlobalVariableSlot MATCH = GlobalVariables.getSlot("$&");
+    private static final GlobalVariableSlot[] GROUPS = new GlobalVariableSlot[10];
+    static {
+        for (int i = 1; i < GROUPS.length; ++i) {
+            GROUPS[i] = GlobalVariables.getSlot("$" + i);
+        }
+    }
 
-    private Pattern pattern_;
+    private String source_;
+    private RegexpPattern pattern_;
 
     RubyRegexp(String v) {
         super(RubyRuntime.RegexpClass);
-        this.setValue(v, Perl5Compiler.MULTILINE_MASK);
+        this.setValue(v, 0);
     }
 
     RubyRegexp(String v, String option) {
         super(RubyRuntime.RegexpClass);
-        int mode = Perl5Compiler.DEFAULT_MASK;
-        if (option.indexOf('m') > -1) {
-            mode |= Perl5Compiler.SINGLELINE_MASK;
-        } else {
-            mode |= Perl5Compiler.MULTILINE_MASK;
-        }
-
-        if (option.indexOf('i') > -1) {
-            mode |= Perl5Compiler.CASE_INSENSITIVE_MASK;
-        }
-
-        if (option.indexOf('x') > -1) {
-            mode |= Perl5Compiler.EXTENDED_MASK;
-        }
-
-        this.setValue(v, mode);
+        this.setValue(v, RegexpEngine.getOptions(option));
     }
 
     RubyRegexp() {
         super(RubyRuntime.RegexpClass);
     }
 
-    private void setValue(String v, int mode) {
-        PatternCompiler compiler = new Perl5Compiler();
-
-        //'\z' works for ruby, but ORO only supports '\Z'
-        v = v.replace("\\z", "\\Z");
+    private void setValue(String v, int options) {
+        pattern_ = RegexpCache.getPattern(v, options);
+        source_ = v;
+    }
 
-        try {
-            pattern_ = compiler.compile(v, mode);
-        } catch (MalformedPatternException e) {
-            throw new Error(e);
-        }
+    private void setValue(RubyRegexp r) {
+        pattern_ = r.pattern_;
+        source_ = r.source_;
     }
 
     @RubyAllocMethod
@@ -91,9 +79,9 @@ public class RubyRegexp extends RubyBasic {
     public RubyValue initialize(RubyValue arg) {
         RubyValue pattern = arg;
         if (pattern instanceof RubyRegexp) {
-            pattern_ = ((RubyRegexp)pattern).pattern_;
+            setValue((RubyRegexp)pattern);
         } else {
-            setValue(pattern.toStr(), Perl5Compiler.MULTILINE_MASK);
+            setValue(pattern.toStr(), 0);
         }
 
         return this;
@@ -102,7 +90,7 @@ public class RubyRegexp extends RubyBasic {
     @RubyLevelMethod(name="initialize")
     public RubyValue initialize(RubyValue pattern, RubyValue mode) {
         if (pattern instanceof RubyRegexp) {
-            pattern_ = ((RubyRegexp)pattern).pattern_;
+            setValue((RubyRegexp)pattern);
         } else {
             setValue(pattern.toStr(), getFlag(mode));
         }
@@ -116,15 +104,13 @@ public class RubyRegexp extends RubyBasic {
         return initialize(args.get(0), args.get(1));
     }
 
-    private static final int RE_OPTION_IGNORECASE = 1;
-
     private int getFlag(RubyValue mode) {
         if (mode instanceof RubyFixnum) {
             return mode.toInt();
         }
 
         // 0 is default flag
-        return mode.isTrue() ? RE_OPTION_IGNORECASE : 0;
+        return mode.isTrue() ? RegexpEngine.IGNORECASE : 0;
     }
 
     @RubyLevelMethod(name="===")
@@ -173,7 +159,18 @@ public class RubyRegexp extends RubyBasic {
 
     @RubyLevelMethod(name="escape", alias="quote")
     public static RubyString quote(RubyValue receiver, RubyValue arg) {
-        String input = arg.toStr();
+        return new RubyString(quote(arg.toStr()));
+    }
+
+    /**
+     * @return regexp matching the string literally, for the string patterns
+     * of String#gsub etc.
+     */
+    static RubyRegexp createLiteral(String s) {
+        return new RubyRegexp(quote(s).toString(), "");
+    }
+
+    private static StringBuilder quote(String input) {
         StringBuilder result = new StringBuilder(input.length() * 2);
 
         for(int i = 0; i < input.length(); ++i) {
@@ -209,7 +206,7 @@ public class RubyRegexp extends RubyBasic {
             }
         }
 
-        return new RubyString(result);
+        return result;
     }
 
     boolean caseEqual(String v) {
@@ -217,9 +214,8 @@ public class RubyRegexp extends RubyBasic {
     }
 
     public RubyMatchData match(String input) {
-        PatternMatcher m = new Perl5Matcher();
-        if (m.contains(input, pattern_)) {
-            MatchResult r = m.getMatch();
+        RegexpMatch r = pattern_.search(input, 0);
+        if (null != r) {
             updateGlobalVariables(r);
             return ObjectFactory.createMatchData(r);
         } else {
@@ -228,185 +224,248 @@ public class RubyRegexp extends RubyBasic {
         }
     }
 
+    /**
+     * @return where to search for the next match: an empty match has to
+     * move on by one character, otherwise it would be found again
+     */
+    private static int nextStart(RegexpMatch r) {
+        int end = r.end(0);
+        return (r.begin(0) == end) ? end + 1 : end;
+    }
+
+    private static RubyValue groupToRubyValue(RegexpMatch r, int i) {
+        String s = r.group(i);
+        return (null == s) ? RubyConstant.QNIL : ObjectFactory.createString(s);
+    }
+
+    private static RubyValue scanResult(RegexpMatch r) {
+        if (r.groups() == 1) {
+            return ObjectFactory.createString(r.group(0));
+        }
+
+        RubyArray subarray = new RubyArray();
+        for (int i = 1; i < r.groups(); ++i) {
+            subarray.add(groupToRubyValue(r, i));
+        }
+        return subarray;
+    }
+
     public RubyArray scan(String str) {
         RubyArray a = new RubyArray();
 
-        PatternMatcherInput input = new PatternMatcherInput(str);
-        PatternMatcher m = new Perl5Matcher();
-        while (m.contains(input, pattern_)) {
-            MatchResult r = m.getMatch();
+        RegexpMatcher m = pattern_.matcher(str);
+        int start = 0;
+        RegexpMatch r;
+        while (start <= str.length() && null != (r = m.search(start))) {
             updateGlobalVariables(r);
-
-            if (r.groups() == 1) {
-                a.add(ObjectFactory.createString(r.group(0)));
-            } else {
-                RubyArray subarray = new RubyArray();
-                for (int i = 1; i < r.groups(); ++i) {
-                    String s = r.group(i);
-                    subarray.add(null == s ? RubyConstant.QNIL : ObjectFactory.createString(s));
-                }
-                a.add(subarray);
-            }
+            a.add(scanResult(r));
+            start = nextStart(r);
         }
 
         return a;
     }
 
     public void scan(String str, RubyBlock block) {
-        PatternMatcherInput input = new PatternMatcherInput(str);
-        PatternMatcher m = new Perl5Matcher();
-        while (m.contains(input, pattern_)) {
-            MatchResult r = m.getMatch();
+        RegexpMatcher m = pattern_.matcher(str);
+        int start = 0;
+        RegexpMatch r;
+        while (start <= str.length() && null != (r = m.search(start))) {
             updateGlobalVariables(r);
-
-            if (r.groups() == 1) {
-                block.invoke(this, ObjectFactory.createString(r.group(0)));
-            } else {
-                RubyArray subarray = new RubyArray();
-                for (int i = 1; i < r.groups(); ++i) {
-                    subarray.add(ObjectFactory.createString(r.group(i)));
-                }
-                block.invoke(this, subarray);
-            }
+            block.invoke(this, scanResult(r));
+            start = nextStart(r);
         }
     }
 
     int matchPosition(String input) {
-        PatternMatcher m = new Perl5Matcher();
-        if (m.contains(input, pattern_)) {
-            MatchResult r = m.getMatch();
+        RegexpMatch r = pattern_.search(input, 0);
+        if (null != r) {
             updateGlobalVariables(r);
-            return r.beginOffset(0);
+            return r.begin(0);
         } else {
             clearGlobalVariables();
             return -1;
         }
     }
 
-    private String getReplaceString(String replace_string) {
-        //java and oro use $1, $2, ruby uses \1, \2
-        replace_string = replace_string.replace("\\&", "$0");
-
-        //%q{location:1 in 'l'}.sub(/\A(.+:\d+).*/, ' [\\1]') is as same as
-        //%q{location:1 in 'l'}.sub(/\A(.+:\d+).*/, ' [\1]')
-        for (int i = 1; i < 10; ++i) {
-            replace_string = replace_string.replace("\\\\" + i, "$" + i);
-            replace_string = replace_string.replace("\\" + i, "$" + i);
-        }
+    public RubyString sub(RubyString input, RubyBlock block) {
+        return sub(input, block, null, false);
+    }
 
-        return replace_string;
+    public RubyString gsub(RubyString input, RubyBlock block) {
+        return sub(input, block, null, true);
     }
 
-    public RubyString sub(RubyString input, RubyBlock block) {
-        return sub(input, block, 0);
+    public RubyString gsub(RubyString input, RubyString sub) {
+        return sub(input, null, sub.toString(), true);
     }
 
-    public RubyString gsub(RubyString input, RubyBlock block) {
-        return sub(input, block, -1);
+    public RubyString sub(RubyString input, RubyString sub) {
+        return sub(input, null, sub.toString(), false);
     }
 
-    private RubyString sub(RubyString str, RubyBlock block, int limit) {
-        RubyString result = new RubyString("");
-        PatternMatcherInput input = new PatternMatcherInput(str.toString());
-        PatternMatcher matcher = new Perl5Matcher();
+    /**
+     * @param block replacement of each match is the value of the block, or
+     * @param replace_string if block is null
+     * @return str if the pattern is not found
+     */
+    private RubyString sub(RubyString str, RubyBlock block, String replace_string, boolean global) {
+        String s = str.toString();
+        StringBuilder result = null;
         int end = 0;
-        boolean matched = false;
-        while (matcher.contains(input, pattern_)) {
-            matched = true;
-            MatchResult r = matcher.getMatch();
-            updateGlobalVariables(r);
-
-            int begin = r.beginOffset(0);
-            if (begin > end) {
-                //append unmatched
-                result.appendString(str.toString().substring(end, begin));
+        RegexpMatcher m = pattern_.matcher(s);
+        int start = 0;
+        RegexpMatch r;
+        while (start <= s.length() && null != (r = m.search(start))) {
+            if (null == result) {
+                result = new StringBuilder(s.length());
             }
+            updateGlobalVariables(r);
 
-            end = r.endOffset(0);
+            //append unmatched
+            result.append(s, end, r.begin(0));
+            end = r.end(0);
 
-            RubyString match = new RubyString(r.group(0));
-            RubyValue v = block.invoke(this, match);
-            result.appendString(v.toString());
+            if (null != block) {
+                RubyValue v = block.invoke(this, ObjectFactory.createString(r.group(0)));
+                result.append(v.toString());
+            } else {
+                appendReplacement(result, replace_string, r, s);
+            }
 
-            if (0 == limit) {
+            if (!global) {
                 break;
             }
+            start = nextStart(r);
         }
 
-        if (!matched) {
+        if (null == result) {
             return str;
         }
 
         //append unmatched
-        if (end < str.length()) {
-            result.appendString(str.toString().substring(end, str.length()));
-        }
-
-        return result;
+        result.append(s, end, s.length());
+        return ObjectFactory.createString(result.toString());
     }
 
-    public RubyString gsub(RubyString input, RubyString sub) {
-        return sub(input, getReplaceString(sub.toString()), Util.SUBSTITUTE_ALL);
-    }
+    /**
+     * Appends replace_string with \0 to \9, \&, \` and \' replaced by
+     * the match. '\\' is a backslash.
+     */
+    private static void appendReplacement(StringBuilder result, String replace_string, RegexpMatch r, String input) {
+        int length = replace_string.length();
+        for (int i = 0; i < length; ++i) {
+            char c = replace_string.charAt(i);
+            if ('\\' != c || i + 1 == length) {
+                result.append(c);
+                continue;
+            }
 
-    public RubyString sub(RubyString input, RubyString sub) {
-        return sub(input, getReplaceString(sub.toString()), 1);
-    }
-
-    private RubyString sub(RubyString input, String sub, int limit) {
-        StringBuffer result = new StringBuffer();
-        int nmatch = Util.substitute(
-                result,
-                new Perl5Matcher(),
-                pattern_,
-                new Perl5Substitution(sub, Perl5Substitution.INTERPOLATE_ALL) {
-                    public void appendSubstitution(java.lang.StringBuffer appendBuffer,
-                        MatchResult match,
-                        int substitutionCount,
-                        PatternMatcherInput originalInput,
-                        PatternMatcher matcher,
-                        Pattern pattern) {
-                        super.appendSubstitution(appendBuffer, match, substitutionCount, originalInput, matcher, pattern);
-                        updateGlobalVariables(match);
-                    }
-                },
-                input.toString(),
-                limit);
-        if (nmatch > 0) {
-            return ObjectFactory.createString(result.toString());
-        } else {
-            return input;
+            char next = replace_string.charAt(++i);
+            //%q{location:1 in 'l'}.sub(/\A(.+:\d+).*/, ' [\\1]') is as same as
+            //%q{location:1 in 'l'}.sub(/\A(.+:\d+).*/, ' [\1]')
+            if ('\\' == next && i + 1 < length && Character.isDigit(replace_string.charAt(i + 1))) {
+                next = replace_string.charAt(++i);
+            }
+
+            if (Character.isDigit(next)) {
+                int group = next - '0';
+                if (group < r.groups() && null != r.group(group)) {
+                    result.append(r.group(group));
+                }
+            } else if ('&' == next) {
+                result.append(r.group(0));
+            } else if ('`' == next) {
+                result.append(input, 0, r.begin(0));
+            } else if ('\'' == next) {
+                result.append(input, r.end(0), input.length());
+            } else if ('\\' == next) {
+                result.append('\\');
+            } else {
+                result.append(c).append(next);
+            }
         }
     }
 
+    /**
+     * Like ruby's String#split with a regexp: groups are part of the result,
+     * an empty match splits between characters, and trailing empty strings
+     * are removed unless limit is negative.
+     */
     public Collection<String> split(String input, int limit) {
-        Perl5Util util = new Perl5Util();
-        Collection<String> result = new ArrayList<String>();
-        String regx = "/" + pattern_.getPattern() + "/";
-        util.split(result, regx, input, limit);
+        List<String> result = new ArrayList<String>();
+        if (input.length() == 0) {
+            return result;
+        } else if (1 == limit) {
+            result.add(input);
+            return result;
+        }
+
+        int begin = 0;
+        int start = 0;
+        int count = 1;
+        boolean last_null = false;
+        RegexpMatcher m = pattern_.matcher(input);
+        RegexpMatch r;
+        while (start <= input.length() && null != (r = m.search(start))) {
+            int end = r.begin(0);
+            if (start == end && r.begin(0) == r.end(0)) {
+                if (last_null) {
+                    result.add(input.substring(begin, begin + 1));
+                    begin = start;
+                } else {
+                    ++start;
+                    last_null = true;
+                    continue;
+                }
+            } else {
+                result.add(input.substring(begin, end));
+                begin = start = r.end(0);
+            }
+            last_null = false;
+
+            for (int i = 1; i < r.groups(); ++i) {
+                if (r.begin(i) >= 0) {
+                    result.add(r.group(i));
+                }
+            }
+
+            if (limit > 0 && limit <= ++count) {
+                break;
+            }
+        }
+
+        result.add(input.substring(begin));
+        if (0 == limit) {
+            while (!result.isEmpty() && result.get(result.size() - 1).length() == 0) {
+                result.remove(result.size() - 1);
+            }
+        }
         return result;
     }
 
     @RubyLevelMethod(name="to_s")
     public RubyString to_s() {
-        return ObjectFactory.createString(pattern_.getPattern());
+        return ObjectFactory.createString(source_);
     }
 
     @RubyLevelMethod(name="source")
     public RubyString source() {
-        return ObjectFactory.createString(pattern_.getPattern());
+        return ObjectFactory.createString(source_);
     }
 
-    private void updateGlobalVariables(MatchResult r) {
-        GlobalVariables.set(ObjectFactory.createString(r.group(0)), "$&");
+    private void updateGlobalVariables(RegexpMatch r) {
+        MATCH.set(ObjectFactory.createString(r.group(0)));
         for (int i = 1; i < r.groups(); ++i) {
-            String s = r.group(i);
-            GlobalVariables.set(null == s ? RubyConstant.QNIL: ObjectFactory.createString(s), "$" + i);
+            if (i < GROUPS.length) {
+                GROUPS[i].set(groupToRubyValue(r, i));
+            } else {
+                GlobalVariables.set(groupToRubyValue(r, i), "$" + i);
+            }
         }
     }
 
     private void clearGlobalVariables() {
-        GlobalVariables.set(RubyConstant.QNIL, "$&");
-        GlobalVariables.set(RubyConstant.QNIL, "$1");
+        MATCH.set(RubyConstant.QNIL);
+        GROUPS[1].set(RubyConstant.QNIL);
     }
 }
@@ -5,6 +5,7 @@
 
 package com.xruby.runtime.builtin;
 
+import java.util.Arrays;
 import java.util.Collection;
 
 import junit.framework.TestCase;
@@ -61,4 +62,49 @@ public class RubyRegexpTest extends TestCase {
             ++i;
         }
     }
+
+    private static String[] split(String pattern, String input, int limit) {
+        return new RubyRegexp(pattern).split(input, limit).toArray(new String[0]);
+    }
+
+    public void test_split() {
+        assertEquals(Arrays.asList("a", "b", "", "c"), Arrays.asList(split(",", "a,b,,c,,", 0)));
+        assertEquals(Arrays.asList("a", "b", "", "c", "", ""), Arrays.asList(split(",", "a,b,,c,,", -1)));
+        assertEquals(Arrays.asList("a", "b,,c,,"), Arrays.asList(split(",", "a,b,,c,,", 2)));
+        assertEquals(Arrays.asList("a", "b", "c"), Arrays.asList(split("", "abc", 0)));
+        assertEquals(0, split(",", "", 0).length);
+    }
+
+    public void test_translate() {
+        assertEquals("[\\p{Alpha}_]", JavaRegexpEngine.translate("[[:alpha:]_]"));
+        assertEquals("[\\[a\\&]", JavaRegexpEngine.translate("[[a&]"));
+        assertEquals("[\\]a]", JavaRegexpEngine.translate("[]a]"));
+        assertEquals("a{0,3}b\\{", JavaRegexpEngine.translate("a{,3}b{"));
+        assertEquals("\\x0B\\x00\\x09y", JavaRegexpEngine.translate("\\v\\0\\x9\\y"));
+        assertEquals("(?s:a)b", JavaRegexpEngine.translate("(?m:a)(?#comment)b"));
+        assertEquals("(?:^|\\A)a[^b]", JavaRegexpEngine.translate("^a[^b]"));
+    }
+
+    public void test_engines() {
+        String[][] cases = {
+            {"(a)|(b)", "xb"},
+            {"^$", "a\n\n"},
+            {"\\Aa.c\\z", "abc"},
+            {"\\d+", "ab123"},
+            {"x*", "abc"},
+        };
+
+        RegexpEngine java = RegexpEngine.createEngine("java");
+        RegexpEngine oro = RegexpEngine.createEngine("oro");
+        for (String[] c : cases) {
+            RegexpMatch j = java.compile(c[0], 0).search(c[1], 0);
+            RegexpMatch o = oro.compile(c[0], 0).search(c[1], 0);
+            assertEquals(c[0], j.groups(), o.groups());
+            for (int i = 0; i < j.groups(); ++i) {
+                assertEquals(c[0], o.group(i), j.group(i));
+                assertEquals(c[0], o.begin(i), j.begin(i));
+                assertEquals(c[0], o.end(i), j.end(i));
+            }
+        }
+    }
 }
@@ -18,16 +18,34 @@ import com.xruby.runtime.lang.annotation.RubyLevelMethod;
 
 @RubyLevelClass(name="String")
 public class RubyString extends RubyBasic {
+    //The value is kept as an immutable String, which clone/dup/to_s share,
+    //and is copied into sb_ the first time the string is changed. This saves
+    //the copy on dup and on each conversion to a java String. While sb_ is
+    //being changed string_ is null, toString() creates and caches it again.
+    //At least one of them is not null, if both are they have the same value.
+    //
+    //Or the value is a StringRope created by +, then both are null until
+    //the string is used for anything but + and length.
+    //
+    //Or the value is a ByteString, one byte per char: ASCII text read from a
+    //file, or a substring ([]) or clone of such a string, which share the
+    //bytes. Then both are null until a java String is needed (toString()),
+    //which replaces the bytes. Comparing, hashing, length, [], + and
+    //appending it to another string work on the bytes.
+    private String string_;
     private StringBuilder sb_;
+    private StringRope rope_;
+    private ByteString bytes_;
+    private int hash_ = 0;//cached hashCode(), reset by buffer()
 
     RubyString(RubyClass c, String s) {
         super(c);
-        sb_ = new StringBuilder(s);
+        string_ = s;
     }
 
     RubyString(String s) {
         super(RubyRuntime.StringClass);
-        sb_ = new StringBuilder(s);
+        string_ = s;
     }
 
     RubyString(StringBuilder sb) {
@@ -35,18 +53,77 @@ public class RubyString extends RubyBasic {
         sb_ = sb;
     }
 
+    RubyString(ByteString bytes) {
+        super(RubyRuntime.StringClass);
+        bytes_ = bytes;
+    }
+
     public RubyString clone() {
         RubyString s = (RubyString)super.clone();
-        s.sb_ = new StringBuilder(sb_);
+        if (null == rope_ && null == bytes_) {
+            s.string_ = toString();
+        }
+        s.sb_ = null;
         return s;
     }
 
     public String toString() {
-        return sb_.toString();
+        String s = string_;
+        if (null == s) {
+            if (null != rope_) {
+                s = rope_.toString();
+                rope_ = null;
+            } else if (null != bytes_) {
+                s = bytes_.toString();
+                bytes_ = null;
+            } else {
+                s = sb_.toString();
+            }
+            string_ = s;
+        }
+        return s;
+    }
+
+    //for reading only
+    private CharSequence chars() {
+        if (null != string_) {
+            return string_;
+        } else if (null != sb_) {
+            return sb_;
+        } else if (null != bytes_) {
+            return bytes_;
+        } else {
+            return toString();
+        }
+    }
+
+    //immutable value, for sharing with another string
+    private CharSequence value() {
+        if (null != rope_) {
+            return rope_;
+        } else if (null != bytes_) {
+            return bytes_;
+        } else {
+            return toString();
+        }
+    }
+
+    //for changing the string: copies a shared value first
+    private StringBuilder buffer() {
+        if (null != rope_) {
+            toString();
+        }
+        hash_ = 0;
+        if (null == sb_) {
+            sb_ = new StringBuilder(chars());
+        }
+        string_ = null;
+        bytes_ = null;
+        return sb_;
     }
 
     public int toInt() {
-        return Integer.valueOf(sb_.toString());
+        return Integer.valueOf(toString());
     }
 
     public RubyInteger toRubyInteger() {
@@ -55,7 +132,7 @@ public class RubyString extends RubyBasic {
 
     public double toFloat() {
 		try {
-        	return Double.parseDouble(this.sb_.toString());
+        	return Double.parseDouble(toString());
 		} catch (NumberFormatException e) {
 			return 0.0;
 		}
@@ -66,15 +143,15 @@ public class RubyString extends RubyBasic {
     }
 
     public String toStr() {
-        return this.sb_.toString();
+        return toString();
     }
 
     public String asString() {
-        return this.sb_.toString();
+        return toString();
     }
 
     public RubyID toID() {
-        return RubyID.intern(this.sb_.toString());
+        return RubyID.intern(toString());
     }
 
     public boolean equals(Object obj) {
@@ -82,27 +159,59 @@ public class RubyString extends RubyBasic {
             return true;
         } else if (obj instanceof RubyString) {
             RubyString s = (RubyString)obj;
-            return this.sb_.toString().equals(s.sb_.toString());
+            return contentEquals(s);
         } else {
             return super.equals(obj);
         }
     }
 
+    private boolean contentEquals(RubyString s) {
+        CharSequence a = chars();
+        CharSequence b = s.chars();
+        int length = a.length();
+        if (length != b.length()) {
+            return false;
+        }
+
+        if (0 != hash_ && 0 != s.hash_ && hash_ != s.hash_) {
+            return false;
+        }
+
+        for (int i = 0; i < length; ++i) {
+            if (a.charAt(i) != b.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    //same value as String.hashCode(), without creating a String
     public int hashCode() {
-        return sb_.toString().hashCode();
+        int h = hash_;
+        if (0 == h) {
+            CharSequence chars = chars();
+            int length = chars.length();
+            for (int i = 0; i < length; ++i) {
+                h = 31 * h + chars.charAt(i);
+            }
+            hash_ = h;
+        }
+        return h;
     }
 
     public int length() {
-        return sb_.length();
+        return (null != rope_) ? rope_.length() : chars().length();
     }
 
     public RubyString appendString(String v) {
-        sb_.append(v);
+        StringBuilder sb = buffer();
+        sb.append(v);
         return this;
     }
 
     private RubyString appendString(RubyString v) {
-        sb_.append(v.sb_);
+        StringBuilder sb = buffer();
+        sb.append(v.chars());
         return this;
     }
 
@@ -144,60 +253,134 @@ public class RubyString extends RubyBasic {
 
     @RubyLevelMethod(name="to_s")
     public RubyString to_s() {
-        return ObjectFactory.createString(this.sb_.toString());
+        return ObjectFactory.createString(toString());
     }
 
     @RubyLevelMethod(name="length")
     public RubyFixnum rubyLength() {
-        return ObjectFactory.createFixnum(sb_.length());
+        return ObjectFactory.createFixnum(length());
     }
 
     @RubyLevelMethod(name="intern", alias="to_sym")
     public RubySymbol intern() {
-        if (this.sb_.length() <= 0) {
+        if (length() <= 0) {
             throw new RubyException(RubyRuntime.ArgumentErrorClass, "interning empty string");
         }
 
-        RubyID id = RubyID.intern(this.sb_.toString());
+        RubyID id = RubyID.intern(toString());
         return id.toSymbol();
     }
 
     @RubyLevelMethod(name="+")
     public RubyString plus(RubyValue v) {
-        StringBuilder sb = new StringBuilder();
-        sb.append(this.sb_);
-        sb.append(v.toRubyString().sb_);
-        return ObjectFactory.createString(sb);
+        CharSequence r = StringRope.concat(value(), v.toRubyString().value());
+        if (r instanceof StringRope) {
+            RubyString s = ObjectFactory.createString();
+            s.string_ = null;
+            s.rope_ = (StringRope)r;
+            return s;
+        }
+        return ObjectFactory.createString(r);
     }
 
     @RubyLevelMethod(name="concat", alias="<<")
     public RubyString concat(RubyValue v) {
+        StringBuilder sb = buffer();
         if (v instanceof RubyFixnum) {
             int i = v.toInt();
             if (i >= 0 && i <= 0xff) {
-                this.sb_.append((char)i);
+                sb.append((char)i);
                 return this;
             }
         }
 
-        this.sb_.append(v.toRubyString().sb_);
+        sb.append(v.toRubyString().chars());
         return this;
     }
 
+    @RubyLevelMethod(name="ljust")
+    public RubyString ljust(RubyValue width) {
+        return justify(width.toInt(), " ", -1);
+    }
+
+    @RubyLevelMethod(name="ljust")
+    public RubyString ljust(RubyValue width, RubyValue pad) {
+        return justify(width.toInt(), pad.toStr(), -1);
+    }
+
+    @RubyLevelMethod(name="rjust")
+    public RubyString rjust(RubyValue width) {
+        return justify(width.toInt(), " ", 1);
+    }
+
+    @RubyLevelMethod(name="rjust")
+    public RubyString rjust(RubyValue width, RubyValue pad) {
+        return justify(width.toInt(), pad.toStr(), 1);
+    }
+
+    @RubyLevelMethod(name="center")
+    public RubyString center(RubyValue width) {
+        return justify(width.toInt(), " ", 0);
+    }
+
+    @RubyLevelMethod(name="center")
+    public RubyString center(RubyValue width, RubyValue pad) {
+        return justify(width.toInt(), pad.toStr(), 0);
+    }
+
+    // justify left = -1, center = 0, right = 1
+    private RubyString justify(int width, String pad, int justify) {
+        if (pad.length() == 0) {
+            throw new RubyException(RubyRuntime.ArgumentErrorClass, "zero width padding");
+        }
+
+        int length = length();
+        if (width <= length) {
+            return ObjectFactory.createString(toString());
+        }
+
+        int left;
+        if (justify < 0) {
+            left = 0;
+        } else if (justify > 0) {
+            left = width - length;
+        } else {
+            left = (width - length) / 2;
+        }
+
+        StringBuilder sb = new StringBuilder(width);
+        appendPadding(sb, pad, left);
+        sb.append(chars());
+        appendPadding(sb, pad, width - length - left);
+        return ObjectFactory.createString(sb);
+    }
+
+    private static void appendPadding(StringBuilder sb, String pad, int count) {
+        while (count >= pad.length()) {
+            sb.append(pad);
+            count -= pad.length();
+        }
+        sb.append(pad, 0, count);
+    }
+
     public RubyString setString(String s) {
-        sb_.replace(0, sb_.length(), s);
+        hash_ = 0;
+        string_ = s;
+        sb_ = null;
+        rope_ = null;
+        bytes_ = null;
         return this;
     }
 
-    private int cmp(RubyString s) {
-        int result = this.sb_.toString().compareTo(s.sb_.toString());
-        if (result == 0) {
-            return 0;
-        } else if (result > 0) {
-            return 1;
-        } else {
-            return -1;
+    //like setString, but keeps a ByteString as it is
+    RubyString setValue(CharSequence value) {
+        if (!(value instanceof ByteString)) {
+            return setString(value.toString());
         }
+
+        setString(null);
+        bytes_ = (ByteString)value;
+        return this;
     }
 
     private String replace(String source, int start, int end, String replacement) {
@@ -213,7 +396,7 @@ public class RubyString extends RubyBasic {
         return result.toString();
     }
 
-    private RubyValue substring(String string, int begin, int end, boolean isExcludeEnd) {
+    private RubyValue substring(CharSequence string, int begin, int end, boolean isExcludeEnd) {
 
         if (begin < 0) {
             begin = string.length() + begin;
@@ -231,7 +414,7 @@ public class RubyString extends RubyBasic {
             return RubyConstant.QNIL;
         }
 
-        return ObjectFactory.createString(string.substring(begin, end));
+        return ObjectFactory.createString(string.subSequence(begin, end));
     }
 
     private RubyString gsub(RubyString g, RubyArray args) {
@@ -250,9 +433,8 @@ public class RubyString extends RubyBasic {
             RubyRegexp r = (RubyRegexp) args.get(0);
             return r.gsub(g, s);
         } else if (args.get(0) instanceof RubyString) {
-            RubyString r = (RubyString) args.get(0);
-            String result = g.toString().replaceAll(r.toString(), s.toString());
-            return ObjectFactory.createString(result);
+            RubyRegexp r = RubyRegexp.createLiteral(args.get(0).toString());
+            return r.gsub(g, s);
         } else {
             throw new RubyException(RubyRuntime.ArgumentErrorClass, "wrong argument type " + args.get(0).getRubyClass().getName() + " (expected Regexp)");
         }
@@ -274,9 +456,8 @@ public class RubyString extends RubyBasic {
             RubyRegexp r = (RubyRegexp) args.get(0);
             return r.sub(g, s);
         } else if (args.get(0) instanceof RubyString) {
-            RubyString r = (RubyString) args.get(0);
-            String result = g.toString().replaceFirst(r.toString(), s.toString());
-            return ObjectFactory.createString(result);
+            RubyRegexp r = RubyRegexp.createLiteral(args.get(0).toString());
+            return r.sub(g, s);
         } else {
             throw new RubyException(RubyRuntime.ArgumentErrorClass, "wrong argument type " + args.get(0).getRubyClass().getName() + " (expected Regexp)");
         }
@@ -309,7 +490,7 @@ public class RubyString extends RubyBasic {
 
         if (v instanceof RubyString) {
             RubyString str = ((RubyString)v);
-            if ((this.sb_.length() == str.sb_.length() && this.cmp(str) == 0)) {
+            if (contentEquals(str)) {
                 return RubyConstant.QTRUE;
             } else {
                 return RubyConstant.QFALSE;
@@ -326,13 +507,14 @@ public class RubyString extends RubyBasic {
 
     @RubyLevelMethod(name="strip")
     public RubyString strip() {
-        return ObjectFactory.createString(sb_.toString().trim());
+        return ObjectFactory.createString(toString().trim());
     }
 
     @RubyLevelMethod(name="lstrip!")
     public RubyValue lstripBang() {
+        CharSequence chars = chars();
         int i = 0;
-        while (i < sb_.length() && Character.isWhitespace(sb_.charAt(i))) {
+        while (i < chars.length() && Character.isWhitespace(chars.charAt(i))) {
             i++;
         }
 
@@ -341,32 +523,32 @@ public class RubyString extends RubyBasic {
             return RubyConstant.QNIL;
         }
 
-        sb_.delete(0, i);
+        buffer().delete(0, i);
         return this;
     }
 
     @RubyLevelMethod(name="strip!")
     public RubyValue stripBang() {
-        String str = this.sb_.toString();
+        String str = toString();
         int orgSize = str.length();
         str = str.trim();
-        this.sb_ = new StringBuilder(str);
         if (str.length() == orgSize) {
             return RubyConstant.QNIL;
         }
 
+        setString(str);
         return this;
     }
 
     @RubyLevelMethod(name="capitalize")
     public RubyString capitalize() {
-        int length = this.sb_.length();
+        int length = length();
         if (length == 0) {
             return ObjectFactory.createString();
         }
 
         char[] ca = new char[length];
-        this.sb_.getChars(0, length, ca, 0);
+        toString().getChars(0, length, ca, 0);
 
         ca[0] = Character.toUpperCase(ca[0]);
         for (int i = 1; i < length; i++) {
@@ -378,14 +560,15 @@ public class RubyString extends RubyBasic {
 
     @RubyLevelMethod(name="capitalize!")
     public RubyValue capitalizeBang() {
-        int length = this.sb_.length();
+        StringBuilder sb = buffer();
+        int length = sb.length();
         if (length == 0) {
             return RubyConstant.QNIL;
         }
 
         boolean modify = false;
         char[] ca = new char[length];
-        this.sb_.getChars(0, length, ca, 0);
+        sb.getChars(0, length, ca, 0);
 
         if (Character.isLowerCase(ca[0])) {
             ca[0] = Character.toUpperCase(ca[0]);
@@ -400,19 +583,19 @@ public class RubyString extends RubyBasic {
             }
         }
 
-        this.sb_.delete(0, ca.length).append(ca);
+        sb.delete(0, ca.length).append(ca);
         return modify ? this : RubyConstant.QNIL;
     }
 
     @RubyLevelMethod(name="upcase")
     public RubyString upcase() {
-        int length = this.sb_.length();
+        int length = length();
         if (length == 0) {
             return ObjectFactory.createString();
         }
 
         char[] ca = new char[length];
-        this.sb_.getChars(0, length, ca, 0);
+        toString().getChars(0, length, ca, 0);
 
         for (int i = 0; i < ca.length; i++) {
             ca[i] = Character.toUpperCase(ca[i]);
@@ -423,11 +606,12 @@ public class RubyString extends RubyBasic {
 
     @RubyLevelMethod(name="upcase!")
     public RubyValue upcaseBang() {
+        StringBuilder sb = buffer();
         boolean modify = false;
 
-        int length = this.sb_.length();
+        int length = sb.length();
         char[] ca = new char[length];
-        this.sb_.getChars(0, length, ca, 0);
+        sb.getChars(0, length, ca, 0);
 
         for (int i = 0; i < length; i++) {
             char c = ca[i];
@@ -436,19 +620,19 @@ public class RubyString extends RubyBasic {
                 modify = true;
             }
         }
-        this.sb_.delete(0, ca.length).append(ca);
+        sb.delete(0, ca.length).append(ca);
         return modify ? this : RubyConstant.QNIL;
     }
 
     @RubyLevelMethod(name="downcase")
     public RubyString downcase() {
-        int length = this.sb_.length();
+        int length = length();
         if (length == 0) {
             return ObjectFactory.createString();
         }
 
         char[] ca = new char[length];
-        this.sb_.getChars(0, length, ca, 0);
+        toString().getChars(0, length, ca, 0);
 
         for (int i = 0; i < ca.length; i++) {
             ca[i] = Character.toLowerCase(ca[i]);
@@ -459,10 +643,11 @@ public class RubyString extends RubyBasic {
 
     @RubyLevelMethod(name="downcase!")
     public RubyValue downcaseBang() {
+        StringBuilder sb = buffer();
         boolean modify = false;
-        int length = this.sb_.length();
+        int length = sb.length();
         char[] ca = new char[length];
-        this.sb_.getChars(0, length, ca, 0);
+        sb.getChars(0, length, ca, 0);
         for (int i = 0; i < ca.length; i++) {
             char c = ca[i];
             if (Character.isUpperCase(c)) {
@@ -470,42 +655,43 @@ public class RubyString extends RubyBasic {
                 modify = true;
             }
         }
-        this.sb_.delete(0, ca.length).append(ca);
+        sb.delete(0, ca.length).append(ca);
         return modify ? this : RubyConstant.QNIL;
     }
 
     @RubyLevelMethod(name="reverse!")
     public RubyString reverse_danger() {
-        sb_.reverse();
+        StringBuilder sb = buffer();
+        sb.reverse();
         return this;
     }
 
     private boolean chomp(String seperator) {
-        if (!sb_.toString().endsWith(seperator)) {
+        if (!toString().endsWith(seperator)) {
             return false;
         }
 
-        int start = sb_.length() - seperator.length();
-        int end = sb_.length();
-        sb_.delete(start, end);
+        StringBuilder sb = buffer();
+        sb.setLength(sb.length() - seperator.length());
         return true;
     }
 
     @RubyLevelMethod(name="scan")
     public RubyValue scan(RubyValue arg, RubyBlock block) {
-        RubyRegexp regex = (RubyRegexp)arg;
+        RubyRegexp regex = (arg instanceof RubyString) ? RubyRegexp.createLiteral(arg.toString()) : (RubyRegexp)arg;
         if (null != block) {
-            regex.scan(sb_.toString(), block);
+            regex.scan(toString(), block);
             return this;
         } else {
-            return regex.scan(sb_.toString());
+            return regex.scan(toString());
         }
     }
 
     /// @return false if no change made
     // TODO handle more situations
     private boolean transform(String from, String to, boolean remove_duplicate) {
-        String oldString = sb_.toString();
+        StringBuilder sb = buffer();
+        String oldString = sb.toString();
 
         if (from.length() == 3 && to.length() == 3 && from.charAt(1) == '-' && to.charAt(1) == '-') {
             char from_start = from.charAt(0);
@@ -514,38 +700,38 @@ public class RubyString extends RubyBasic {
             char to_end = to.charAt(2);
 
             char last_char = 0;
-            for (int i = 0; i < sb_.length(); ++i) {
-                char current_char = sb_.charAt(i);
+            for (int i = 0; i < sb.length(); ++i) {
+                char current_char = sb.charAt(i);
                 if (current_char >= from_start && current_char <= from_end) {
                     if (remove_duplicate && last_char == current_char) {
-                        sb_.deleteCharAt(i);
+                        sb.deleteCharAt(i);
                         --i;
                     } else {
                         int replace_char = (current_char - from_start) + to_start;
-                        sb_.setCharAt(i, replace_char < to_end ? (char)replace_char : to_end);
+                        sb.setCharAt(i, replace_char < to_end ? (char)replace_char : to_end);
                         last_char = current_char;
                     }
                 }
             }
         }else {
             char last_char = 0;
-            for (int i = 0; i < sb_.length(); ++i) {
-                char current_char = sb_.charAt(i);
+            for (int i = 0; i < sb.length(); ++i) {
+                char current_char = sb.charAt(i);
                 int index = from.indexOf(current_char);
                 if (index >= 0) {
                     if (remove_duplicate && last_char == current_char) {
-                            sb_.deleteCharAt(i);
+                            sb.deleteCharAt(i);
                             --i;
                         } else {
                             char replace_char = to.charAt(index < to.length() ? index : to.length());
-                            sb_.setCharAt(i, replace_char);
+                            sb.setCharAt(i, replace_char);
                             last_char = current_char;
                         }
                 }
             }
         }
 
-        return !oldString.equals(sb_.toString());
+        return !oldString.equals(sb.toString());
     }
 
     private boolean tr(String from, String to) {
@@ -557,15 +743,16 @@ public class RubyString extends RubyBasic {
     }
 
     private boolean squeeze(String from) {
+        StringBuilder sb = buffer();
         if (null != from && from.length() == 3 && from.charAt(1) == '-' ) {
             char from_start = from.charAt(0);
             char from_end = from.charAt(2);
             char last_char = 0;
-            for (int i = 0; i < sb_.length(); ++i) {
-                char current_char = sb_.charAt(i);
+            for (int i = 0; i < sb.length(); ++i) {
+                char current_char = sb.charAt(i);
                 if (current_char >= from_start && current_char <= from_end) {
                     if (last_char == current_char) {
-                        sb_.deleteCharAt(i);
+                        sb.deleteCharAt(i);
                         --i;
                     } else {
                         last_char = current_char;
@@ -580,13 +767,14 @@ public class RubyString extends RubyBasic {
     }
 
     private boolean delete(String from) {
+        StringBuilder sb = buffer();
         if (null != from && from.length() == 3 && from.charAt(1) == '-' ) {
             char from_start = from.charAt(0);
             char from_end = from.charAt(2);
-            for (int i = 0; i < sb_.length(); ++i) {
-                char current_char = sb_.charAt(i);
+            for (int i = 0; i < sb.length(); ++i) {
+                char current_char = sb.charAt(i);
                 if (current_char >= from_start && current_char <= from_end) {
-                    sb_.deleteCharAt(i);
+                    sb.deleteCharAt(i);
                     --i;
                 }
             }
@@ -594,12 +782,12 @@ public class RubyString extends RubyBasic {
         } else {
             boolean changed = false;
             for (;;) {
-                int index = sb_.indexOf(from);
+                int index = sb.indexOf(from);
                 if (index < 0) {
                     return changed;
                 }
 
-                sb_.delete(index, index + from.length());
+                sb.delete(index, index + from.length());
                 changed = true;
             }
         }
@@ -607,8 +795,8 @@ public class RubyString extends RubyBasic {
 
     private int count(String s) {
         int n = 0;
-        for (int i = 0; i < sb_.length(); ++i) {
-            if (s.indexOf(sb_.charAt(i)) >= 0) {
+        for (int i = 0; i < length(); ++i) {
+            if (s.indexOf(chars().charAt(i)) >= 0) {
                 ++n;
             }
         }
@@ -617,13 +805,13 @@ public class RubyString extends RubyBasic {
 
     @RubyLevelMethod(name="swapcase")
     public RubyString swapcase() {
-        int length = this.sb_.length();
+        int length = length();
         if (length == 0) {
             return ObjectFactory.createString();
         }
 
         char[] ca = new char[length];
-        this.sb_.getChars(0, length, ca, 0);
+        toString().getChars(0, length, ca, 0);
 
         for (int i = 0; i < length; i++) {
             char c = ca[i];
@@ -639,13 +827,14 @@ public class RubyString extends RubyBasic {
 
     @RubyLevelMethod(name="swapcase!")
     public RubyValue swapcaseBang() {
-        int length = this.sb_.length();
+        StringBuilder sb = buffer();
+        int length = sb.length();
         if (length == 0) {
             return RubyConstant.QNIL;
         }
 
         char[] ca = new char[length];
-        this.sb_.getChars(0, length, ca, 0);
+        sb.getChars(0, length, ca, 0);
         boolean modify = false;
 
         for (int i = 0; i < length; i++) {
@@ -659,7 +848,7 @@ public class RubyString extends RubyBasic {
             }
         }
 
-        this.sb_.delete(0, ca.length).append(ca);
+        sb.delete(0, ca.length).append(ca);
         return modify ? this : RubyConstant.QNIL;
     }
 
@@ -672,17 +861,18 @@ public class RubyString extends RubyBasic {
 
     @RubyLevelMethod(name="chop!")
     public RubyValue chopBang() {
-        int length = this.sb_.length();
+        StringBuilder sb = buffer();
+        int length = sb.length();
         if (length > 0) {
             int orgLength = length;
             length--;
-            if (this.sb_.charAt(length) == '\n') {
-                if (length > 0 && this.sb_.charAt(length - 1) == '\r') {
+            if (sb.charAt(length) == '\n') {
+                if (length > 0 && sb.charAt(length - 1) == '\r') {
                     length--;
                 }
             }
 
-            this.sb_.delete(length, orgLength);
+            sb.delete(length, orgLength);
         }
 
         return RubyConstant.QNIL;
@@ -711,12 +901,12 @@ public class RubyString extends RubyBasic {
     }
 
     public String dump() {
-        int length = this.sb_.length();
+        int length = length();
         StringBuilder buf = new StringBuilder();
         buf.append('"');
 
         for (int i = 0; i < length; i++) {
-            char c = this.sb_.charAt(i);
+            char c = chars().charAt(i);
 
             if (c == '"' || c == '\\') {
                 buf.append('\\');
@@ -992,12 +1182,13 @@ public class RubyString extends RubyBasic {
 
     @RubyLevelMethod(name="[]")
     public RubyValue array_access(RubyArray args) {
-        String string = toString();
+        //substrings of a ByteString share its bytes
+        CharSequence string = value();
         if (args.size() == 1) {
             RubyValue arg = args.get(0);
             if (arg instanceof RubyString) {
                 String str = ((RubyString) arg).toString();
-                if (string.indexOf(str) >= 0) {
+                if (toString().indexOf(str) >= 0) {
                     return ObjectFactory.createString(str);
                 } else {
                     return RubyConstant.QNIL;
@@ -1009,7 +1200,7 @@ public class RubyString extends RubyBasic {
                 return substring(string, start, end, range.isExcludeEnd());
             } else if (arg instanceof RubyRegexp) {
                 RubyRegexp regexp = (RubyRegexp) arg;
-                RubyMatchData match = regexp.match(string);
+                RubyMatchData match = regexp.match(toString());
                 if (match != null) {
                     return ObjectFactory.createString(match.toString());
                 } else {
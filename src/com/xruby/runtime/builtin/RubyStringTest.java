@@ -407,4 +407,26 @@ public class RubyStringTest extends TestCase {
         result = RubyAPI.callOneArgMethod(str1, ObjectFactory.FIXNUM1, null, RubyID.unequalID);
         assertTrue(result == RubyConstant.QNIL);
     }
+
+    public void test_byte_string() {
+        byte[] bytes = "hello world".getBytes();
+        assertTrue(ByteString.isAscii(bytes, bytes.length));
+        assertFalse(ByteString.isAscii(new byte[] {'a', (byte)0xe9}, 2));
+
+        RubyString s = ObjectFactory.createString(new ByteString(bytes, 0, bytes.length));
+        RubyString t = ObjectFactory.createString("hello world");
+        assertEquals(11, s.length());
+        assertEquals(t, s);
+        assertEquals(t.hashCode(), s.hashCode());
+
+        RubyArray args = new RubyArray();
+        args.add(ObjectFactory.createFixnum(6));
+        args.add(ObjectFactory.createFixnum(5));
+        assertEquals("world", s.array_access(args).toString());
+
+        RubyString d = s.clone();
+        d.concat(ObjectFactory.createString("!"));
+        assertEquals("hello world!", d.toString());
+        assertEquals("hello world", s.toString());
+    }
 }
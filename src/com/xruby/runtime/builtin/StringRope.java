@@ -0,0 +1,98 @@
+/**
+ * Copyright 2005-2007 Xue Yong Zhi, Ye Zheng
+ * Distributed under the Apache License
+ */
+
+package com.xruby.runtime.builtin;
+
+import java.util.ArrayDeque;
+
+/**
+ * Pending concatenation of two immutable strings, created by String#+ so
+ * that 'str = str + piece' in a loop does not copy str every time. The
+ * leaves are java.lang.Strings or ByteStrings, RubyString turns the rope into one String
+ * (and drops it) as soon as the string is read or changed in any other way.
+ *
+ * Results shorter than MIN_LENGTH are copied right away, and a short piece
+ * appended to a rope is merged with the rope's last leaf if that is short
+ * too, so a rope has far fewer nodes than concatenations.
+ */
+final class StringRope implements CharSequence {
+    private static final int MIN_LENGTH = 256;
+    private static final int MAX_SHORT_LEAF = 128;
+
+    private final CharSequence left_;//String, ByteString or StringRope
+    private final CharSequence right_;
+    private final int length_;
+    private volatile String flattened_ = null;
+
+    private StringRope(CharSequence left, CharSequence right) {
+        left_ = left;
+        right_ = right;
+        length_ = left.length() + right.length();
+    }
+
+    /**
+     * @param left a String, ByteString or StringRope
+     * @param right a String, ByteString or StringRope
+     * @return a String for short results, a StringRope otherwise
+     */
+    static CharSequence concat(CharSequence left, CharSequence right) {
+        if (0 == right.length()) {
+            return left;
+        } else if (0 == left.length()) {
+            return right;
+        } else if (left.length() + right.length() < MIN_LENGTH) {
+            return left.toString().concat(right.toString());
+        }
+
+        if (left instanceof StringRope && right.length() < MAX_SHORT_LEAF) {
+            StringRope l = (StringRope)left;
+            CharSequence last = l.right_;
+            if (last instanceof String && last.length() < MAX_SHORT_LEAF) {
+                return new StringRope(l.left_, ((String)last).concat(right.toString()));
+            }
+        }
+
+        return new StringRope(left, right);
+    }
+
+    public int length() {
+        return length_;
+    }
+
+    public char charAt(int index) {
+        return toString().charAt(index);
+    }
+
+    public CharSequence subSequence(int start, int end) {
+        return toString().subSequence(start, end);
+    }
+
+    //Walks the tree with an explicit stack, ropes built by a loop are as
+    //deep as the number of concatenations.
+    public String toString() {
+        String s = flattened_;
+        if (null != s) {
+            return s;
+        }
+
+        StringBuilder sb = new StringBuilder(length_);
+        ArrayDeque<CharSequence> stack = new ArrayDeque<CharSequence>();
+        stack.push(this);
+        while (!stack.isEmpty()) {
+            CharSequence c = stack.pop();
+            if (c instanceof StringRope && null == ((StringRope)c).flattened_) {
+                StringRope r = (StringRope)c;
+                stack.push(r.right_);
+                stack.push(r.left_);
+            } else {
+                sb.append(c.toString());
+            }
+        }
+
+        s = sb.toString();
+        flattened_ = s;
+        return s;
+    }
+}
@@ -0,0 +1,108 @@
+/**
+ * Copyright 2007 Xue Yong Zhi, Ye Zheng
+ * Distributed under the Apache License
+ */
+
+package com.xruby.runtime.lang;
+
+/**
+ * Guards for the operator fast paths in RubyAPI (operatorPlus etc.).
+ *
+ * Compiled code may compute Fixnum/Float arithmetic directly only as long as
+ * the operator still resolves to the builtin Java method. The builtin methods
+ * are remembered by init(), which RubyRuntime.init() calls right after
+ * builtin.rb: Float gets its comparisons from Comparable, which builtin.rb
+ * includes into Numeric. Until then every guard fails.
+ */
+final class BuiltinOperators {
+    static final Guard FIXNUM_PLUS = new Guard(RubyRuntime.FixnumClass, RubyID.plusID);
+    static final Guard FIXNUM_MINUS = new Guard(RubyRuntime.FixnumClass, RubyID.subID);
+    static final Guard FIXNUM_MUL = new Guard(RubyRuntime.FixnumClass, RubyID.mulID);
+    static final Guard FIXNUM_LT = new Guard(RubyRuntime.FixnumClass, RubyID.ltID);
+    static final Guard FIXNUM_LE = new Guard(RubyRuntime.FixnumClass, RubyID.leID);
+    static final Guard FIXNUM_GT = new Guard(RubyRuntime.FixnumClass, RubyID.gtID);
+    static final Guard FIXNUM_GE = new Guard(RubyRuntime.FixnumClass, RubyID.geID);
+    static final Guard FIXNUM_EQUAL = new Guard(RubyRuntime.FixnumClass, RubyID.equalID);
+
+    static final Guard FLOAT_PLUS = new Guard(RubyRuntime.FloatClass, RubyID.plusID);
+    static final Guard FLOAT_MINUS = new Guard(RubyRuntime.FloatClass, RubyID.subID);
+    static final Guard FLOAT_MUL = new Guard(RubyRuntime.FloatClass, RubyID.mulID);
+    static final Guard FLOAT_DIV = new Guard(RubyRuntime.FloatClass, RubyID.divID);
+    //Float gets these from Comparable, which calls <=>, see init()
+    static final Guard FLOAT_LT = new Guard(RubyRuntime.FloatClass, RubyID.ltID);
+    static final Guard FLOAT_LE = new Guard(RubyRuntime.FloatClass, RubyID.leID);
+    static final Guard FLOAT_GT = new Guard(RubyRuntime.FloatClass, RubyID.gtID);
+    static final Guard FLOAT_GE = new Guard(RubyRuntime.FloatClass, RubyID.geID);
+    static final Guard FLOAT_EQUAL = new Guard(RubyRuntime.FloatClass, RubyID.equalID);
+    static final Guard FLOAT_UNEQUAL = new Guard(RubyRuntime.FloatClass, RubyID.unequalID);
+
+    private static final Guard[] ALL = {
+        FIXNUM_PLUS, FIXNUM_MINUS, FIXNUM_MUL, FIXNUM_LT, FIXNUM_LE, FIXNUM_GT, FIXNUM_GE, FIXNUM_EQUAL,
+        FLOAT_PLUS, FLOAT_MINUS, FLOAT_MUL, FLOAT_DIV, FLOAT_LT, FLOAT_LE, FLOAT_GT, FLOAT_GE, FLOAT_EQUAL, FLOAT_UNEQUAL,
+    };
+
+    /**
+     * Remembers the methods the operators resolve to now as the builtin ones.
+     */
+    static void init() {
+        for (Guard g : ALL) {
+            g.record();
+        }
+    }
+
+    static boolean isFixnumBuiltin() {
+        return FIXNUM_PLUS.isBuiltin() &&
+            FIXNUM_MINUS.isBuiltin() &&
+            FIXNUM_MUL.isBuiltin() &&
+            FIXNUM_LT.isBuiltin() &&
+            FIXNUM_LE.isBuiltin() &&
+            FIXNUM_GT.isBuiltin() &&
+            FIXNUM_GE.isBuiltin() &&
+            FIXNUM_EQUAL.isBuiltin();
+    }
+
+    static boolean isFloatBuiltin() {
+        return FLOAT_PLUS.isBuiltin() &&
+            FLOAT_MINUS.isBuiltin() &&
+            FLOAT_MUL.isBuiltin() &&
+            FLOAT_LT.isBuiltin() &&
+            FLOAT_LE.isBuiltin() &&
+            FLOAT_GT.isBuiltin() &&
+            FLOAT_GE.isBuiltin() &&
+            FLOAT_EQUAL.isBuiltin() &&
+            FLOAT_UNEQUAL.isBuiltin();
+    }
+
+    static final class Guard {
+        private final RubyClass klass_;
+        private final RubyID mid_;
+        private RubyMethod builtin_ = null;//null until init()
+        private int valid_generation_ = -1;
+
+        Guard(RubyClass klass, RubyID mid) {
+            klass_ = klass;
+            mid_ = mid;
+        }
+
+        void record() {
+            builtin_ = klass_.findOwnMethod(mid_);
+        }
+
+        /**
+         * @return true if the operator has not been redefined
+         */
+        boolean isBuiltin() {
+            int generation = klass_.generation_;
+            if (generation == valid_generation_) {
+                return true;
+            }
+
+            if (null == builtin_ || klass_.findOwnMethod(mid_) != builtin_) {
+                return false;
+            }
+
+            valid_generation_ = generation;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/**
+ * Copyright 2007 Xue Yong Zhi, Ye Zheng
+ * Distributed under the Apache License
+ */
+
+package com.xruby.runtime.lang;
+
+/**
+ * Inline method cache for one call site in compiled code.
+ *
+ * The compiler creates a CallSite for every method call it emits (see
+ * CallSiteClassGenerator). The site remembers the methods it has resolved
+ * for the last few receiver classes, so in the common monomorphic case a
+ * call does not have to probe the global MethodCache at all. The first class
+ * seen is kept in its own field and checked inline, the others are searched
+ * in a small array. Once more than MAX_ENTRIES receiver classes have been
+ * seen the site is considered megamorphic and simply falls back to
+ * RubyClass.findOwnMethod.
+ *
+ * An entry is valid as long as the generation of its class has not changed,
+ * see RubyModule.invalidateMethodCache().
+ *
+ * A site is used with only one kind of lookup: either findMethod() (receiver
+ * is implicit self) or findPublicMethod().
+ */
+public class CallSite {
+    private static final int MAX_ENTRIES = 4;
+    private static final Entry[] EMPTY = new Entry[0];
+    private static final Entry NONE = new Entry(null, null, -1);
+
+    private final RubyID mid_;
+    private volatile Entry first_ = NONE;
+    private volatile Entry[] entries_ = EMPTY;
+    private volatile boolean megamorphic_ = false;
+
+    public CallSite(String method_name) {
+        mid_ = RubyID.intern(method_name);
+    }
+
+    public RubyID getID() {
+        return mid_;
+    }
+
+    public RubyMethod findMethod(RubyValue receiver) {
+        RubyClass klass = receiver.getRubyClass();
+        Entry e = first_;
+        if (e.klass_ == klass && e.generation_ == klass.generation_) {
+            return e.method_;
+        }
+        return lookup(klass, false);
+    }
+
+    public RubyMethod findPublicMethod(RubyValue receiver) {
+        RubyClass klass = receiver.getRubyClass();
+        Entry e = first_;
+        if (e.klass_ == klass && e.generation_ == klass.generation_) {
+            return e.method_;
+        }
+        return lookup(klass, true);
+    }
+
+    private RubyMethod lookup(RubyClass klass, boolean public_only) {
+        int generation = klass.generation_;
+        Entry[] entries = entries_;
+        for (int i = 0; i < entries.length; ++i) {
+            Entry e = entries[i];
+            if (e.klass_ == klass && e.generation_ == generation) {
+                return e.method_;
+            }
+        }
+
+        RubyMethod m = public_only ? klass.findOwnPublicMethod(mid_) : klass.findOwnMethod(mid_);
+        if (null != m && !UndefMethod.isUndef(m)) {
+            addEntry(new Entry(klass, m, generation));
+        }
+        return m;
+    }
+
+    //Entries are immutable and are published by replacing a whole volatile
+    //field, so a concurrent reader always sees a consistent (klass, method)
+    //pair. Two threads adding at the same time may lose one of the entries,
+    //which only costs another lookup.
+    private void addEntry(Entry entry) {
+        if (!first_.isValid() || first_.klass_ == entry.klass_) {
+            first_ = entry;
+            return;
+        } else if (megamorphic_) {
+            return;
+        }
+
+        Entry[] old_entries = entries_;
+        int size = 0;
+        Entry[] new_entries = new Entry[old_entries.length + 1];
+        for (Entry e : old_entries) {
+            if (e.isValid() && e.klass_ != entry.klass_) {
+                new_entries[size++] = e;
+            }
+        }
+
+        //first_ counts as one of the entries
+        if (size + 1 >= MAX_ENTRIES) {
+            megamorphic_ = true;
+            entries_ = EMPTY;
+            return;
+        }
+
+        new_entries[size++] = entry;
+        if (size != new_entries.length) {
+            Entry[] trimmed = new Entry[size];
+            System.arraycopy(new_entries, 0, trimmed, 0, size);
+            new_entries = trimmed;
+        }
+        entries_ = new_entries;
+    }
+
+    private static final class Entry {
+        final RubyClass klass_;
+        final RubyMethod method_;
+        final int generation_;
+
+        Entry(RubyClass klass, RubyMethod method, int generation) {
+            klass_ = klass;
+            method_ = method;
+            generation_ = generation;
+        }
+
+        boolean isValid() {
+            return null != klass_ && klass_.generation_ == generation_;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/**
+ * Copyright 2007 Xue Yong Zhi, Ye Zheng
+ * Distributed under the Apache License
+ */
+
+package com.xruby.runtime.lang;
+
+/**
+ * Inline cache for one constant reference (Foo or Foo::BAR) in compiled
+ * code, see RubyAPI.getCurrentNamespaceConstant and RubyAPI.getConstant.
+ *
+ * The site remembers the value found for the last module the constant was
+ * looked up in. The value is valid as long as no constant has been set and
+ * no module has been included since then, which RubyModule tracks with a
+ * global constant serial. So a cache hit is a field load and two compares.
+ */
+public class ConstantSite {
+    private static final Entry NONE = new Entry(null, null, -1);
+
+    private final String name_;
+    private Entry cache_ = NONE;
+
+    public ConstantSite(String name) {
+        name_ = name;
+    }
+
+    public String getName() {
+        return name_;
+    }
+
+    /**
+     * @return null if the value for receiver is not known
+     */
+    RubyValue get(RubyValue receiver) {
+        Entry e = cache_;
+        if (e.receiver_ == receiver && e.serial_ == RubyModule.getConstantSerial()) {
+            return e.value_;
+        }
+        return null;
+    }
+
+    /**
+     * @param serial constant serial read before the lookup started
+     */
+    void put(RubyValue receiver, RubyValue value, int serial) {
+        cache_ = new Entry(receiver, value, serial);
+    }
+
+    //Entries are immutable, so a concurrent reader never sees a value which
+    //belongs to another receiver.
+    private static final class Entry {
+        final RubyValue receiver_;
+        final RubyValue value_;
+        final int serial_;
+
+        Entry(RubyValue receiver, RubyValue value, int serial) {
+            receiver_ = receiver;
+            value_ = value;
+            serial_ = serial;
+        }
+    }
+}
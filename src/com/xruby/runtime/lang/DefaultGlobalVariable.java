@@ -0,0 +1,21 @@
+/**
+ * Copyright 2005-2007 Xue Yong Zhi
+ * Distributed under the Apache License
+ */
+
+package com.xruby.runtime.lang;
+
+class DefaultGlobalVariable implements GlobalVariable {
+	private RubyValue v;
+	
+	public DefaultGlobalVariable(RubyValue v) {
+		this.v = v;
+	}
+	public RubyValue get() {
+		return v;
+	}
+
+	public void set(RubyValue v) {
+		this.v = v;
+	}
+}
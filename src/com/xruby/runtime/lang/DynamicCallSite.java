@@ -0,0 +1,179 @@
+/**
+ * Copyright 2007 Xue Yong Zhi, Ye Zheng
+ * Distributed under the Apache License
+ */
+
+package com.xruby.runtime.lang;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.MutableCallSite;
+import java.lang.invoke.SwitchPoint;
+
+import com.xruby.runtime.builtin.RubyArray;
+
+/**
+ * Method handle based call site, used by compiled code when method handle
+ * dispatch is turned on (see CgConfig).
+ *
+ * The generated container class keeps dynamicInvoker() of every site in a
+ * static final field and calls it with invokeExact, so HotSpot treats the
+ * target as a constant and can inline the Ruby method (or builtins like
+ * RubyFixnum.opPlus) into the caller.
+ *
+ * The target is a chain of guardWithTest on the receiver class, built lazily
+ * by the fallback, and the whole chain is guarded by a global SwitchPoint
+ * which is invalidated whenever a method table changes. After MAX_DEPTH
+ * receiver classes the site is relinked to the plain RubyAPI call.
+ */
+public class DynamicCallSite extends MutableCallSite {
+    public static final int NO_ARG = 0;
+    public static final int ONE_ARG = 1;
+    public static final int TWO_ARG = 2;
+    public static final int MULTI_ARG = 3;
+
+    private static final int MAX_DEPTH = 4;
+
+    private static final MethodType[] TYPES = {
+        MethodType.methodType(RubyValue.class, RubyValue.class, RubyBlock.class),
+        MethodType.methodType(RubyValue.class, RubyValue.class, RubyValue.class, RubyBlock.class),
+        MethodType.methodType(RubyValue.class, RubyValue.class, RubyValue.class, RubyValue.class, RubyBlock.class),
+        MethodType.methodType(RubyValue.class, RubyValue.class, RubyArray.class, RubyBlock.class),
+    };
+
+    private static final MethodHandle CHECK_CLASS;
+    private static final MethodHandle[] FALLBACK = new MethodHandle[TYPES.length];
+    private static final MethodHandle[] INVOKE = new MethodHandle[TYPES.length];
+    private static final MethodHandle[] CALL = new MethodHandle[TYPES.length];
+    private static final MethodHandle[] CALL_PUBLIC = new MethodHandle[TYPES.length];
+
+    static {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            CHECK_CLASS = lookup.findStatic(DynamicCallSite.class, "checkClass",
+                    MethodType.methodType(boolean.class, RubyClass.class, RubyValue.class));
+
+            String[] calls = {"callNoArgMethod", "callOneArgMethod", "callTwoArgMethod", "callMethod"};
+            String[] public_calls = {"callPublicNoArgMethod", "callPublicOneArgMethod", "callPublicTwoArgMethod", "callPublicMethod"};
+            for (int i = 0; i < TYPES.length; ++i) {
+                FALLBACK[i] = lookup.findVirtual(DynamicCallSite.class, "fallback", TYPES[i]);
+                INVOKE[i] = lookup.findVirtual(RubyMethod.class, "invoke", TYPES[i]);
+
+                MethodType api_type = TYPES[i].appendParameterTypes(RubyID.class);
+                CALL[i] = lookup.findStatic(RubyAPI.class, calls[i], api_type);
+                CALL_PUBLIC[i] = lookup.findStatic(RubyAPI.class, public_calls[i], api_type);
+            }
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static SwitchPoint switch_point_ = new SwitchPoint();
+    private static boolean switch_point_used_ = false;
+
+    private final RubyID mid_;
+    private final int kind_;
+    private final boolean public_only_;
+    private final MethodHandle fallback_;
+
+    private SwitchPoint linked_switch_point_ = null;
+    private MethodHandle chain_;
+    private int depth_ = 0;
+
+    public DynamicCallSite(String method_name, int kind, boolean public_only) {
+        super(TYPES[kind]);
+        mid_ = RubyID.intern(method_name);
+        kind_ = kind;
+        public_only_ = public_only;
+        fallback_ = FALLBACK[kind].bindTo(this);
+        setTarget(fallback_);
+    }
+
+    public static synchronized void invalidateAll() {
+        if (switch_point_used_) {
+            SwitchPoint.invalidateAll(new SwitchPoint[] {switch_point_});
+            switch_point_ = new SwitchPoint();
+            switch_point_used_ = false;
+        }
+    }
+
+    private static synchronized SwitchPoint useSwitchPoint() {
+        switch_point_used_ = true;
+        return switch_point_;
+    }
+
+    private static boolean checkClass(RubyClass klass, RubyValue receiver) {
+        return receiver.getRubyClass() == klass;
+    }
+
+    //The SwitchPoint is taken before the lookup: if a method is redefined
+    //while we look, it is already invalidated and the result is not linked.
+    private RubyMethod findMethod(RubyClass klass) {
+        SwitchPoint switch_point = useSwitchPoint();
+        RubyMethod m = public_only_ ? klass.findOwnPublicMethod(mid_) : klass.findOwnMethod(mid_);
+        if (null == m || UndefMethod.isUndef(m)) {
+            return null;
+        }
+
+        relink(switch_point, klass, m);
+        return m;
+    }
+
+    private synchronized void relink(SwitchPoint switch_point, RubyClass klass, RubyMethod m) {
+        if (switch_point.hasBeenInvalidated()) {
+            return;
+        }
+
+        if (switch_point != linked_switch_point_) {
+            linked_switch_point_ = switch_point;
+            chain_ = fallback_;
+            depth_ = 0;
+        }
+
+        if (depth_ >= MAX_DEPTH) {
+            //megamorphic, RubyAPI will use the global method cache
+            MethodHandle call = public_only_ ? CALL_PUBLIC[kind_] : CALL[kind_];
+            setTarget(MethodHandles.insertArguments(call, type().parameterCount(), mid_));
+            return;
+        }
+
+        MethodHandle test = MethodHandles.insertArguments(CHECK_CLASS, 0, klass);
+        test = MethodHandles.dropArguments(test, 1, type().dropParameterTypes(0, 1).parameterList());
+        chain_ = MethodHandles.guardWithTest(test, INVOKE[kind_].bindTo(m), chain_);
+        ++depth_;
+        setTarget(switch_point.guardWithTest(chain_, fallback_));
+    }
+
+    private RubyValue fallback(RubyValue receiver, RubyBlock block) {
+        RubyMethod m = findMethod(receiver.getRubyClass());
+        if (null == m) {
+            return public_only_ ? RubyAPI.callPublicNoArgMethod(receiver, block, mid_) : RubyAPI.callNoArgMethod(receiver, block, mid_);
+        }
+        return m.invoke(receiver, block);
+    }
+
+    private RubyValue fallback(RubyValue receiver, RubyValue arg, RubyBlock block) {
+        RubyMethod m = findMethod(receiver.getRubyClass());
+        if (null == m) {
+            return public_only_ ? RubyAPI.callPublicOneArgMethod(receiver, arg, block, mid_) : RubyAPI.callOneArgMethod(receiver, arg, block, mid_);
+        }
+        return m.invoke(receiver, arg, block);
+    }
+
+    private RubyValue fallback(RubyValue receiver, RubyValue arg0, RubyValue arg1, RubyBlock block) {
+        RubyMethod m = findMethod(receiver.getRubyClass());
+        if (null == m) {
+            return public_only_ ? RubyAPI.callPublicTwoArgMethod(receiver, arg0, arg1, block, mid_) : RubyAPI.callTwoArgMethod(receiver, arg0, arg1, block, mid_);
+        }
+        return m.invoke(receiver, arg0, arg1, block);
+    }
+
+    private RubyValue fallback(RubyValue receiver, RubyArray args, RubyBlock block) {
+        RubyMethod m = findMethod(receiver.getRubyClass());
+        if (null == m) {
+            return public_only_ ? RubyAPI.callPublicMethod(receiver, args, block, mid_) : RubyAPI.callMethod(receiver, args, block, mid_);
+        }
+        return m.invoke(receiver, args, block);
+    }
+}
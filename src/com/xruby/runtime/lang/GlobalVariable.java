@@ -0,0 +1,12 @@
+/**
+ * Copyright 2005-2007 Xue Yong Zhi
+ * Distributed under the Apache License
+ */
+
+package com.xruby.runtime.lang;
+
+interface GlobalVariable {
+	void set(RubyValue v);
+	
+	RubyValue get();
+}
@@ -0,0 +1,70 @@
+/**
+ * Copyright 2007 Xue Yong Zhi, Ye Zheng
+ * Distributed under the Apache License
+ */
+
+package com.xruby.runtime.lang;
+
+/**
+ * Handle of one global variable ($foo). There is exactly one slot per name,
+ * GlobalVariables.getSlot creates it on first use and it is never replaced,
+ * so compiled code resolves it once (see CallSiteClassGenerator) and then
+ * reads and writes the variable without looking up its name.
+ *
+ * The storage behind the slot may change: alias makes two slots share one
+ * GlobalVariable, and special variables like $, are backed by Java fields.
+ * Trace procs are only looked up if the traced flag is set by trace_var.
+ */
+public final class GlobalVariableSlot {
+    private final String name_;
+    private volatile GlobalVariable variable_;//null if undefined
+    volatile boolean traced_ = false;
+
+    GlobalVariableSlot(String name, GlobalVariable variable) {
+        name_ = name;
+        variable_ = variable;
+    }
+
+    public String getName() {
+        return name_;
+    }
+
+    GlobalVariable getVariable() {
+        return variable_;
+    }
+
+    void setVariable(GlobalVariable variable) {
+        variable_ = variable;
+    }
+
+    boolean isDefined() {
+        return null != variable_;
+    }
+
+    public RubyValue get() {
+        GlobalVariable v = variable_;
+        return (null != v) ? v.get() : RubyConstant.QNIL;
+    }
+
+    public RubyValue set(RubyValue value) {
+        GlobalVariable v = variable_;
+        if (null != v) {
+            v.set(value);
+        } else {
+            define(value);
+        }
+
+        if (traced_) {
+            GlobalVariables.runTraceProcs(name_, value);
+        }
+        return value;
+    }
+
+    private synchronized void define(RubyValue value) {
+        if (null == variable_) {
+            variable_ = new DefaultGlobalVariable(value);
+        } else {
+            variable_.set(value);
+        }
+    }
+}
@@ -47,27 +47,6 @@ class MultipleMap<T> {
     }
 }
 
-class DefaultGlobalVariable implements GlobalVariable {
-	private RubyValue v;
-	
-	public DefaultGlobalVariable(RubyValue v) {
-		this.v = v;
-	}
-	public RubyValue get() {
-		return v;
-	}
-
-	public void set(RubyValue v) {
-		this.v = v;
-	}
-}
-
-interface GlobalVariable {
-	void set(RubyValue v);
-	
-	RubyValue get();
-}
-
 /*
 $* $ARGV
 $" $LOADED_FEATURES
@@ -103,13 +82,13 @@ public class GlobalVariables {
 	// $\
 	public static RubyValue OUTPUT_RS = RubyConstant.QNIL;
 	
-    private static ConcurrentHashMap<String, GlobalVariable> values_ = new ConcurrentHashMap<String, GlobalVariable>();
+    private static ConcurrentHashMap<String, GlobalVariableSlot> values_ = new ConcurrentHashMap<String, GlobalVariableSlot>();
     private static MultipleMap<RubyProc> traces_procs_ = new MultipleMap<RubyProc>();
 
     private static boolean in_tracing_ = false;//TODO should this be global or per variable?
 
     public static void initialize() {
-    	values_.put("$,", new GlobalVariable() {
+    	getSlot("$,").setVariable(new GlobalVariable() {
 			public RubyValue get() {
 				return OUTPUT_FS;
 			}
@@ -119,7 +98,7 @@ public class GlobalVariables {
 			}
     	});
     	
-    	values_.put("$\\", new GlobalVariable() {
+    	getSlot("$\\").setVariable(new GlobalVariable() {
 			public RubyValue get() {
 				return OUTPUT_RS;
 			}
@@ -129,7 +108,7 @@ public class GlobalVariables {
 			}
     	});
     	
-    	values_.put("$stdout", new GlobalVariable() {
+    	getSlot("$stdout").setVariable(new GlobalVariable() {
     		public RubyValue get() {
 				return RubyIO.STDOUT;
 			}
@@ -139,8 +118,41 @@ public class GlobalVariables {
 			}
     	});
     	
-        values_.put("$/", new DefaultGlobalVariable(ObjectFactory.createString("\n")));
-        values_.put("$$", new DefaultGlobalVariable(ObjectFactory.FIXNUM0));//no way to get pid in java
+        getSlot("$/").setVariable(new DefaultGlobalVariable(ObjectFactory.createString("\n")));
+        getSlot("$$").setVariable(new DefaultGlobalVariable(ObjectFactory.FIXNUM0));//no way to get pid in java
+    }
+
+    private static boolean isThreadLocal(String name) {
+        if (name.equals("$_") || name.equals("$~") || name.equals("$&")) {
+            return true;
+        }
+
+        //$1, $2 ... but not $0
+        if (name.length() < 2 || '0' == name.charAt(1)) {
+            return false;
+        }
+        for (int i = 1; i < name.length(); ++i) {
+            if (!Character.isDigit(name.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the slot of the variable, created (undefined) if it does not exist yet
+     */
+    public static GlobalVariableSlot getSlot(String name) {
+        assert('$' == name.charAt(0));
+
+        GlobalVariableSlot slot = values_.get(name);
+        if (null != slot) {
+            return slot;
+        }
+
+        slot = new GlobalVariableSlot(name, isThreadLocal(name) ? new ThreadLocalGlobalVariable() : null);
+        GlobalVariableSlot existing = values_.putIfAbsent(name, slot);
+        return (null != existing) ? existing : slot;
     }
 
     //e.g. 'ruby -s filename -xxx -yyy=555'
@@ -152,11 +164,11 @@ public class GlobalVariables {
                 throw new Error("bad format!");
             } else if (i < 0) {
                 //'-xxx'
-                values_.put("$" + s, new DefaultGlobalVariable(RubyConstant.QTRUE));
+                getSlot("$" + s).setVariable(new DefaultGlobalVariable(RubyConstant.QTRUE));
             } else {
                 String name = "$" + s.substring(0, i);
                 String value = s.substring(i + 1);
-                values_.put(name, new DefaultGlobalVariable(ObjectFactory.createString(value)));
+                getSlot(name).setVariable(new DefaultGlobalVariable(ObjectFactory.createString(value)));
             }
         }
     }
@@ -164,9 +176,9 @@ public class GlobalVariables {
     public static RubyValue get(String name) {
         assert('$' == name.charAt(0));
 
-        GlobalVariable v = values_.get(name);
-        if (null != v) {
-            return v.get();
+        GlobalVariableSlot slot = values_.get(name);
+        if (null != slot) {
+            return slot.get();
         } else {
             return RubyConstant.QNIL;
         }
@@ -188,14 +200,10 @@ public class GlobalVariables {
 
     //TODO '$! = 2'  should raise exception: assigning non-exception to $! (TypeError)
     public static RubyValue set(RubyValue value, String name) {
-        assert('$' == name.charAt(0));
-        GlobalVariable gv = values_.get(name);
-        if (gv == null) {
-        	values_.put(name, new DefaultGlobalVariable(value));
-        } else {
-        	gv.set(value);
-        }
+        return getSlot(name).set(value);
+    }
 
+    static void runTraceProcs(String name, RubyValue value) {
         if (!in_tracing_) {
             in_tracing_ = true;
 
@@ -210,26 +218,26 @@ public class GlobalVariables {
                 in_tracing_ = false;
             }
         }
-
-        return value;
     }
 
     public static void alias(String newName, String oldName) {
         assert('$' == newName.charAt(0));
         assert('$' == oldName.charAt(0));
 
-        GlobalVariable v = values_.get(oldName);
+        GlobalVariable v = getSlot(oldName).getVariable();
         if (null != v) {
-            values_.put(newName, v);
+            getSlot(newName).setVariable(v);
         }
     }
 
     private static boolean isDefined(String name) {
-        return (values_.get(name) != null);
+        GlobalVariableSlot slot = values_.get(name);
+        return (null != slot && slot.isDefined());
     }
 
     public static void addTraceProc(String name, RubyProc proc) {
         traces_procs_.put(name, proc);
+        getSlot(name).traced_ = true;
     }
 
     public static void removeTraceProc(String name, RubyProc proc) {
@@ -238,6 +246,8 @@ public class GlobalVariables {
         }
 
         traces_procs_.remove(name, proc);
+        List<RubyProc> set = traces_procs_.get(name);
+        getSlot(name).traced_ = (null != set && !set.isEmpty());
     }
 
     public static void removeAllTraceProc(String name) {
@@ -246,6 +256,7 @@ public class GlobalVariables {
         }
 
         traces_procs_.removeAll(name);
+        getSlot(name).traced_ = false;
     }
 
     public static void setProgramName(String filename) {
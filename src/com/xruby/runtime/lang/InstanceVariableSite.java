@@ -0,0 +1,88 @@
+/**
+ * Copyright 2007 Xue Yong Zhi, Ye Zheng
+ * Distributed under the Apache License
+ */
+
+package com.xruby.runtime.lang;
+
+/**
+ * Inline cache for one instance variable access (@foo or @foo = ...) in
+ * compiled code, and for attr_reader/attr_writer methods.
+ *
+ * The site remembers the index of the variable for the last RubyShape it
+ * has seen, so accessing a variable of an object with that shape is just an
+ * array load. For an assignment which adds the variable, the site also
+ * remembers the shape the object moves to.
+ *
+ * Receivers other than RubyObject (e.g. modules) use the normal
+ * getInstanceVariable/setInstanceVariable.
+ */
+public class InstanceVariableSite {
+    private static final Entry NONE = new Entry(null, -1, null);
+
+    private final RubyID id_;
+    private Entry cache_ = NONE;
+
+    public InstanceVariableSite(String name) {
+        this(RubyID.intern(name));
+    }
+
+    public InstanceVariableSite(RubyID id) {
+        id_ = id;
+    }
+
+    public RubyID getID() {
+        return id_;
+    }
+
+    public RubyValue get(RubyValue receiver) {
+        if (!(receiver instanceof RubyObject)) {
+            return receiver.getInstanceVariable(id_);
+        }
+
+        RubyObject object = (RubyObject)receiver;
+        RubyShape shape = object.shape_;
+        Entry e = cache_;
+        if (e.shape_ != shape) {
+            e = new Entry(shape, shape.indexOf(id_), shape);
+            cache_ = e;
+        }
+        return object.getSlot(e.index_);
+    }
+
+    public RubyValue set(RubyValue receiver, RubyValue value) {
+        if (!(receiver instanceof RubyObject)) {
+            return receiver.setInstanceVariable(value, id_);
+        }
+
+        RubyObject object = (RubyObject)receiver;
+        RubyShape shape = object.shape_;
+        Entry e = cache_;
+        if (e.shape_ != shape) {
+            int index = shape.indexOf(id_);
+            if (index >= 0) {
+                e = new Entry(shape, index, shape);
+            } else {
+                RubyShape new_shape = shape.addVariable(id_);
+                e = new Entry(shape, new_shape.size() - 1, new_shape);
+            }
+            cache_ = e;
+        }
+        object.setSlot(e.index_, e.new_shape_, value);
+        return value;
+    }
+
+    //Entries are immutable, so a concurrent reader never sees an index which
+    //belongs to another shape.
+    private static final class Entry {
+        final RubyShape shape_;
+        final int index_;
+        final RubyShape new_shape_;
+
+        Entry(RubyShape shape, int index, RubyShape new_shape) {
+            shape_ = shape;
+            index_ = index;
+            new_shape_ = new_shape;
+        }
+    }
+}
@@ -5,31 +5,25 @@
 
 package com.xruby.runtime.lang;
 
+/**
+ * Global (class, method id) -> method cache.
+ *
+ * Entries are immutable and replaced as a whole, so a thread reading the
+ * cache without locking sees either a complete old entry or a complete new
+ * one, never a klass from one entry and a method from another. Stale
+ * entries are detected by comparing the class generation.
+ */
 class MethodCache {
 	private static int CACHE_SIZE = 0x800;
 	private static int CACHE_MASK = 0x7ff;
+	private static final CacheEntry EMPTY = new CacheEntry(null, null, null, -1);
 	
-	private CacheEntry[] cache = clearCache();
-	
-	public void reset() {
-		if (!RubyRuntime.running) {
-			return;
-		}
-		
-		for (int i = 0; i < CACHE_SIZE; i++) {
-			cache[i].klass = null;
-			cache[i].mid = null;
-			cache[i].method = null;
-		}
-	}
+	private final CacheEntry[] cache = clearCache();
 	
 	private CacheEntry[] clearCache() {
 		CacheEntry[] cache = new CacheEntry[CACHE_SIZE];
 		for (int i = 0; i < CACHE_SIZE; i++) {
-			cache[i] = new CacheEntry();
-			cache[i].klass = null;
-			cache[i].mid = null;
-			cache[i].method = null;
+			cache[i] = EMPTY;
 		}
 		
 		return cache;
@@ -44,54 +38,22 @@ class MethodCache {
 		return cache[index];
 	}
 	
-	public void putMethod(RubyClass c, RubyID id, RubyMethod m) {
+	public void putMethod(RubyClass c, RubyID id, RubyMethod m, int generation) {
 		int index = cacheIndex(c, id);
-		
-		cache[index].klass = c;
-		cache[index].mid = id;
-		cache[index].method = m;
+		cache[index] = new CacheEntry(c, id, m, generation);
 	}
 	
-	public void removeMethod(RubyClass c, RubyID id) {
-		if (!RubyRuntime.running) {
-			return;
-		}
-		
-		for (CacheEntry entry : cache) {
-			if (entry.mid == id && entry.klass == c) {
-				// FIXME: method table should be compared
-				entry.mid = null;
-			}
-		}
-	}
-	
-	public void removeMethod(RubyID id) {
-		if (!RubyRuntime.running) {
-			return;
-		}
-		
-		for (CacheEntry entry : cache) {
-			if (entry.mid == id) {
-				entry.mid = null;
-			}
-		}
-	}
-	
-	public void removeClass(RubyClass c) {
-		if (!RubyRuntime.running) {
-			return;
-		}
-		
-		for (CacheEntry entry : cache) {
-			if (entry.klass == c) {
-				entry.mid = null;
-			}
+	static final class CacheEntry {
+		public final RubyClass klass;
+		public final RubyID mid;
+		public final RubyMethod method;
+		public final int generation;
+
+		CacheEntry(RubyClass klass, RubyID mid, RubyMethod method, int generation) {
+			this.klass = klass;
+			this.mid = mid;
+			this.method = method;
+			this.generation = generation;
 		}
 	}
-	
-	static class CacheEntry {
-		public RubyClass klass;
-		public RubyID mid;
-		public RubyMethod method;
-	}
 }
@@ -0,0 +1,67 @@
+/**
+ * Copyright 2005-2007 Xue Yong Zhi
+ * Distributed under the Apache License
+ */
+
+package com.xruby.runtime.lang;
+
+/**
+ * 'return' inside a Proc (not a lambda) returns from the method the Proc was
+ * defined in, even if Proc#call is called somewhere else:
+ *     def f block; block.call; print 'yyy'; end
+ *     def test_return2; a = Proc.new {return}; f a; print 'zzz'; end
+ *     test_return2    #prints nothing
+ *
+ * Proc#call throws this with the RubyFrame the Proc was created in, the
+ * generated run method of that activation (or of a block defined in it)
+ * catches it and returns the value, other run methods let it pass. If the
+ * activation has already returned, Proc#call raises LocalJumpError instead. It is not a RubyException, so ruby's 'rescue'
+ * never sees it, and it has no stack trace as it is only used for control flow.
+ * For the same reason every thread reuses one instance, unless it is still on
+ * its way (e.g. an 'ensure' clause returns from another Proc).
+ */
+public class ProcReturnException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final ThreadLocal<ProcReturnException> instance_ = new ThreadLocal<ProcReturnException>() {
+        protected ProcReturnException initialValue() {
+            return new ProcReturnException();
+        }
+    };
+
+    private RubyValue value_;
+    private RubyFrame frame_;
+    private boolean thrown_ = false;
+
+    private ProcReturnException() {
+    }
+
+    public static ProcReturnException getInstance(RubyValue value, RubyFrame frame) {
+        ProcReturnException e = instance_.get();
+        if (e.thrown_) {
+            e = new ProcReturnException();
+        }
+        e.value_ = value;
+        e.frame_ = frame;
+        e.thrown_ = true;
+        return e;
+    }
+
+    /// Called by the frame which returns, the exception can be reused after this
+    public RubyValue getValue() {
+        thrown_ = false;
+        return value_;
+    }
+
+    /**
+     * @param frame the frame of the catching run method, null if it has created no block
+     */
+    public boolean isReturnFrom(RubyFrame frame) {
+        return null != frame && frame_ == frame;
+    }
+
+    public Throwable fillInStackTrace() {
+        return this;
+    }
+}
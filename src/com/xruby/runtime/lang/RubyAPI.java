@@ -11,6 +11,9 @@ import java.io.InputStreamReader;
 
 import com.xruby.runtime.builtin.ObjectFactory;
 import com.xruby.runtime.builtin.RubyArray;
+import com.xruby.runtime.builtin.RubyBignum;
+import com.xruby.runtime.builtin.RubyFixnum;
+import com.xruby.runtime.builtin.RubyFloat;
 import com.xruby.runtime.builtin.RubyMethodValue;
 import com.xruby.runtime.builtin.RubyProc;
 import com.xruby.runtime.builtin.RubyString;
@@ -241,6 +244,86 @@ public class RubyAPI {
         return callMethodMissing(receiver, args, block, mid);
     }
 
+    //The following methods are used by compiled code: they do the same thing as
+    //the ones above, but resolve the method through the inline cache of the call site.
+    public static RubyValue callMethod(RubyValue receiver, RubyArray args, RubyBlock block, CallSite site) {
+        assert(null == args || args.size() > 1);//use callOneArgMethod if has only one arg
+        RubyMethod m = site.findMethod(receiver);
+        if (null != m && !UndefMethod.isUndef(m)) {
+            return m.invoke(receiver, args, block);
+        }
+
+        return callMethodMissing(receiver, args, block, site.getID());
+    }
+
+    public static RubyValue callNoArgMethod(RubyValue receiver, RubyBlock block, CallSite site) {
+        RubyMethod m = site.findMethod(receiver);
+        if (null != m && !UndefMethod.isUndef(m)) {
+            return m.invoke(receiver, block);
+        }
+
+        return callMethodMissing(receiver, null, block, site.getID());
+    }
+
+    public static RubyValue callOneArgMethod(RubyValue receiver, RubyValue arg, RubyBlock block, CallSite site) {
+        assert(null != arg);
+        RubyMethod m = site.findMethod(receiver);
+        if (null != m && !UndefMethod.isUndef(m)) {
+            return m.invoke(receiver, arg, block);
+        }
+
+        return callMethodMissing(receiver, new RubyArray(arg), block, site.getID());
+    }
+
+    public static RubyValue callTwoArgMethod(RubyValue receiver, RubyValue arg0, RubyValue arg1, RubyBlock block, CallSite site) {
+        assert(null != arg0 && null != arg1);
+        RubyMethod m = site.findMethod(receiver);
+        if (null != m && !UndefMethod.isUndef(m)) {
+            return m.invoke(receiver, arg0, arg1, block);
+        }
+
+        return callMethodMissing(receiver, new RubyArray(arg0, arg1), block, site.getID());
+    }
+
+    public static RubyValue callPublicNoArgMethod(RubyValue receiver, RubyBlock block, CallSite site) {
+        RubyMethod m = site.findPublicMethod(receiver);
+        if (null != m && !UndefMethod.isUndef(m)) {
+            return m.invoke(receiver, block);
+        }
+
+        return callMethodMissing(receiver, null, block, site.getID());
+    }
+
+    public static RubyValue callPublicOneArgMethod(RubyValue receiver, RubyValue arg, RubyBlock block, CallSite site) {
+        assert(null != arg);
+        RubyMethod m = site.findPublicMethod(receiver);
+        if (null != m && !UndefMethod.isUndef(m)) {
+            return m.invoke(receiver, arg, block);
+        }
+
+        return callMethodMissing(receiver, new RubyArray(arg), block, site.getID());
+    }
+
+    public static RubyValue callPublicTwoArgMethod(RubyValue receiver, RubyValue arg0, RubyValue arg1, RubyBlock block, CallSite site) {
+        assert(null != arg0 && null != arg1);
+        RubyMethod m = site.findPublicMethod(receiver);
+        if (null != m && !UndefMethod.isUndef(m)) {
+            return m.invoke(receiver, arg0, arg1, block);
+        }
+
+        return callMethodMissing(receiver, new RubyArray(arg0, arg1), block, site.getID());
+    }
+
+    public static RubyValue callPublicMethod(RubyValue receiver, RubyArray args, RubyBlock block, CallSite site) {
+        assert(null == args || args.size() > 1);//use callPublicOneArgMethod if has only one arg
+        RubyMethod m = site.findPublicMethod(receiver);
+        if (null != m && !UndefMethod.isUndef(m)) {
+            return m.invoke(receiver, args, block);
+        }
+
+        return callMethodMissing(receiver, args, block, site.getID());
+    }
+
     public static RubyValue callSuperNoArgMethod(RubyValue receiver, RubyBlock block, MethodBlockBase mbb) {
         RubyClass c = (RubyClass) mbb.getScope();
         RubyMethod m = c.findSuperMethod(mbb.getID());
@@ -284,6 +367,105 @@ public class RubyAPI {
         return m.invoke(receiver, args, block);
     }
     
+    //Fast paths for operators used by compiled code. If both operands are
+    //Fixnum (or Float) and the operator has not been redefined, the result is
+    //computed directly, otherwise it is a normal method call.
+    public static RubyValue operatorPlus(RubyValue receiver, RubyValue arg, RubyBlock block, CallSite site) {
+        if (receiver instanceof RubyFixnum) {
+            if (arg instanceof RubyFixnum && BuiltinOperators.FIXNUM_PLUS.isBuiltin()) {
+                return RubyBignum.bignorm((long)receiver.toInt() + arg.toInt());
+            }
+        } else if (receiver instanceof RubyFloat) {
+            if (arg instanceof RubyFloat && BuiltinOperators.FLOAT_PLUS.isBuiltin()) {
+                return ObjectFactory.createFloat(receiver.toFloat() + arg.toFloat());
+            }
+        }
+        return callPublicOneArgMethod(receiver, arg, block, site);
+    }
+
+    public static RubyValue operatorMinus(RubyValue receiver, RubyValue arg, RubyBlock block, CallSite site) {
+        if (receiver instanceof RubyFixnum) {
+            if (arg instanceof RubyFixnum && BuiltinOperators.FIXNUM_MINUS.isBuiltin()) {
+                return RubyBignum.bignorm((long)receiver.toInt() - arg.toInt());
+            }
+        } else if (receiver instanceof RubyFloat) {
+            if (arg instanceof RubyFloat && BuiltinOperators.FLOAT_MINUS.isBuiltin()) {
+                return ObjectFactory.createFloat(receiver.toFloat() - arg.toFloat());
+            }
+        }
+        return callPublicOneArgMethod(receiver, arg, block, site);
+    }
+
+    public static RubyValue operatorMul(RubyValue receiver, RubyValue arg, RubyBlock block, CallSite site) {
+        if (receiver instanceof RubyFixnum) {
+            if (arg instanceof RubyFixnum && BuiltinOperators.FIXNUM_MUL.isBuiltin()) {
+                return RubyBignum.bignorm((long)receiver.toInt() * arg.toInt());
+            }
+        } else if (receiver instanceof RubyFloat) {
+            if (arg instanceof RubyFloat && BuiltinOperators.FLOAT_MUL.isBuiltin()) {
+                return ObjectFactory.createFloat(receiver.toFloat() * arg.toFloat());
+            }
+        }
+        return callPublicOneArgMethod(receiver, arg, block, site);
+    }
+
+    public static RubyValue operatorDiv(RubyValue receiver, RubyValue arg, RubyBlock block, CallSite site) {
+        //Fixnum division has to round towards negative infinity and check
+        //for zero, so only Float is done here.
+        if (receiver instanceof RubyFloat && arg instanceof RubyFloat && BuiltinOperators.FLOAT_DIV.isBuiltin()) {
+            return ObjectFactory.createFloat(receiver.toFloat() / arg.toFloat());
+        }
+        return callPublicOneArgMethod(receiver, arg, block, site);
+    }
+
+    public static RubyValue operatorLt(RubyValue receiver, RubyValue arg, RubyBlock block, CallSite site) {
+        if (receiver instanceof RubyFixnum && arg instanceof RubyFixnum && BuiltinOperators.FIXNUM_LT.isBuiltin()) {
+            return ObjectFactory.createBoolean(receiver.toInt() < arg.toInt());
+        }
+        return callPublicOneArgMethod(receiver, arg, block, site);
+    }
+
+    public static RubyValue operatorLe(RubyValue receiver, RubyValue arg, RubyBlock block, CallSite site) {
+        if (receiver instanceof RubyFixnum && arg instanceof RubyFixnum && BuiltinOperators.FIXNUM_LE.isBuiltin()) {
+            return ObjectFactory.createBoolean(receiver.toInt() <= arg.toInt());
+        }
+        return callPublicOneArgMethod(receiver, arg, block, site);
+    }
+
+    public static RubyValue operatorGt(RubyValue receiver, RubyValue arg, RubyBlock block, CallSite site) {
+        if (receiver instanceof RubyFixnum && arg instanceof RubyFixnum && BuiltinOperators.FIXNUM_GT.isBuiltin()) {
+            return ObjectFactory.createBoolean(receiver.toInt() > arg.toInt());
+        }
+        return callPublicOneArgMethod(receiver, arg, block, site);
+    }
+
+    public static RubyValue operatorGe(RubyValue receiver, RubyValue arg, RubyBlock block, CallSite site) {
+        if (receiver instanceof RubyFixnum && arg instanceof RubyFixnum && BuiltinOperators.FIXNUM_GE.isBuiltin()) {
+            return ObjectFactory.createBoolean(receiver.toInt() >= arg.toInt());
+        }
+        return callPublicOneArgMethod(receiver, arg, block, site);
+    }
+
+    public static RubyValue operatorEqual(RubyValue receiver, RubyValue arg, RubyBlock block, CallSite site) {
+        if (receiver instanceof RubyFixnum && arg instanceof RubyFixnum && BuiltinOperators.FIXNUM_EQUAL.isBuiltin()) {
+            return ObjectFactory.createBoolean(receiver.toInt() == arg.toInt());
+        }
+        return callPublicOneArgMethod(receiver, arg, block, site);
+    }
+
+    //Guard of unboxed numeric loops, see NumericLoop in codegen
+    public static boolean isNumericOperatorsBuiltin() {
+        return BuiltinOperators.isFixnumBuiltin() && BuiltinOperators.isFloatBuiltin();
+    }
+
+    public static RubyValue getInstanceVariable(RubyValue receiver, InstanceVariableSite site) {
+        return site.get(receiver);
+    }
+
+    public static RubyValue setInstanceVariable(RubyValue receiver, RubyValue value, InstanceVariableSite site) {
+        return site.set(receiver, value);
+    }
+
     public static RubyValue operatorNot(RubyValue value) {
         return value.isTrue() ? RubyConstant.QFALSE : RubyConstant.QTRUE;
     }
@@ -388,6 +570,16 @@ public class RubyAPI {
         return RubyRuntime.ObjectClass.setConstant(name, value);
     }
 
+    public static RubyValue getCurrentNamespaceConstant(RubyModule receiver, ConstantSite site) {
+        RubyValue v = site.get(receiver);
+        if (null == v) {
+            int serial = RubyModule.getConstantSerial();
+            v = getCurrentNamespaceConstant(receiver, site.getName());
+            site.put(receiver, v, serial);
+        }
+        return v;
+    }
+
     public static RubyValue getCurrentNamespaceConstant(RubyModule receiver, String name) {
         RubyValue v = receiver.getConstant(name);
         if (null != v) {
@@ -421,6 +613,16 @@ public class RubyAPI {
         return ObjectFactory.createString("constant");
     }
 
+    public static RubyValue getConstant(RubyValue receiver, ConstantSite site) {
+        RubyValue v = site.get(receiver);
+        if (null == v) {
+            int serial = RubyModule.getConstantSerial();
+            v = getConstant(receiver, site.getName());
+            site.put(receiver, v, serial);
+        }
+        return v;
+    }
+
     public static RubyValue getConstant(RubyValue receiver, String name) {
         throwTypeErrorIfNotClassModule(receiver);
 
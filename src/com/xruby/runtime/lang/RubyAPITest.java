@@ -34,4 +34,13 @@ public class RubyAPITest extends TestCase {
         assertFalse(RubyAPI.testExceptionType(new RubyArray(RubyRuntime.RuntimeErrorClass), new RubyException(RubyRuntime.ArgumentErrorClass, "")));
     }
 
+    public void test_backtrace() {
+        RubyException e = new RubyException(new RubyExceptionValue(RubyRuntime.RuntimeErrorClass, ""), true);
+        assertTrue(e.getRubyValue().backtrace() instanceof RubyArray);
+
+        //stackless, the frames of the raiser are not known
+        e = new RubyException(new RubyExceptionValue(RubyRuntime.RuntimeErrorClass, ""), false);
+        assertSame(RubyConstant.QNIL, e.getRubyValue().backtrace());
+    }
+
 }
@@ -31,6 +31,7 @@ public abstract class RubyBlock extends MethodBlockBase {
     private boolean createdByLambda_ = false;
 
     private RubyMethod currentMethod_;
+    private RubyFrame frame_ = null;//activation the block was created in, for 'return'
 
     public RubyBlock(int argc,
                         boolean has_asterisk_parameter,
@@ -64,6 +65,14 @@ public abstract class RubyBlock extends MethodBlockBase {
         return currentMethod_;
     }
 
+    public void setFrame(RubyFrame frame) {
+        frame_ = frame;
+    }
+
+    public RubyFrame getFrame() {
+        return frame_;
+    }
+
     public RubyID getID() {
         return currentMethod_.getID();
     }
@@ -118,13 +127,7 @@ public abstract class RubyBlock extends MethodBlockBase {
         __return__ = false;
         __retry__ = false;
 
-        RubyValue v = run(receiver, null != args ? args : new RubyArray(0));
-        //TODO Maybe we can just use the fields in BlockCallStatus, remove the
-        //__break__, __return__, __retry__ here
-        if (v.returnedInBlock()) {
-            __return__ = true;
-        }
-        return v;
+        return run(receiver, null != args ? args : new RubyArray(0));
     }
 
     protected abstract RubyValue run(RubyValue receiver, RubyArray args);
@@ -139,13 +142,7 @@ public abstract class RubyBlock extends MethodBlockBase {
         __return__ = false;
         __retry__ = false;
 
-        RubyValue v = run(receiver);
-        //TODO Maybe we can just use the fields in BlockCallStatus, remove the
-        //__break__, __return__, __retry__ here
-        if (v.returnedInBlock()) {
-            __return__ = true;
-        }
-        return v;
+        return run(receiver);
     }
 
     // no arg run
@@ -163,13 +160,7 @@ public abstract class RubyBlock extends MethodBlockBase {
         __return__ = false;
         __retry__ = false;
 
-        RubyValue v = run(receiver, arg);
-        //TODO Maybe we can just use the fields in BlockCallStatus, remove the
-        //__break__, __return__, __retry__ here
-        if (v.returnedInBlock()) {
-            __return__ = true;
-        }
-        return v;
+        return run(receiver, arg);
     }
 
     // one arg run
@@ -187,13 +178,7 @@ public abstract class RubyBlock extends MethodBlockBase {
         __return__ = false;
         __retry__ = false;
 
-        RubyValue v = run(receiver, arg1, arg2);
-        //TODO Maybe we can just use the fields in BlockCallStatus, remove the
-        //__break__, __return__, __retry__ here
-        if (v.returnedInBlock()) {
-            __return__ = true;
-        }
-        return v;
+        return run(receiver, arg1, arg2);
     }
 
     // two args run
@@ -18,15 +18,14 @@ import com.xruby.runtime.lang.annotation.RubyLevelMethod;
 public class RubyClass extends RubyModule {
     private static MethodCache cache = new MethodCache();
 
-    public static void resetCache() {
-        cache.reset();
-    }
-
     private int objectAddress;
 
     public RubyClass(String name, RubyClass superclass, RubyModule owner) {
         super(name, owner);
         superclass_ = superclass;
+        if (null != superclass) {
+            superclass.addDependent(this);
+        }
         this.objectAddress = super.hashCode();
     }
 
@@ -101,6 +100,7 @@ public class RubyClass extends RubyModule {
     	}
     	
     	this.superclass_ = checkInheritable(arg);
+    	this.superclass_.addDependent(this);
     	new RubySingletonClass(this, this.superclass_.getRubyClass(), null);
     	ClassFactory.inheritedClass(this.superclass_, this);
     	this.initializeModule(block);
@@ -136,6 +136,11 @@ public class RubyClass extends RubyModule {
 
     public void setSuperClass(RubyClass superclass) {
         this.superclass_ = superclass;
+        constantsChanged();
+        if (null != superclass) {
+            superclass.addDependent(this);
+        }
+        invalidateMethodCache();
     }
 
     @RubyLevelMethod(name="superclass")
@@ -188,8 +193,11 @@ public class RubyClass extends RubyModule {
     }
 
     public RubyMethod findOwnMethod(RubyID mid) {
+        //read the generation before the lookup, so a concurrent change of the
+        //method tables can not be cached under the new generation
+        int generation = generation_;
         MethodCache.CacheEntry entry = cache.getMethod(this, mid);
-        if (entry.klass == this && entry.mid == mid) {
+        if (entry.klass == this && entry.mid == mid && entry.generation == generation) {
             if (entry.method == null) {
                 return null;
             } else {
@@ -199,14 +207,17 @@ public class RubyClass extends RubyModule {
 
         RubyMethod m = super.findOwnMethod(mid);
         if (null != m) {
-            cache.putMethod(this, mid, m);
+            cache.putMethod(this, mid, m, generation);
         }
         return m;
     }
 
     public RubyMethod findOwnPublicMethod(RubyID mid) {
+        //read the generation before the lookup, so a concurrent change of the
+        //method tables can not be cached under the new generation
+        int generation = generation_;
         MethodCache.CacheEntry entry = cache.getMethod(this, mid);
-        if (entry.klass == this && entry.mid == mid) {
+        if (entry.klass == this && entry.mid == mid && entry.generation == generation) {
             RubyMethod em = entry.method;
             if (em != null && RubyMethod.PUBLIC == em.getAccess()) {
                 return em;
@@ -217,7 +228,7 @@ public class RubyClass extends RubyModule {
 
         RubyMethod m = super.findOwnPublicMethod(mid);
         if (null != m) {
-            cache.putMethod(this, mid, m);
+            cache.putMethod(this, mid, m, generation);
         }
         return m;
     }
@@ -230,9 +241,4 @@ public class RubyClass extends RubyModule {
             klass = klass.superclass_;
         }
     }
-
-    protected RubyValue addMethod(RubyID id, RubyMethod method, int attribute) {
-        cache.removeMethod(id);
-        return super.addMethod(id, method, attribute);
-    }
 }
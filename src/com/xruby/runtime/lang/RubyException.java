@@ -7,11 +7,19 @@ package com.xruby.runtime.lang;
 
 /**
  * Anything that goes wrong at runtime.
+ *
+ * Filling in the java stack trace is the most expensive part of raising an
+ * exception, and ruby programs which use exceptions for control flow never
+ * look at it. With -Dxruby.stackless_exceptions=true the stack trace is not
+ * recorded, and Exception#backtrace returns nil as it does for an exception
+ * which has not been raised.
  */
 public class RubyException extends RuntimeException {
 	
 	private static final long serialVersionUID = 1L;
 
+	private static final boolean stackless_ = Boolean.getBoolean("xruby.stackless_exceptions");
+
 	private RubyExceptionValue value_ = null;
 
 	public RubyException(String message) {
@@ -19,10 +27,19 @@ public class RubyException extends RuntimeException {
 	}
 
 	public RubyException(RubyClass exception_class, String message) {
-		value_ = new RubyExceptionValue(exception_class, message);
+		this(new RubyExceptionValue(exception_class, message));
 	}
 
 	public RubyException(RubyExceptionValue e) {
+		this(e, !stackless_);
+	}
+
+	/**
+	 * @param backtrace false for exceptions which are only used for control
+	 * flow (e.g. Kernel#throw), they never need a stack trace
+	 */
+	public RubyException(RubyExceptionValue e, boolean backtrace) {
+		super(null, null, false, backtrace);
 		value_ = e;
 	}
 	
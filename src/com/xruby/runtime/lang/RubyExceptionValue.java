@@ -21,6 +21,7 @@ public class RubyExceptionValue extends RubyBasic {
     private RubyException exception_;
     private String message_;
     private Throwable throwable_;
+    private RubyArray backtrace_;
 
     public RubyExceptionValue(RubyClass c) {
         super(c);
@@ -75,9 +76,25 @@ public class RubyExceptionValue extends RubyBasic {
     }
 
     @RubyLevelMethod(name="backtrace")
-    public RubyArray backtrace() {
+    public RubyValue backtrace() {
+        if (null == exception_) {
+            return RubyConstant.QNIL;//not raised yet
+        }
+
+        if (null == backtrace_) {
+            StackTraceElement[] trace = exception_.getStackTrace();
+            if (0 == trace.length) {
+                //Raised without a stack trace (see RubyException), the frames
+                //of the raiser are gone
+                return RubyConstant.QNIL;
+            }
+            backtrace_ = buildBacktrace(trace);
+        }
+        return backtrace_;
+    }
+
+    private static RubyArray buildBacktrace(StackTraceElement[] trace) {
         RubyArray a = new RubyArray();
-        StackTraceElement[] trace = exception_.getStackTrace();
         for (StackTraceElement e : trace) {
             String s = e.getClassName();
             if ((!s.startsWith("com.xruby"))||
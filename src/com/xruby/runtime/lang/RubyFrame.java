@@ -0,0 +1,31 @@
+/**
+ * Copyright 2005-2007 Xue Yong Zhi
+ * Distributed under the Apache License
+ */
+
+package com.xruby.runtime.lang;
+
+/**
+ * One activation of a method, program or class body which creates blocks.
+ * The blocks created in it (and in blocks nested in them) keep it, so
+ * 'return' in a Proc goes back to this very activation even if the method
+ * is recursive, see ProcReturnException.
+ *
+ * The generated code creates it with the first block and calls exit() when
+ * the activation returns or throws.
+ */
+public final class RubyFrame {
+    private final Thread thread_ = Thread.currentThread();
+    private boolean running_ = true;
+
+    public void exit() {
+        running_ = false;
+    }
+
+    /**
+     * @return true if the activation is still on the stack of the current thread
+     */
+    public boolean isRunning() {
+        return running_ && thread_ == Thread.currentThread();
+    }
+}
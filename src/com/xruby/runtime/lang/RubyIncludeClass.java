@@ -15,6 +15,7 @@ public class RubyIncludeClass extends RubyClass {
         }
         this.setRubyClass(RubyRuntime.ClassClass);
         this.module = module;
+        module.addDependent(this);
         this.methods_ = module.methods_;
         this.constants_ = module.constants_;
         this.instance_varibles_ = module.instance_varibles_;
@@ -0,0 +1,62 @@
+/**
+ * Copyright 2007 Ye Zheng
+ * Distributed under the Apache License
+ */
+
+package com.xruby.runtime.lang;
+
+import com.xruby.runtime.builtin.RubyArray;
+
+/**
+ * Placeholder for a builtin method in a method table. The real method (an
+ * invoker class generated by MethodFactory) is only created when the method
+ * is called for the first time, most builtin methods are never called by a
+ * given script, so this keeps their classes from being generated at startup.
+ */
+public abstract class RubyLazyMethod extends RubyMethod {
+    private volatile RubyMethod method_ = null;
+
+    protected RubyLazyMethod(int argc) {
+        super(argc, false, 0);
+    }
+
+    protected abstract RubyMethod createMethod();
+
+    private RubyMethod getMethod() {
+        RubyMethod m = method_;
+        if (null == m) {
+            m = createMethod();
+            m.setScope(getScope());
+            m.setID(getID());
+            m.setAccess(getAccess());
+            method_ = m;
+        }
+        return m;
+    }
+
+    public RubyMethod clone() {
+        RubyLazyMethod m = (RubyLazyMethod)super.clone();
+        m.method_ = null;//the clone gets its own id
+        return m;
+    }
+
+    public RubyValue invoke(RubyValue receiver, RubyArray args, RubyBlock block) {
+        return getMethod().invoke(receiver, args, block);
+    }
+
+    public RubyValue invoke(RubyValue receiver, RubyBlock block) {
+        return getMethod().invoke(receiver, block);
+    }
+
+    public RubyValue invoke(RubyValue receiver, RubyValue arg, RubyBlock block) {
+        return getMethod().invoke(receiver, arg, block);
+    }
+
+    public RubyValue invoke(RubyValue receiver, RubyValue arg0, RubyValue arg1, RubyBlock block) {
+        return getMethod().invoke(receiver, arg0, arg1, block);
+    }
+
+    protected RubyValue run(RubyValue receiver, RubyArray args, RubyBlock block) {
+        return getMethod().invoke(receiver, args, block);
+    }
+}
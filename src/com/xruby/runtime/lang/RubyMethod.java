@@ -75,13 +75,7 @@ public abstract class RubyMethod extends MethodBlockBase implements Cloneable {
             validateArgSize(args_length);
         }
 
-        RubyValue v = run(receiver, args, block);
-        if (null != block) {
-            v.setReturnedInBlock(block.returned(), block.breakedOrReturned(), false);
-        } else {
-            v.setReturnedInBlock(false, false, false);
-        }
-        return v;
+        return run(receiver, args, block);
     }
 
     protected abstract RubyValue run(RubyValue receiver, RubyArray args, RubyBlock block);
@@ -93,13 +87,7 @@ public abstract class RubyMethod extends MethodBlockBase implements Cloneable {
         	validateArgSize(0);
         }
 
-        RubyValue v = run(receiver, block);
-        if (null != block) {
-            v.setReturnedInBlock(block.returned(), block.breakedOrReturned(), false);
-        } else {
-            v.setReturnedInBlock(false, false, false);
-        }
-        return v;
+        return run(receiver, block);
     }
 
     protected RubyValue run(RubyValue receiver, RubyBlock block) {
@@ -112,13 +100,7 @@ public abstract class RubyMethod extends MethodBlockBase implements Cloneable {
         	validateArgSize(1);
         }
 
-        RubyValue v = run(receiver, arg, block);
-        if (null != block) {
-            v.setReturnedInBlock(block.returned(), block.breakedOrReturned(), false);
-        } else {
-            v.setReturnedInBlock(false, false, false);
-        }
-        return v;
+        return run(receiver, arg, block);
     }
 
     protected RubyValue run(RubyValue receiver, RubyValue arg, RubyBlock block) {
@@ -131,13 +113,7 @@ public abstract class RubyMethod extends MethodBlockBase implements Cloneable {
         	validateArgSize(2);
         }
 
-        RubyValue v = run(receiver, arg0, arg1, block);
-        if (null != block) {
-            v.setReturnedInBlock(block.returned(), block.breakedOrReturned(), false);
-        } else {
-            v.setReturnedInBlock(false, false, false);
-        }
-        return v;
+        return run(receiver, arg0, arg1, block);
     }
 
     protected RubyValue run(RubyValue receiver, RubyValue arg0, RubyValue arg1, RubyBlock block) {
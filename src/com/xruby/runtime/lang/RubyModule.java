@@ -5,8 +5,13 @@
 
 package com.xruby.runtime.lang;
 
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.xruby.runtime.builtin.AttrReader;
 import com.xruby.runtime.builtin.AttrWriter;
@@ -34,8 +39,23 @@ public class RubyModule extends RubyBasic {
     protected RubyClass superclass_;
     private int current_access_mode_ = RubyMethod.PUBLIC;
     protected Map<RubyID, RubyValue> instance_varibles_ = null;
-    protected Map<RubyID, RubyMethod> methods_ = new HashMap<RubyID, RubyMethod>();
+    //read without locking by threads looking up methods while another thread defines them
+    protected Map<RubyID, RubyMethod> methods_ = new ConcurrentHashMap<RubyID, RubyMethod>();
     protected Map<String, RubyValue> constants_ = new HashMap<String, RubyValue>();
+
+    //Bumped whenever the method table of this module or of one of its ancestors
+    //changes. Cached lookups remember the generation they were made in.
+    //volatile so other threads notice a change without taking a lock
+    volatile int generation_ = 0;
+
+    //subclasses (and for modules, the RubyIncludeClass proxies) whose method
+    //lookup goes through this module, guarded by hierarchyLock
+    private List<WeakReference<RubyModule>> dependents_ = null;
+    private static final Object hierarchyLock = new Object();
+
+    //Bumped whenever a constant is set or the ancestors or scope of a module
+    //change, which may change what getConstant() returns (see ConstantSite).
+    private static volatile int constant_serial_ = 0;
     
     public RubyModule() {
         super(null);
@@ -59,6 +79,15 @@ public class RubyModule extends RubyBasic {
 
     void setScope(RubyModule owner) {
         this.scope_ = owner;
+        constantsChanged();
+    }
+
+    static int getConstantSerial() {
+        return constant_serial_;
+    }
+
+    static synchronized void constantsChanged() {
+        ++constant_serial_;
     }
 
     public boolean isRealModule() {
@@ -82,11 +111,16 @@ public class RubyModule extends RubyBasic {
     }
 
     protected RubyValue getOwnConstant(String name) {
-        return constants_.get(name);
+        RubyValue v = constants_.get(name);
+        if (null == v && this == RubyRuntime.ObjectClass) {
+            return RubyRuntime.loadLazyBuiltin(name);
+        }
+        return v;
     }
 
     public RubyValue setConstant(String name, RubyValue value) {
         constants_.put(name, value);
+        constantsChanged();
         if (value instanceof RubyModule) {
             ((RubyModule)value).setName(name);
         }
@@ -176,6 +210,7 @@ public class RubyModule extends RubyBasic {
 
         RubyID newId = RubyID.intern(newName);
         methods_.put(newId, m);
+        invalidateMethodCache();
     }
 
     public void collectOwnMethodNames(RubyArray a, int mode) {
@@ -193,11 +228,55 @@ public class RubyModule extends RubyBasic {
         }
     }
 
+    void addDependent(RubyModule m) {
+        synchronized (hierarchyLock) {
+            if (null == dependents_) {
+                dependents_ = new ArrayList<WeakReference<RubyModule>>();
+            }
+
+            for (Iterator<WeakReference<RubyModule>> it = dependents_.iterator(); it.hasNext();) {
+                RubyModule d = it.next().get();
+                if (null == d) {
+                    it.remove();
+                } else if (d == m) {
+                    return;
+                }
+            }
+
+            dependents_.add(new WeakReference<RubyModule>(m));
+        }
+    }
+
+    private void invalidateGeneration() {
+        ++generation_;
+
+        if (null != dependents_) {
+            for (WeakReference<RubyModule> ref : dependents_) {
+                RubyModule d = ref.get();
+                if (null != d) {
+                    d.invalidateGeneration();
+                }
+            }
+        }
+    }
+
+    /**
+     * Invalidates cached method lookups of this module and everything below it in
+     * the hierarchy, other classes keep their cache entries.
+     */
+    protected void invalidateMethodCache() {
+        synchronized (hierarchyLock) {
+            invalidateGeneration();
+        }
+        DynamicCallSite.invalidateAll();
+    }
+
     protected RubyValue addMethod(RubyID id, RubyMethod m, int attribute) {
         m.setScope(this);
         m.setID(id);
         m.setAccess(attribute);
         methods_.put(id, m);
+        invalidateMethodCache();
 
         if (RubyRuntime.running && id != RubyID.ID_ALLOCATOR) {
             RubyAPI.callOneArgMethod(this, id.toSymbol(), null, RubyID.methodAddedID);
@@ -256,6 +335,7 @@ public class RubyModule extends RubyBasic {
             klass.setScope(this);
             klass.setName(name);
             constants_.put(name, klass);
+            constantsChanged();
         }
         ClassFactory.inheritedClass(parent, klass);
 
@@ -266,7 +346,7 @@ public class RubyModule extends RubyBasic {
     private RubyClass defineClass(String name, RubyClass parent) {
         RubyValue v = null;
         if (null != name) {
-            v = constants_.get(name);
+            v = getOwnConstant(name);
         }
         if (null == v) {
             return defineNewClass(name, parent);
@@ -302,11 +382,12 @@ public class RubyModule extends RubyBasic {
         m.setName(name);
         m.setRubyClass(RubyRuntime.ModuleClass);
         constants_.put(name, m);//NOTE, do not use ObjectFactory.createClass, it will cause initialization issue
+        constantsChanged();
         return m;
     }
 
     public RubyModule defineModule(String name) {
-        RubyValue v = constants_.get(name);
+        RubyValue v = getOwnConstant(name);
         if (null == v) {
             return defineNewModule(name);
         }
@@ -389,6 +470,8 @@ public class RubyModule extends RubyBasic {
 
             if (!skip) {
                 c.superclass_ = new RubyIncludeClass(module, c.superclass_);
+                c.superclass_.addDependent(c);
+                constantsChanged();
                 c = c.superclass_;
                 changed = true;
             }
@@ -397,7 +480,7 @@ public class RubyModule extends RubyBasic {
         }
 
         if (changed) {
-            RubyClass.resetCache();
+            invalidateMethodCache();
         }
     }
 
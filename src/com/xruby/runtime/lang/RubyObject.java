@@ -5,16 +5,15 @@
 
 package com.xruby.runtime.lang;
 
-import java.util.HashMap;
-import java.util.Iterator;
-import java.util.Map;
-
 import com.xruby.runtime.lang.annotation.RubyAllocMethod;
 import com.xruby.runtime.lang.annotation.RubyLevelClass;
 
 @RubyLevelClass(name="Object", superclass="", modules="Kernel")
 public class RubyObject extends RubyBasic {
-	private Map<RubyID, RubyValue> instance_varibles_ = null;
+	//Instance variables, indexed as given by shape_ (see RubyShape and
+	//InstanceVariableSite). ivars_ may be longer than the shape.
+	RubyShape shape_ = RubyShape.EMPTY;
+	private RubyValue[] ivars_ = null;
 	
 	public RubyObject(RubyClass c) {
 		super(c);
@@ -25,24 +24,56 @@ public class RubyObject extends RubyBasic {
 		return new RubyObject((RubyClass)receiver);
 	}
 
-	public RubyValue getInstanceVariable(RubyID id) {
-		if (this.instance_varibles_ != null) {
-			RubyValue v = instance_varibles_.get(id);
+	RubyValue getSlot(int index) {
+		RubyValue[] ivars = ivars_;
+		if (index >= 0 && null != ivars && index < ivars.length) {
+			RubyValue v = ivars[index];
 			if (v != null) {
 				return v;
 			}
 		}
-		
-        return RubyConstant.QNIL;
+
+		return RubyConstant.QNIL;
+	}
+
+	void setSlot(int index, RubyShape shape, RubyValue value) {
+		RubyValue[] ivars = ivars_;
+		if (null == ivars) {
+			ivars = new RubyValue[Math.max(4, shape.size())];
+			ivars_ = ivars;
+		} else if (index >= ivars.length) {
+			RubyValue[] new_ivars = new RubyValue[Math.max(ivars.length * 2, shape.size())];
+			System.arraycopy(ivars, 0, new_ivars, 0, ivars.length);
+			ivars = new_ivars;
+			ivars_ = ivars;
+		}
+
+		ivars[index] = value;
+		shape_ = shape;
+	}
+
+	public RubyValue getInstanceVariable(RubyID id) {
+		return getSlot(shape_.indexOf(id));
 	}
 
 	public RubyValue setInstanceVariable(RubyValue value, RubyID id) {
-		if (null == instance_varibles_) {
-            instance_varibles_ = new HashMap<RubyID, RubyValue>();
-        }
+		RubyShape shape = shape_;
+		int index = shape.indexOf(id);
+		if (index < 0) {
+			shape = shape.addVariable(id);
+			index = shape.size() - 1;
+		}
 
-        instance_varibles_.put(id, value);
-        return value;
+		setSlot(index, shape, value);
+		return value;
+	}
+
+	public RubyValue clone() {
+		RubyObject v = (RubyObject)super.clone();
+		if (null != ivars_) {
+			v.ivars_ = ivars_.clone();
+		}
+		return v;
 	}
 	
 	public String inspect() {
@@ -53,19 +84,15 @@ public class RubyObject extends RubyBasic {
         sb.append(Integer.toHexString(this.hashCode()));
 
         String sep = "";
-        Map<RubyID, RubyValue> vars = this.instance_varibles_;
-
-        if (vars != null) {
-            for (Iterator iter = vars.keySet().iterator(); iter.hasNext();) {
-                RubyID id = (RubyID)iter.next();
-                sb.append(sep);
-                sb.append(" ");
-                sb.append(id.toString());
-                sb.append("=");
-                RubyValue inspectValue = RubyAPI.callPublicNoArgMethod(vars.get(id), null, RubyID.inspectID);
-                sb.append(inspectValue.toStr());
-                sep = ",";
-            }
+        RubyShape shape = this.shape_;
+        for (int i = 0; i < shape.size(); ++i) {
+            sb.append(sep);
+            sb.append(" ");
+            sb.append(shape.getID(i).toString());
+            sb.append("=");
+            RubyValue inspectValue = RubyAPI.callPublicNoArgMethod(getSlot(i), null, RubyID.inspectID);
+            sb.append(inspectValue.toStr());
+            sep = ",";
         }
         sb.append(">");
 
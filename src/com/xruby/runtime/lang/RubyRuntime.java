@@ -7,7 +7,10 @@ package com.xruby.runtime.lang;
 
 import java.io.OutputStream;
 import java.io.PrintStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+import com.xruby.compiler.codegen.ClassDumper;
 import com.xruby.runtime.builtin.*;
 import com.xruby.runtime.lang.util.RubyTypeFactory;
 import com.xruby.runtime.stdlib.*;
@@ -82,6 +85,18 @@ public class RubyRuntime {
 
     public static boolean running = false;
 
+    /**
+     * Builtin classes and modules which are rarely used and not needed by
+     * builtin.rb. They are created when their constant is looked up for the
+     * first time (see RubyModule.getOwnConstant), the fields above stay null
+     * until then.
+     */
+    private static abstract class LazyBuiltin {
+        abstract void load();
+    }
+
+    private static final Map<String, LazyBuiltin> lazy_builtins_ = new ConcurrentHashMap<String, LazyBuiltin>();
+
     static {
         //Note: order is important: should creare parent classes first!
 
@@ -101,15 +116,34 @@ public class RubyRuntime {
         TrueClassClass = RubyAPI.defineClass("TrueClass", RubyRuntime.ObjectClass);
         FalseClassClass = RubyAPI.defineClass("FalseClass", RubyRuntime.ObjectClass);
 
-        ComparableModule = RubyAPI.defineModule("Comparable");
+        ComparableModule = RubyTypeFactory.getModule(RubyComparableModule.class);
         EnumerableModule = RubyAPI.defineModule("Enumerable");
         ErrnoModule = RubyAPI.defineModule("Errno");
-        FileTestModule = RubyTypeFactory.getModule(RubyFileTestModule.class);
-        GCModule = RubyTypeFactory.getModule(RubyGC.class);
-
-        MarshalModule = RubyTypeFactory.getModule(RubyMarshalModule.class);//RubyAPI.defineModule("Marshal");
-        MathModule = RubyTypeFactory.getModule(RubyMathModule.class);
-        ObjectSpaceModule = RubyTypeFactory.getModule(ObjectSpace.class);
+        lazy_builtins_.put("FileTest", new LazyBuiltin() {
+            void load() {
+                FileTestModule = RubyTypeFactory.getModule(RubyFileTestModule.class);
+            }
+        });
+        lazy_builtins_.put("GC", new LazyBuiltin() {
+            void load() {
+                GCModule = RubyTypeFactory.getModule(RubyGC.class);
+            }
+        });
+        lazy_builtins_.put("Marshal", new LazyBuiltin() {
+            void load() {
+                MarshalModule = RubyTypeFactory.getModule(RubyMarshalModule.class);
+            }
+        });
+        lazy_builtins_.put("Math", new LazyBuiltin() {
+            void load() {
+                MathModule = RubyTypeFactory.getModule(RubyMathModule.class);
+            }
+        });
+        lazy_builtins_.put("ObjectSpace", new LazyBuiltin() {
+            void load() {
+                ObjectSpaceModule = RubyTypeFactory.getModule(ObjectSpace.class);
+            }
+        });
         ProcessModule = RubyAPI.defineModule("Process");
 
         BindingClass = RubyAPI.defineClass("Binding", RubyRuntime.ObjectClass);
@@ -140,7 +174,11 @@ public class RubyRuntime {
         TimeClass = RubyTypeFactory.getClass(RubyTime.class);
         MatchDataClass = RubyTypeFactory.getClass(RubyMatchData.class);
         DirClass = RubyTypeFactory.getClass(RubyDir.class);
-        StructClass = RubyTypeFactory.getClass(RubyStruct.class);
+        lazy_builtins_.put("Struct", new LazyBuiltin() {
+            void load() {
+                StructClass = RubyTypeFactory.getClass(RubyStruct.class);
+            }
+        });
         ThreadGroupClass = RubyTypeFactory.getClass(RubyThreadGroup.class);
         ThreadClass = RubyTypeFactory.getClass(RubyThread.class);
         UnboundMethodClass = RubyAPI.defineClass("UnboundMethod", MethodClass);
@@ -168,11 +206,40 @@ public class RubyRuntime {
 
         TOP_LEVEL_SELF_VALUE = RubyTypeFactory.getObject(RubyTopSelf.class);
 
-        StringIOClass = RubyTypeFactory.getClass(RubyStringIO.class);
+        lazy_builtins_.put("StringIO", new LazyBuiltin() {
+            void load() {
+                StringIOClass = RubyTypeFactory.getClass(RubyStringIO.class);
+            }
+        });
 
         RubyThread.init();
     }
 
+    /**
+     * Creates the lazy builtin class or module called name (if there is one
+     * which has not been created yet).
+     * @return the class or module, null if name is not a lazy builtin
+     */
+    static RubyValue loadLazyBuiltin(String name) {
+        if (!lazy_builtins_.containsKey(name)) {
+            return null;
+        }
+
+        synchronized (lazy_builtins_) {
+            LazyBuiltin builtin = lazy_builtins_.remove(name);
+            if (null != builtin) {
+                builtin.load();
+            }
+        }
+        return ObjectClass.constants_.get(name);
+    }
+
+    private static void loadAllLazyBuiltins() {
+        for (String name : lazy_builtins_.keySet()) {
+            loadLazyBuiltin(name);
+        }
+    }
+
     private static void initARGV(String[] args) {
         RubyArray argv = new RubyArray();
         if (args != null) {
@@ -220,7 +287,12 @@ public class RubyRuntime {
         updateStderr();
 
         RubyAPI.setTopLevelConstant(RubyConstant.QTRUE, "TRUE");
+        if (ClassDumper.isEnabled()) {
+            //generate-method-classes wants the builders of all builtins
+            loadAllLazyBuiltins();
+        }
         loadBuildinDotRb();
+        BuiltinOperators.init();
         RubyRuntime.running = true;
     }
 
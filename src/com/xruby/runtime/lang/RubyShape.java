@@ -0,0 +1,86 @@
+/**
+ * Copyright 2007 Xue Yong Zhi, Ye Zheng
+ * Distributed under the Apache License
+ */
+
+package com.xruby.runtime.lang;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Layout of the instance variables of a RubyObject: the names of the
+ * variables in the order they were first assigned. The object keeps the
+ * values in an array indexed by the position of the name in its shape.
+ *
+ * Shapes form a tree starting at EMPTY, adding a variable moves an object to
+ * a child shape, so objects which assign the same variables in the same
+ * order (e.g. in initialize) share one shape. Shapes are immutable, which
+ * lets InstanceVariableSite cache the index of a variable per shape.
+ */
+final class RubyShape {
+    static final RubyShape EMPTY = new RubyShape(new RubyID[0]);
+
+    //linear search is faster for small shapes
+    private static final int MAX_LINEAR_SEARCH = 8;
+
+    private final RubyID[] ids_;
+    private final Map<RubyID, Integer> indexes_;
+    private final ConcurrentHashMap<RubyID, RubyShape> transitions_ = new ConcurrentHashMap<RubyID, RubyShape>();
+
+    private RubyShape(RubyID[] ids) {
+        ids_ = ids;
+        if (ids.length <= MAX_LINEAR_SEARCH) {
+            indexes_ = null;
+        } else {
+            indexes_ = new HashMap<RubyID, Integer>();
+            for (int i = 0; i < ids.length; ++i) {
+                indexes_.put(ids[i], i);
+            }
+        }
+    }
+
+    int size() {
+        return ids_.length;
+    }
+
+    RubyID getID(int index) {
+        return ids_[index];
+    }
+
+    /**
+     * @return index of the variable, or -1 if it is not part of this shape
+     */
+    int indexOf(RubyID id) {
+        if (null != indexes_) {
+            Integer index = indexes_.get(id);
+            return (null == index) ? -1 : index;
+        }
+
+        for (int i = 0; i < ids_.length; ++i) {
+            if (ids_[i] == id) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return the shape with id added as the last variable
+     */
+    RubyShape addVariable(RubyID id) {
+        RubyShape shape = transitions_.get(id);
+        if (null != shape) {
+            return shape;
+        }
+
+        RubyID[] ids = new RubyID[ids_.length + 1];
+        System.arraycopy(ids_, 0, ids, 0, ids_.length);
+        ids[ids_.length] = id;
+        shape = new RubyShape(ids);
+
+        RubyShape existing = transitions_.putIfAbsent(id, shape);
+        return (null != existing) ? existing : shape;
+    }
+}
@@ -13,44 +13,7 @@ import com.xruby.runtime.builtin.RubyString;
 import java.util.HashMap;
 import java.util.Map;
 
-/*
-'return' inside a block will cause return in the method, for example:
-    def f
-        1.times {return 1}
-    end
-Or worse (compile-time undetectable):
-    def f block; block.call; print 'yyy'; end
-    def test_return2; a = Proc.new {return}; f a; end
-    test_return2
-
-so we need to check if this happend after each function call.
-
-As java does not support multiple return value, we made RubyValue
-subclass of BlockCallStatus. 	Should be replaced with a 'Context' object
-in the future.
-*/
-abstract class BlockCallStatus {
-    private boolean returned_in_block_ = false;
-    private boolean breaked_in_block_ = false;
-    private boolean do_not_allow_break_ = false;
-
-    public void setReturnedInBlock(boolean returned, boolean break_or_returned, boolean do_not_allow_break) {
-        returned_in_block_ = returned;
-        breaked_in_block_ = break_or_returned && !returned;//just breaked
-        do_not_allow_break_ = do_not_allow_break;
-    }
-
-    public boolean returnedInBlock() {
-        if (do_not_allow_break_ && breaked_in_block_) {
-            //TODO should check context!
-            throw new RubyException(RubyRuntime.LocalJumpErrorClass, "break from proc-closure");
-        }
-        return returned_in_block_;
-    }
-
-}
-
-public abstract class RubyValue extends BlockCallStatus implements Cloneable {
+public abstract class RubyValue implements Cloneable {
     private boolean frozen_ = false;
     private boolean taint_ = false;
     private static Map<RubyValue, Map<RubyID, RubyValue>> genericIvTbl;
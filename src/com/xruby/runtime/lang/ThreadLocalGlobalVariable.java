@@ -0,0 +1,23 @@
+/**
+ * Copyright 2005-2007 Xue Yong Zhi
+ * Distributed under the Apache License
+ */
+
+package com.xruby.runtime.lang;
+
+/**
+ * Per thread storage for the variables set by gets and regexp matching
+ * ($_, $~, $& and $1...), so threads do not see each other's values.
+ */
+class ThreadLocalGlobalVariable implements GlobalVariable {
+	private final ThreadLocal<RubyValue> v = new ThreadLocal<RubyValue>();
+
+	public RubyValue get() {
+		RubyValue value = v.get();
+		return (null != value) ? value : RubyConstant.QNIL;
+	}
+
+	public void set(RubyValue value) {
+		v.set(value);
+	}
+}
@@ -15,6 +15,7 @@ import com.xruby.compiler.XRubyClassLoader;
 import com.xruby.compiler.codegen.CgConfig;
 import com.xruby.compiler.codegen.CgUtil;
 import com.xruby.compiler.codegen.ClassDumper;
+import com.xruby.runtime.lang.RubyLazyMethod;
 import com.xruby.runtime.lang.RubyMethod;
 
 public class MethodFactory {
@@ -51,6 +52,35 @@ public class MethodFactory {
 		return loadMethod(name, type, singleton, block);
 	}
 	
+	/**
+	 * Used by the generated builders of builtin classes, the invoker class is
+	 * only generated when the method is called for the first time.
+	 */
+	public RubyMethod getLazyMethod(final String name, final MethodType type, final boolean singleton, final boolean block) {
+		if (ClassDumper.isEnabled()) {
+			//generate-method-classes wants every invoker
+			return loadMethod(name, type, singleton, block);
+		}
+		
+		return new RubyLazyMethod(getArgc(type)) {
+			protected RubyMethod createMethod() {
+				return loadMethod(name, type, singleton, block);
+			}
+		};
+	}
+	
+	private static int getArgc(MethodType type) {
+		if (type == MethodType.NO_ARG) {
+			return 0;
+		} else if (type == MethodType.ONE_ARG) {
+			return 1;
+		} else if (type == MethodType.TWO_ARG) {
+			return 2;
+		} else {
+			return -1;
+		}
+	}
+	
 	public RubyMethod getMethod(String name, MethodType type) {
 		return loadMethod(name, type, false, false);
 	}
@@ -67,7 +97,14 @@ public class MethodFactory {
 		return loadMethod(name, type, true, true);
 	} 
 
+	//synchronized as invokers may be created lazily by several threads
 	private RubyMethod loadMethod(String name, MethodType type, boolean singleton, boolean block) {
+		synchronized (MethodFactory.class) {
+			return newMethod(name, type, singleton, block);
+		}
+	}
+
+	private RubyMethod newMethod(String name, MethodType type, boolean singleton, boolean block) {
 		String invokerName = getInvokerName(name, block);
 		Class klass = tryClass(invokerName);
 		if (klass == null) {
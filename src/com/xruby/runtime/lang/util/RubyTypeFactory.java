@@ -435,8 +435,8 @@ private void makeGenneralItem(RubyLevelMethod annotation, CgMethodItem item) {
 		CgUtil.getMethod("getSingletonClass", Types.RUBY_CLASS_TYPE);
 	private static final Method RubyModuleAliasMethod = 
 		CgUtil.getMethod("aliasMethod", Type.VOID_TYPE, Type.getType(String.class), Type.getType(String.class));
-	private static final Method MethodFactoryGetMethodMethod = 
-		CgUtil.getMethod("getMethod", Types.RUBY_METHOD_TYPE, Type.getType(String.class), Type.getType(MethodType.class), Type.BOOLEAN_TYPE, Type.BOOLEAN_TYPE);
+	private static final Method MethodFactoryGetLazyMethodMethod = 
+		CgUtil.getMethod("getLazyMethod", Types.RUBY_METHOD_TYPE, Type.getType(String.class), Type.getType(MethodType.class), Type.BOOLEAN_TYPE, Type.BOOLEAN_TYPE);
 	private static final Method MethodFactoryCreateMethodFactory = 
 		CgUtil.getMethod("createMethodFactory", methodFactoryType, Type.getType(Class.class), Type.BOOLEAN_TYPE);
 	
@@ -485,7 +485,7 @@ private void makeGenneralItem(RubyLevelMethod annotation, CgMethodItem item) {
 		type.generateMethodType(mg);
 		mg.push(singleton);
 		mg.push(block);
-		mg.invokeVirtual(methodFactoryType, MethodFactoryGetMethodMethod);
+		mg.invokeVirtual(methodFactoryType, MethodFactoryGetLazyMethodMethod);
 	}
 
 	private void createMehtodFactory(GeneratorAdapter mg, Class klass) {
@@ -493,4 +493,4 @@ private void makeGenneralItem(RubyLevelMethod annotation, CgMethodItem item) {
 		mg.push(this.isModule());
 		mg.invokeStatic(methodFactoryType, MethodFactoryCreateMethodFactory);
 	}
-}
\ No newline at end of file
+}
\ No newline at end of file